@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import com.pacoworks.sealedunions.Union2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Looks up unions holding lists in a {@link HashMap}, where hashing the key walks the whole list
+ * unless the union keeps its hash code.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CachedHashBenchmark {
+    @Param
+    public Layout layout;
+
+    @Param({ "4", "64" })
+    public int length;
+
+    private Object[] keys;
+
+    private Map<Object, Integer> map;
+
+    @Setup
+    public void setUp() {
+        final Union2.Factory<List<Integer>, List<Integer>> factory = Unions
+                .doubletFactory(layout);
+        keys = new Object[Unions.SIZE];
+        map = new HashMap<>();
+        for (int index = 0; index < Unions.SIZE; index++) {
+            final List<Integer> list = new ArrayList<>(length);
+            for (int element = 0; element < length; element++) {
+                list.add(index + element);
+            }
+            keys[index] = index % 2 == 0 ? factory.first(list) : factory.second(list);
+            map.put(keys[index], index);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int get() {
+        int sum = 0;
+        for (Object key : keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+}
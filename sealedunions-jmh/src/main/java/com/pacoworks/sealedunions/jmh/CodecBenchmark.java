@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.codec.Codecs;
+import com.pacoworks.sealedunions.codec.Union4Codec;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+/**
+ * Writes unions holding an int, a long, a double or a short String and reads them back, either
+ * with a {@link Union4Codec} over a {@link ByteBuffer} or with Java serialization of the tag and
+ * the value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+    private final Union4.Factory<Integer, Long, Double, String> factory = GenericUnions
+            .quartetFactory();
+
+    private Union4Codec<Integer, Long, Double, String> codec;
+
+    private Union4<Integer, Long, Double, String>[] unions;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        codec = new Union4Codec<>(factory, Codecs.ints(), Codecs.longs(), Codecs.doubles(),
+                Codecs.strings());
+        final int[] sequence = Morphism.MEGAMORPHIC.sequence(Unions.VARIANTS_4, Unions.SIZE);
+        unions = new Union4[Unions.SIZE];
+        for (int index = 0; index < Unions.SIZE; index++) {
+            switch (sequence[index]) {
+                case 0:
+                    unions[index] = factory.first(index);
+                    break;
+                case 1:
+                    unions[index] = factory.second((long)index);
+                    break;
+                case 2:
+                    unions[index] = factory.third((double)index);
+                    break;
+                default:
+                    unions[index] = factory.fourth("union" + index);
+            }
+        }
+        buffer = ByteBuffer.allocateDirect(Unions.SIZE * 16);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void codec(Blackhole blackhole) {
+        buffer.clear();
+        for (Union4<Integer, Long, Double, String> union : unions) {
+            codec.encode(buffer, union);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            blackhole.consume(codec.decode(buffer));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void serialization(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(Unions.SIZE * 16);
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            for (Union4<Integer, Long, Double, String> union : unions) {
+                output.writeByte(Tagged.tagOf(union));
+                output.writeObject(union.join(first -> first, second -> second, third -> third,
+                        fourth -> fourth));
+            }
+        }
+        try (ObjectInputStream input = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (int index = 0; index < Unions.SIZE; index++) {
+                blackhole.consume(read(input.readByte(), input.readObject()));
+            }
+        }
+    }
+
+    private Union4<Integer, Long, Double, String> read(int tag, Object value) {
+        switch (tag) {
+            case 0:
+                return factory.first((Integer)value);
+            case 1:
+                return factory.second((Long)value);
+            case 2:
+                return factory.third((Double)value);
+            default:
+                return factory.fourth((String)value);
+        }
+    }
+}
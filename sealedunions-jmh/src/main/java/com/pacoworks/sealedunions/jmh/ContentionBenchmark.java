@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.concurrent.AtomicUnion2;
+
+/**
+ * Updates a union shared by 1 to 64 threads, either with a compare-and-set loop in an
+ * {@link AtomicUnion2} or inside a {@code synchronized} block. Every update flips the union to
+ * its other type.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+    private static final Union2.Factory<Integer, Integer> FACTORY = Unions
+            .doubletFactory(Layout.TAGGED);
+
+    private static final Union2.Matcher<Integer, Integer, Union2<Integer, Integer>> FLIP =
+            Union2.Matcher.of(first -> FACTORY.second(first), second -> FACTORY.first(second));
+
+    private final Object lock = new Object();
+
+    private AtomicUnion2<Integer, Integer> atomic;
+
+    private Union2<Integer, Integer> locked;
+
+    @Setup
+    public void setUp() {
+        atomic = new AtomicUnion2<>(FACTORY.first(Unions.VALUE));
+        locked = FACTORY.first(Unions.VALUE);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Union2<Integer, Integer> atomic1() {
+        return atomic.updateAndGet(FLIP);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Union2<Integer, Integer> locked1() {
+        synchronized (lock) {
+            locked = locked.join(FLIP);
+            return locked;
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Union2<Integer, Integer> atomic4() {
+        return atomic.updateAndGet(FLIP);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Union2<Integer, Integer> locked4() {
+        synchronized (lock) {
+            locked = locked.join(FLIP);
+            return locked;
+        }
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Union2<Integer, Integer> atomic16() {
+        return atomic.updateAndGet(FLIP);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Union2<Integer, Integer> locked16() {
+        synchronized (lock) {
+            locked = locked.join(FLIP);
+            return locked;
+        }
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Union2<Integer, Integer> atomic64() {
+        return atomic.updateAndGet(FLIP);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Union2<Integer, Integer> locked64() {
+        synchronized (lock) {
+            locked = locked.join(FLIP);
+            return locked;
+        }
+    }
+}
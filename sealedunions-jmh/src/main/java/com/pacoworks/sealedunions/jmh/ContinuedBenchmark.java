@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Measures continued on every arity. The continuations are created once per trial and fold the
+ * values into a field, so the only work left in the loop is the dispatch itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContinuedBenchmark {
+    @Param
+    public Layout layout;
+
+    @Param
+    public Morphism morphism;
+
+    private Union0<Integer>[] unions0;
+
+    private Union1<Integer>[] unions1;
+
+    private Union2<Integer, Integer>[] unions2;
+
+    private Union3<Integer, Integer, Integer>[] unions3;
+
+    private Union4<Integer, Integer, Integer, Integer>[] unions4;
+
+    private Union5<Integer, Integer, Integer, Integer, Integer>[] unions5;
+
+    private Union6<Integer, Integer, Integer, Integer, Integer, Integer>[] unions6;
+
+    private Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions7;
+
+    private Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions8;
+
+    private Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions9;
+
+    private int sink;
+
+    private Consumer<Integer> continueFirst;
+
+    private Consumer<Integer> continueSecond;
+
+    private Consumer<Integer> continueThird;
+
+    private Consumer<Integer> continueFourth;
+
+    private Consumer<Integer> continueFifth;
+
+    private Consumer<Integer> continueSixth;
+
+    private Consumer<Integer> continueSeventh;
+
+    private Consumer<Integer> continueEighth;
+
+    private Consumer<Integer> continueNinth;
+
+    private Runnable continueNone;
+
+    @Setup
+    public void setUp() {
+        unions0 = Unions.unions0(layout, morphism);
+        unions1 = Unions.unions1(layout, morphism);
+        unions2 = Unions.unions2(layout, morphism);
+        unions3 = Unions.unions3(layout, morphism);
+        unions4 = Unions.unions4(layout, morphism);
+        unions5 = Unions.unions5(layout, morphism);
+        unions6 = Unions.unions6(layout, morphism);
+        unions7 = Unions.unions7(layout, morphism);
+        unions8 = Unions.unions8(layout, morphism);
+        unions9 = Unions.unions9(layout, morphism);
+        continueFirst = value -> sink += value;
+        continueSecond = value -> sink += value;
+        continueThird = value -> sink += value;
+        continueFourth = value -> sink += value;
+        continueFifth = value -> sink += value;
+        continueSixth = value -> sink += value;
+        continueSeventh = value -> sink += value;
+        continueEighth = value -> sink += value;
+        continueNinth = value -> sink += value;
+        continueNone = () -> sink++;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued0() {
+        for (Union0<Integer> union : unions0) {
+            union.continued(continueFirst);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued1() {
+        for (Union1<Integer> union : unions1) {
+            union.continued(continueFirst, continueNone);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued2() {
+        for (Union2<Integer, Integer> union : unions2) {
+            union.continued(continueFirst, continueSecond);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued3() {
+        for (Union3<Integer, Integer, Integer> union : unions3) {
+            union.continued(continueFirst, continueSecond, continueThird);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued4() {
+        for (Union4<Integer, Integer, Integer, Integer> union : unions4) {
+            union.continued(continueFirst, continueSecond, continueThird, continueFourth);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued5() {
+        for (Union5<Integer, Integer, Integer, Integer, Integer> union : unions5) {
+            union.continued(continueFirst, continueSecond, continueThird, continueFourth,
+                    continueFifth);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued6() {
+        for (Union6<Integer, Integer, Integer, Integer, Integer, Integer> union : unions6) {
+            union.continued(continueFirst, continueSecond, continueThird, continueFourth,
+                    continueFifth, continueSixth);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued7() {
+        for (Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> union : unions7) {
+            union.continued(continueFirst, continueSecond, continueThird, continueFourth,
+                    continueFifth, continueSixth, continueSeventh);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued8() {
+        for (Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union : unions8) {
+            union.continued(continueFirst, continueSecond, continueThird, continueFourth,
+                    continueFifth, continueSixth, continueSeventh, continueEighth);
+        }
+        return sink;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int continued9() {
+        for (Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union : unions9) {
+            union.continued(continueFirst, continueSecond, continueThird, continueFourth,
+                    continueFifth, continueSixth, continueSeventh, continueEighth, continueNinth);
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Measures the cost of creating a union through its factory, including fetching the factory
+ * on every call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreationBenchmark {
+    @Param
+    public Layout layout;
+
+    @Param
+    public Morphism morphism;
+
+    private int[] sequence0;
+
+    private int[] sequence1;
+
+    private int[] sequence2;
+
+    private int[] sequence3;
+
+    private int[] sequence4;
+
+    private int[] sequence5;
+
+    private int[] sequence6;
+
+    private int[] sequence7;
+
+    private int[] sequence8;
+
+    private int[] sequence9;
+
+    @Setup
+    public void setUp() {
+        sequence0 = morphism.sequence(Unions.VARIANTS_0, Unions.SIZE);
+        sequence1 = morphism.sequence(Unions.VARIANTS_1, Unions.SIZE);
+        sequence2 = morphism.sequence(Unions.VARIANTS_2, Unions.SIZE);
+        sequence3 = morphism.sequence(Unions.VARIANTS_3, Unions.SIZE);
+        sequence4 = morphism.sequence(Unions.VARIANTS_4, Unions.SIZE);
+        sequence5 = morphism.sequence(Unions.VARIANTS_5, Unions.SIZE);
+        sequence6 = morphism.sequence(Unions.VARIANTS_6, Unions.SIZE);
+        sequence7 = morphism.sequence(Unions.VARIANTS_7, Unions.SIZE);
+        sequence8 = morphism.sequence(Unions.VARIANTS_8, Unions.SIZE);
+        sequence9 = morphism.sequence(Unions.VARIANTS_9, Unions.SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create0(Blackhole blackhole) {
+        for (int variant : sequence0) {
+            blackhole.consume(Unions.union0(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create1(Blackhole blackhole) {
+        for (int variant : sequence1) {
+            blackhole.consume(Unions.union1(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create2(Blackhole blackhole) {
+        for (int variant : sequence2) {
+            blackhole.consume(Unions.union2(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create3(Blackhole blackhole) {
+        for (int variant : sequence3) {
+            blackhole.consume(Unions.union3(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create4(Blackhole blackhole) {
+        for (int variant : sequence4) {
+            blackhole.consume(Unions.union4(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create5(Blackhole blackhole) {
+        for (int variant : sequence5) {
+            blackhole.consume(Unions.union5(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create6(Blackhole blackhole) {
+        for (int variant : sequence6) {
+            blackhole.consume(Unions.union6(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create7(Blackhole blackhole) {
+        for (int variant : sequence7) {
+            blackhole.consume(Unions.union7(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create8(Blackhole blackhole) {
+        for (int variant : sequence8) {
+            blackhole.consume(Unions.union8(layout, variant, Unions.VALUE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void create9(Blackhole blackhole) {
+        for (int variant : sequence9) {
+            blackhole.consume(Unions.union9(layout, variant, Unions.VALUE));
+        }
+    }
+}
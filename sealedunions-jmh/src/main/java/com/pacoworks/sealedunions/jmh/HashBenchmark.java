@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Uses unions as {@link HashMap} keys where every value is held by all nine variants, which used
+ * to produce the same hash for all of them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HashBenchmark {
+    @Param
+    public Layout layout;
+
+    private Object[] keys;
+
+    private Map<Object, Integer> map;
+
+    @Setup
+    public void setUp() {
+        keys = new Object[Unions.SIZE];
+        map = new HashMap<>();
+        for (int index = 0; index < Unions.SIZE; index++) {
+            keys[index] = Unions.union9(layout, index % Unions.VARIANTS_9,
+                    index / Unions.VARIANTS_9);
+            map.put(keys[index], index);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int get() {
+        int sum = 0;
+        for (Object key : keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public Map<Object, Integer> put() {
+        final Map<Object, Integer> result = new HashMap<>();
+        for (int index = 0; index < keys.length; index++) {
+            result.put(keys[index], index);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+import com.pacoworks.sealedunions.generic.InterningUnions;
+
+/**
+ * Creates unions of marker values carrying no data, like the states of a state machine, either
+ * allocating a new union every time, looking the canonical one up in an interning factory, or
+ * reading it from a static field.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterningBenchmark {
+    private static final Marker FIRST = new Marker();
+
+    private static final Marker SECOND = new Marker();
+
+    private static final Marker THIRD = new Marker();
+
+    private static final Marker FOURTH = new Marker();
+
+    private static final Union4.Factory<Marker, Marker, Marker, Marker> GENERIC = GenericUnions
+            .quartetFactory();
+
+    private static final InterningUnions.QuartetFactory<Marker, Marker, Marker, Marker> INTERNING =
+            InterningUnions.quartetFactory();
+
+    private static final Union4<Marker, Marker, Marker, Marker> INTERNED_FIRST = INTERNING
+            .intern(INTERNING.first(FIRST));
+
+    private static final Union4<Marker, Marker, Marker, Marker> INTERNED_SECOND = INTERNING
+            .intern(INTERNING.second(SECOND));
+
+    private static final Union4<Marker, Marker, Marker, Marker> INTERNED_THIRD = INTERNING
+            .intern(INTERNING.third(THIRD));
+
+    private static final Union4<Marker, Marker, Marker, Marker> INTERNED_FOURTH = INTERNING
+            .intern(INTERNING.fourth(FOURTH));
+
+    private int[] sequence;
+
+    @Setup
+    public void setUp() {
+        sequence = Morphism.MEGAMORPHIC.sequence(Unions.VARIANTS_4, Unions.SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void allocated(Blackhole blackhole) {
+        for (int variant : sequence) {
+            blackhole.consume(create(GENERIC, variant));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void lookedUp(Blackhole blackhole) {
+        for (int variant : sequence) {
+            blackhole.consume(create(INTERNING, variant));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void constant(Blackhole blackhole) {
+        for (int variant : sequence) {
+            switch (variant) {
+                case 0:
+                    blackhole.consume(INTERNED_FIRST);
+                    break;
+                case 1:
+                    blackhole.consume(INTERNED_SECOND);
+                    break;
+                case 2:
+                    blackhole.consume(INTERNED_THIRD);
+                    break;
+                default:
+                    blackhole.consume(INTERNED_FOURTH);
+            }
+        }
+    }
+
+    private static Union4<Marker, Marker, Marker, Marker> create(
+            Union4.Factory<Marker, Marker, Marker, Marker> factory, int variant) {
+        switch (variant) {
+            case 0:
+                return factory.first(FIRST);
+            case 1:
+                return factory.second(SECOND);
+            case 2:
+                return factory.third(THIRD);
+            default:
+                return factory.fourth(FOURTH);
+        }
+    }
+
+    private static final class Marker {
+    }
+}
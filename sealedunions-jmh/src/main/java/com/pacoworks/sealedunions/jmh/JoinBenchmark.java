@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Measures join on every arity. Each benchmark method owns its call site, and the forked JVM per
+ * {@link Morphism} keeps the type profiles of the different runs apart.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JoinBenchmark {
+    private static final Function<Integer, Integer> MAP_FIRST = value -> value;
+
+    private static final Function<Integer, Integer> MAP_SECOND = value -> value;
+
+    private static final Function<Integer, Integer> MAP_THIRD = value -> value;
+
+    private static final Function<Integer, Integer> MAP_FOURTH = value -> value;
+
+    private static final Function<Integer, Integer> MAP_FIFTH = value -> value;
+
+    private static final Function<Integer, Integer> MAP_SIXTH = value -> value;
+
+    private static final Function<Integer, Integer> MAP_SEVENTH = value -> value;
+
+    private static final Function<Integer, Integer> MAP_EIGHTH = value -> value;
+
+    private static final Function<Integer, Integer> MAP_NINTH = value -> value;
+
+    private static final Supplier<Integer> MAP_NONE = () -> Unions.VALUE;
+
+    @Param
+    public Layout layout;
+
+    @Param
+    public Morphism morphism;
+
+    private Union0<Integer>[] unions0;
+
+    private Union1<Integer>[] unions1;
+
+    private Union2<Integer, Integer>[] unions2;
+
+    private Union3<Integer, Integer, Integer>[] unions3;
+
+    private Union4<Integer, Integer, Integer, Integer>[] unions4;
+
+    private Union5<Integer, Integer, Integer, Integer, Integer>[] unions5;
+
+    private Union6<Integer, Integer, Integer, Integer, Integer, Integer>[] unions6;
+
+    private Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions7;
+
+    private Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions8;
+
+    private Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions9;
+
+    @Setup
+    public void setUp() {
+        unions0 = Unions.unions0(layout, morphism);
+        unions1 = Unions.unions1(layout, morphism);
+        unions2 = Unions.unions2(layout, morphism);
+        unions3 = Unions.unions3(layout, morphism);
+        unions4 = Unions.unions4(layout, morphism);
+        unions5 = Unions.unions5(layout, morphism);
+        unions6 = Unions.unions6(layout, morphism);
+        unions7 = Unions.unions7(layout, morphism);
+        unions8 = Unions.unions8(layout, morphism);
+        unions9 = Unions.unions9(layout, morphism);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join0(Blackhole blackhole) {
+        for (Union0<Integer> union : unions0) {
+            blackhole.consume(union.join(MAP_FIRST));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join1(Blackhole blackhole) {
+        for (Union1<Integer> union : unions1) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_NONE));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join2(Blackhole blackhole) {
+        for (Union2<Integer, Integer> union : unions2) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join3(Blackhole blackhole) {
+        for (Union3<Integer, Integer, Integer> union : unions3) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join4(Blackhole blackhole) {
+        for (Union4<Integer, Integer, Integer, Integer> union : unions4) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD, MAP_FOURTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join5(Blackhole blackhole) {
+        for (Union5<Integer, Integer, Integer, Integer, Integer> union : unions5) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD, MAP_FOURTH, MAP_FIFTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join6(Blackhole blackhole) {
+        for (Union6<Integer, Integer, Integer, Integer, Integer, Integer> union : unions6) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD, MAP_FOURTH, MAP_FIFTH,
+                    MAP_SIXTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join7(Blackhole blackhole) {
+        for (Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> union : unions7) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD, MAP_FOURTH, MAP_FIFTH,
+                    MAP_SIXTH, MAP_SEVENTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join8(Blackhole blackhole) {
+        for (Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union : unions8) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD, MAP_FOURTH, MAP_FIFTH,
+                    MAP_SIXTH, MAP_SEVENTH, MAP_EIGHTH));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void join9(Blackhole blackhole) {
+        for (Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union : unions9) {
+            blackhole.consume(union.join(MAP_FIRST, MAP_SECOND, MAP_THIRD, MAP_FOURTH, MAP_FIFTH,
+                    MAP_SIXTH, MAP_SEVENTH, MAP_EIGHTH, MAP_NINTH));
+        }
+    }
+}
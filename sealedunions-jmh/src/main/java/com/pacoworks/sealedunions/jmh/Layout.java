@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+/**
+ * Union implementation a benchmark runs against
+ */
+public enum Layout {
+    /**
+     * One class per variant, from {@link com.pacoworks.sealedunions.generic.GenericUnions}
+     */
+    GENERIC,
+    /**
+     * One class per arity dispatching on a tag, from
+     * {@link com.pacoworks.sealedunions.generic.TaggedUnions}
+     */
+    TAGGED,
+    /**
+     * Tagged unions caching their hash code, from
+     * {@link com.pacoworks.sealedunions.generic.CachedHashUnions}
+     */
+    CACHED_HASH
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.generic.LazyUnions;
+import com.pacoworks.sealedunions.generic.TaggedUnions;
+
+/**
+ * Creates {@link Unions#SIZE} unions holding a value that is expensive to compute and joins a
+ * percentage of them, computing every value up front with {@link TaggedUnions} or on demand with
+ * {@link LazyUnions}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyBenchmark {
+    @Param({ "10", "100" })
+    public int joinedPercent;
+
+    private final Union2.Factory<Integer, String> eagerFactory = TaggedUnions.doubletFactory();
+
+    private final LazyUnions.DoubletFactory<Integer, String> lazyFactory = LazyUnions
+            .doubletFactory();
+
+    @Benchmark
+    public int eager() {
+        int sum = 0;
+        for (int index = 0; index < Unions.SIZE; index++) {
+            final Union2<Integer, String> union = eagerFactory.second(expensive(index));
+            if (index % 100 < joinedPercent) {
+                sum += union.joinToInt(first -> first, String::length);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int lazy() {
+        int sum = 0;
+        for (int index = 0; index < Unions.SIZE; index++) {
+            final int value = index;
+            final Union2<Integer, String> union = lazyFactory.lazySecond(() -> expensive(value));
+            if (index % 100 < joinedPercent) {
+                sum += union.joinToInt(first -> first, String::length);
+            }
+        }
+        return sum;
+    }
+
+    private static String expensive(int value) {
+        final StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < 16; index++) {
+            builder.append(Integer.toHexString(value * 31 + index));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.codec.Codecs;
+import com.pacoworks.sealedunions.codec.Union4Codec;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+import com.pacoworks.sealedunions.log.UnionLog;
+
+/**
+ * Appends unions holding an int, a long, a double or a short String to a {@link UnionLog}, forcing
+ * the file to disk on every record or once every 1000, and replays a log of {@link Unions#SIZE}
+ * records.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogBenchmark {
+    @Param({ "1", "1000" })
+    public int syncInterval;
+
+    private final Union4.Factory<Integer, Long, Double, String> factory = GenericUnions
+            .quartetFactory();
+
+    private Union4<Integer, Long, Double, String>[] unions;
+
+    private Path path;
+
+    private UnionLog<Union4<Integer, Long, Double, String>> log;
+
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        final int[] sequence = Morphism.MEGAMORPHIC.sequence(Unions.VARIANTS_4, Unions.SIZE);
+        unions = new Union4[Unions.SIZE];
+        for (int index = 0; index < Unions.SIZE; index++) {
+            switch (sequence[index]) {
+                case 0:
+                    unions[index] = factory.first(index);
+                    break;
+                case 1:
+                    unions[index] = factory.second((long)index);
+                    break;
+                case 2:
+                    unions[index] = factory.third((double)index);
+                    break;
+                default:
+                    unions[index] = factory.fourth("union" + index);
+            }
+        }
+        path = Files.createTempFile("unions", ".log");
+        log = UnionLog.open(path, new Union4Codec<>(factory, Codecs.ints(), Codecs.longs(),
+                Codecs.doubles(), Codecs.strings()), syncInterval);
+        for (Union4<Integer, Long, Double, String> union : unions) {
+            log.append(union);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        log.close();
+        Files.delete(path);
+    }
+
+    @Benchmark
+    public int append() throws IOException {
+        next = (next + 1) % Unions.SIZE;
+        return log.append(unions[next]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int replay(Blackhole blackhole) {
+        return log.replay(0, blackhole::consume);
+    }
+}
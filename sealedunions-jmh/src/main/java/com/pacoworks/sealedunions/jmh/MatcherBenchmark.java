@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Compares joining with lambdas built on every call against a {@link Union4.Matcher} built once,
+ * and against non-capturing lambdas receiving their state through the context-passing join. The
+ * capturing lambdas read a field the same way {@code TennisGame} captures the scoring player.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatcherBenchmark {
+    @Param
+    public Layout layout;
+
+    @Param
+    public Morphism morphism;
+
+    public int offset = 1;
+
+    private Union4<Integer, Integer, Integer, Integer>[] unions;
+
+    private Union4.Matcher<Integer, Integer, Integer, Integer, Integer> matcher;
+
+    @Setup
+    public void setUp() {
+        unions = Unions.unions4(layout, morphism);
+        matcher = Union4.Matcher.of(first -> first + offset, second -> second - offset,
+                third -> third * offset, fourth -> fourth / offset);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void capturingLambdas(Blackhole blackhole) {
+        for (Union4<Integer, Integer, Integer, Integer> union : unions) {
+            blackhole.consume(union.<Integer> join(first -> first + offset,
+                    second -> second - offset, third -> third * offset, fourth -> fourth / offset));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void matcher(Blackhole blackhole) {
+        for (Union4<Integer, Integer, Integer, Integer> union : unions) {
+            blackhole.consume(matcher.apply(union));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public void contextLambdas(Blackhole blackhole) {
+        for (Union4<Integer, Integer, Integer, Integer> union : unions) {
+            blackhole.consume(union.<MatcherBenchmark, Integer> join(this,
+                    (state, first) -> first + state.offset,
+                    (state, second) -> second - state.offset,
+                    (state, third) -> third * state.offset,
+                    (state, fourth) -> fourth / state.offset));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.Random;
+
+/**
+ * Shape of the call site profile seen by a benchmark: how many distinct variants, and thus how
+ * many implementation classes, reach the same join or continued call.
+ * <p>
+ * Unions with fewer variants than requested are clamped, so Union0 is always monomorphic and
+ * Union1 is at most bimorphic.
+ */
+public enum Morphism {
+    MONOMORPHIC(1),
+    BIMORPHIC(2),
+    MEGAMORPHIC(Integer.MAX_VALUE);
+
+    private static final long SEED = 0x5EED;
+
+    private final int variants;
+
+    Morphism(int variants) {
+        this.variants = variants;
+    }
+
+    /**
+     * Number of distinct variants a union of the given amount of variants will use
+     */
+    public int variants(int available) {
+        return Math.min(variants, available);
+    }
+
+    /**
+     * Creates a shuffled sequence of variant indexes where every variant appears the same number
+     * of times, so the branch predictor cannot learn a round-robin pattern
+     *
+     * @param available variants in the union
+     * @param size length of the sequence
+     * @return variant indexes in the range [0, variants(available))
+     */
+    public int[] sequence(int available, int size) {
+        final int used = variants(available);
+        final int[] sequence = new int[size];
+        for (int i = 0; i < size; i++) {
+            sequence[i] = i % used;
+        }
+        final Random random = new Random(SEED);
+        for (int i = size - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int swap = sequence[i];
+            sequence[i] = sequence[j];
+            sequence[j] = swap;
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.collections.UnionArrays;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+/**
+ * Maps a million unions holding an int, a long or a String to their hash, sequentially, with a
+ * parallel stream, and with {@link UnionArrays#parallelJoin}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelJoinBenchmark {
+    private static final int SIZE = 1 << 20;
+
+    private static final Function<Integer, Integer> FIRST = value -> value * 31;
+
+    private static final Function<Long, Integer> SECOND = value -> Long.hashCode(value);
+
+    private static final Function<String, Integer> THIRD = String::hashCode;
+
+    private Union3<Integer, Long, String>[] unions;
+
+    private Integer[] out;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final Union3.Factory<Integer, Long, String> factory = GenericUnions.tripletFactory();
+        final int[] sequence = Morphism.MEGAMORPHIC.sequence(Unions.VARIANTS_3, SIZE);
+        unions = new Union3[SIZE];
+        for (int index = 0; index < SIZE; index++) {
+            switch (sequence[index]) {
+                case 0:
+                    unions[index] = factory.first(index);
+                    break;
+                case 1:
+                    unions[index] = factory.second((long)index);
+                    break;
+                default:
+                    unions[index] = factory.third("union" + index);
+            }
+        }
+        out = new Integer[SIZE];
+    }
+
+    @Benchmark
+    public Integer[] sequential() {
+        for (int index = 0; index < unions.length; index++) {
+            out[index] = unions[index].join(FIRST, SECOND, THIRD);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Integer[] stream() {
+        return Arrays.stream(unions).parallel().map(union -> union.join(FIRST, SECOND, THIRD))
+                .toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    public Integer[] parallelJoin() {
+        UnionArrays.parallelJoin(unions, out, FIRST, SECOND, THIRD);
+        return out;
+    }
+}
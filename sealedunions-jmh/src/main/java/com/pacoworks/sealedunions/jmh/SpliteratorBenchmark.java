@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.collections.UnionSpliterator;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+/**
+ * Sums a million unions grouped by variant with a parallel stream, splitting the list with its own
+ * spliterator or with a {@link UnionSpliterator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpliteratorBenchmark {
+    private static final int SIZE = 1 << 20;
+
+    private static final ToLongFunction<Integer> FIRST = value -> value;
+
+    private static final ToLongFunction<Long> SECOND = value -> value;
+
+    private static final ToLongFunction<String> THIRD = String::length;
+
+    private List<Union3<Integer, Long, String>> unions;
+
+    @Setup
+    public void setUp() {
+        final Union3.Factory<Integer, Long, String> factory = GenericUnions.tripletFactory();
+        unions = new ArrayList<>(SIZE);
+        for (int index = 0; index < SIZE; index++) {
+            switch (3 * index / SIZE) {
+                case 0:
+                    unions.add(factory.first(index));
+                    break;
+                case 1:
+                    unions.add(factory.second((long)index));
+                    break;
+                default:
+                    unions.add(factory.third("union" + index));
+            }
+        }
+    }
+
+    @Benchmark
+    public long list() {
+        return unions.parallelStream()
+                .mapToLong(union -> union.joinToLong(FIRST, SECOND, THIRD))
+                .sum();
+    }
+
+    @Benchmark
+    public long variants() {
+        return StreamSupport.stream(UnionSpliterator.of(unions, Tagged::tagOf), true)
+                .mapToLong(union -> union.joinToLong(FIRST, SECOND, THIRD))
+                .sum();
+    }
+}
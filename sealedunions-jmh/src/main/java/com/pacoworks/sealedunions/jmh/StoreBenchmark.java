@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.collections.Union4Store;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+/**
+ * Sums the values of one variant out of {@link Unions#SIZE} unions holding an int, a long, a
+ * double or a String, either scanning a list and calling {@code joinToLong} on every element or
+ * reading the column of that variant in a {@link Union4Store}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StoreBenchmark {
+    private static final ToLongFunction<Integer> NONE_INT = value -> 0;
+
+    private static final ToLongFunction<Long> LONG = value -> value;
+
+    private static final ToLongFunction<Double> NONE_DOUBLE = value -> 0;
+
+    private static final ToLongFunction<String> NONE_STRING = value -> 0;
+
+    private final Union4.Factory<Integer, Long, Double, String> factory = GenericUnions
+            .quartetFactory();
+
+    private List<Union4<Integer, Long, Double, String>> list;
+
+    private Union4Store<Integer, Long, Double, String> store;
+
+    @Setup
+    public void setUp() {
+        final int[] sequence = Morphism.MEGAMORPHIC.sequence(Unions.VARIANTS_4, Unions.SIZE);
+        list = new ArrayList<>(Unions.SIZE);
+        store = new Union4Store<>(Unions.SIZE);
+        for (int index = 0; index < Unions.SIZE; index++) {
+            final Union4<Integer, Long, Double, String> union;
+            switch (sequence[index]) {
+                case 0:
+                    union = factory.first(index);
+                    break;
+                case 1:
+                    union = factory.second((long)index);
+                    break;
+                case 2:
+                    union = factory.third((double)index);
+                    break;
+                default:
+                    union = factory.fourth("union" + index);
+            }
+            list.add(union);
+            store.add(union);
+        }
+    }
+
+    @Benchmark
+    public long scan() {
+        long sum = 0;
+        for (Union4<Integer, Long, Double, String> union : list) {
+            sum += union.joinToLong(NONE_INT, LONG, NONE_DOUBLE, NONE_STRING);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long store() {
+        long sum = 0;
+        for (Long value : store.seconds()) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Builds a histogram of the variants held by an array of unions, reading the position of each
+ * variant with a join against reading it from {@link Tagged}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TagBenchmark {
+    @Param
+    public Layout layout;
+
+    @Param
+    public Morphism morphism;
+
+    private Union4<Integer, Integer, Integer, Integer>[] unions;
+
+    private final int[] histogram = new int[Unions.VARIANTS_4];
+
+    @Setup
+    public void setUp() {
+        unions = Unions.unions4(layout, morphism);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int[] joinToInt() {
+        final int[] counts = histogram;
+        for (Union4<Integer, Integer, Integer, Integer> union : unions) {
+            counts[union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3)]++;
+        }
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public int[] tag() {
+        final int[] counts = histogram;
+        for (Union4<Integer, Integer, Integer, Integer> union : unions) {
+            counts[((Tagged)union).tag()]++;
+        }
+        return counts;
+    }
+}
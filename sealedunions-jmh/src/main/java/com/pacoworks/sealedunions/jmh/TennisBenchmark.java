@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.collections.StateTable;
+import com.pacoworks.sealedunions.generic.TaggedUnions;
+
+/**
+ * Plays 10M random tennis points, either scoring every point with {@link #scorePoint} or stepping
+ * through a {@link StateTable} explored once from the same game. The score of a game is a union of
+ * value classes, so the table finds its 20 states through equals.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TennisBenchmark {
+    private static final int POINTS = 10_000_000;
+
+    private static final long SEED = 0x5EED;
+
+    private static final Union4.Factory<Points, Advantage, Deuce, Game> SCORES = TaggedUnions
+            .quartetFactory();
+
+    private static final Union4<Points, Advantage, Deuce, Game> START = SCORES
+            .first(new Points(0, 0));
+
+    private static final Union4<Points, Advantage, Deuce, Game> DEUCE = SCORES
+            .third(new Deuce());
+
+    private int[] points;
+
+    private StateTable<Union4<Points, Advantage, Deuce, Game>, Integer> table;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        points = new int[POINTS];
+        for (int point = 0; point < POINTS; point++) {
+            points[point] = random.nextInt(2);
+        }
+        table = StateTable.explore(START, Arrays.asList(0, 1), TennisBenchmark::scorePoint);
+    }
+
+    @Benchmark
+    public Union4<Points, Advantage, Deuce, Game> unions() {
+        Union4<Points, Advantage, Deuce, Game> score = START;
+        for (int player : points) {
+            score = scorePoint(score, player);
+        }
+        return score;
+    }
+
+    @Benchmark
+    public int stateTable() {
+        return table.run(StateTable.INITIAL, points);
+    }
+
+    static Union4<Points, Advantage, Deuce, Game> scorePoint(
+            Union4<Points, Advantage, Deuce, Game> score, int player) {
+        return score.join(player,
+                (scorer, points) -> points.score(scorer),
+                (scorer, advantage) -> advantage.player == scorer ? SCORES.fourth(new Game(scorer))
+                        : DEUCE,
+                (scorer, deuce) -> SCORES.second(new Advantage(scorer)),
+                (scorer, game) -> SCORES.first(scorer == 0 ? new Points(1, 0) : new Points(0, 1)));
+    }
+
+    /* Points won by each player in the current game, 3 meaning forty */
+    static final class Points {
+        final int one;
+
+        final int two;
+
+        Points(int one, int two) {
+            this.one = one;
+            this.two = two;
+        }
+
+        Union4<Points, Advantage, Deuce, Game> score(int player) {
+            final int scorer = player == 0 ? one : two;
+            final int other = player == 0 ? two : one;
+            if (scorer == 3) {
+                return SCORES.fourth(new Game(player));
+            } else if (scorer == 2 && other == 3) {
+                return DEUCE;
+            } else {
+                return SCORES.first(player == 0 ? new Points(one + 1, two)
+                        : new Points(one, two + 1));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Points && ((Points)o).one == one && ((Points)o).two == two;
+        }
+
+        @Override
+        public int hashCode() {
+            return one * 4 + two;
+        }
+    }
+
+    static final class Advantage {
+        final int player;
+
+        Advantage(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Advantage && ((Advantage)o).player == player;
+        }
+
+        @Override
+        public int hashCode() {
+            return player;
+        }
+    }
+
+    static final class Deuce {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Deuce;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    static final class Game {
+        final int player;
+
+        Game(int player) {
+            this.player = player;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Game && ((Game)o).player == player;
+        }
+
+        @Override
+        public int hashCode() {
+            return player;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import com.pacoworks.sealedunions.*;
+import com.pacoworks.sealedunions.generic.CachedHashUnions;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+import com.pacoworks.sealedunions.generic.TaggedUnions;
+
+/**
+ * Builds the unions used by the benchmarks, going through the factories on every call the same way
+ * application code does
+ */
+final class Unions {
+    static final int SIZE = 1024;
+
+    static final Integer VALUE = 42;
+
+    static final int VARIANTS_0 = 1;
+
+    static final int VARIANTS_1 = 2;
+
+    static final int VARIANTS_2 = 2;
+
+    static final int VARIANTS_3 = 3;
+
+    static final int VARIANTS_4 = 4;
+
+    static final int VARIANTS_5 = 5;
+
+    static final int VARIANTS_6 = 6;
+
+    static final int VARIANTS_7 = 7;
+
+    static final int VARIANTS_8 = 8;
+
+    static final int VARIANTS_9 = 9;
+
+    static <T> Union0.Factory<T> nulletFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.nulletFactory();
+            case TAGGED:
+                return TaggedUnions.nulletFactory();
+            default:
+                return CachedHashUnions.nulletFactory();
+        }
+    }
+
+    static <T> Union1.Factory<T> singletFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.singletFactory();
+            case TAGGED:
+                return TaggedUnions.singletFactory();
+            default:
+                return CachedHashUnions.singletFactory();
+        }
+    }
+
+    static <T> Union2.Factory<T, T> doubletFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.doubletFactory();
+            case TAGGED:
+                return TaggedUnions.doubletFactory();
+            default:
+                return CachedHashUnions.doubletFactory();
+        }
+    }
+
+    static <T> Union3.Factory<T, T, T> tripletFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.tripletFactory();
+            case TAGGED:
+                return TaggedUnions.tripletFactory();
+            default:
+                return CachedHashUnions.tripletFactory();
+        }
+    }
+
+    static <T> Union4.Factory<T, T, T, T> quartetFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.quartetFactory();
+            case TAGGED:
+                return TaggedUnions.quartetFactory();
+            default:
+                return CachedHashUnions.quartetFactory();
+        }
+    }
+
+    static <T> Union5.Factory<T, T, T, T, T> quintetFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.quintetFactory();
+            case TAGGED:
+                return TaggedUnions.quintetFactory();
+            default:
+                return CachedHashUnions.quintetFactory();
+        }
+    }
+
+    static <T> Union6.Factory<T, T, T, T, T, T> sextetFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.sextetFactory();
+            case TAGGED:
+                return TaggedUnions.sextetFactory();
+            default:
+                return CachedHashUnions.sextetFactory();
+        }
+    }
+
+    static <T> Union7.Factory<T, T, T, T, T, T, T> septetFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.septetFactory();
+            case TAGGED:
+                return TaggedUnions.septetFactory();
+            default:
+                return CachedHashUnions.septetFactory();
+        }
+    }
+
+    static <T> Union8.Factory<T, T, T, T, T, T, T, T> octetFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.octetFactory();
+            case TAGGED:
+                return TaggedUnions.octetFactory();
+            default:
+                return CachedHashUnions.octetFactory();
+        }
+    }
+
+    static <T> Union9.Factory<T, T, T, T, T, T, T, T, T> nonetFactory(Layout layout) {
+        switch (layout) {
+            case GENERIC:
+                return GenericUnions.nonetFactory();
+            case TAGGED:
+                return TaggedUnions.nonetFactory();
+            default:
+                return CachedHashUnions.nonetFactory();
+        }
+    }
+
+    static Union0<Integer> union0(Layout layout, int variant, Integer value) {
+        final Union0.Factory<Integer> factory = nulletFactory(layout);
+        return factory.first(value);
+    }
+
+    static Union1<Integer> union1(Layout layout, int variant, Integer value) {
+        final Union1.Factory<Integer> factory = singletFactory(layout);
+        return variant == 0 ? factory.first(value) : factory.none();
+    }
+
+    static Union2<Integer, Integer> union2(Layout layout, int variant, Integer value) {
+        final Union2.Factory<Integer, Integer> factory = doubletFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            default:
+                return factory.second(value);
+        }
+    }
+
+    static Union3<Integer, Integer, Integer> union3(Layout layout, int variant, Integer value) {
+        final Union3.Factory<Integer, Integer, Integer> factory = tripletFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            default:
+                return factory.third(value);
+        }
+    }
+
+    static Union4<Integer, Integer, Integer, Integer> union4(Layout layout, int variant, Integer value) {
+        final Union4.Factory<Integer, Integer, Integer, Integer> factory = quartetFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            case 2:
+                return factory.third(value);
+            default:
+                return factory.fourth(value);
+        }
+    }
+
+    static Union5<Integer, Integer, Integer, Integer, Integer> union5(Layout layout, int variant, Integer value) {
+        final Union5.Factory<Integer, Integer, Integer, Integer, Integer> factory =
+                quintetFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            case 2:
+                return factory.third(value);
+            case 3:
+                return factory.fourth(value);
+            default:
+                return factory.fifth(value);
+        }
+    }
+
+    static Union6<Integer, Integer, Integer, Integer, Integer, Integer> union6(Layout layout, int variant, Integer value) {
+        final Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> factory =
+                sextetFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            case 2:
+                return factory.third(value);
+            case 3:
+                return factory.fourth(value);
+            case 4:
+                return factory.fifth(value);
+            default:
+                return factory.sixth(value);
+        }
+    }
+
+    static Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer> union7(Layout layout, int variant, Integer value) {
+        final Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> factory =
+                septetFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            case 2:
+                return factory.third(value);
+            case 3:
+                return factory.fourth(value);
+            case 4:
+                return factory.fifth(value);
+            case 5:
+                return factory.sixth(value);
+            default:
+                return factory.seventh(value);
+        }
+    }
+
+    static Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union8(Layout layout, int variant, Integer value) {
+        final Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> factory =
+                octetFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            case 2:
+                return factory.third(value);
+            case 3:
+                return factory.fourth(value);
+            case 4:
+                return factory.fifth(value);
+            case 5:
+                return factory.sixth(value);
+            case 6:
+                return factory.seventh(value);
+            default:
+                return factory.eighth(value);
+        }
+    }
+
+    static Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union9(Layout layout, int variant, Integer value) {
+        final Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> factory =
+                nonetFactory(layout);
+        switch (variant) {
+            case 0:
+                return factory.first(value);
+            case 1:
+                return factory.second(value);
+            case 2:
+                return factory.third(value);
+            case 3:
+                return factory.fourth(value);
+            case 4:
+                return factory.fifth(value);
+            case 5:
+                return factory.sixth(value);
+            case 6:
+                return factory.seventh(value);
+            case 7:
+                return factory.eighth(value);
+            default:
+                return factory.ninth(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union0<Integer>[] unions0(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_0, SIZE);
+        final Union0<Integer>[] unions = new Union0[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union0(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union1<Integer>[] unions1(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_1, SIZE);
+        final Union1<Integer>[] unions = new Union1[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union1(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union2<Integer, Integer>[] unions2(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_2, SIZE);
+        final Union2<Integer, Integer>[] unions = new Union2[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union2(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union3<Integer, Integer, Integer>[] unions3(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_3, SIZE);
+        final Union3<Integer, Integer, Integer>[] unions = new Union3[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union3(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union4<Integer, Integer, Integer, Integer>[] unions4(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_4, SIZE);
+        final Union4<Integer, Integer, Integer, Integer>[] unions = new Union4[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union4(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union5<Integer, Integer, Integer, Integer, Integer>[] unions5(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_5, SIZE);
+        final Union5<Integer, Integer, Integer, Integer, Integer>[] unions = new Union5[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union5(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union6<Integer, Integer, Integer, Integer, Integer, Integer>[] unions6(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_6, SIZE);
+        final Union6<Integer, Integer, Integer, Integer, Integer, Integer>[] unions = new Union6[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union6(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions7(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_7, SIZE);
+        final Union7<Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions = new Union7[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union7(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions8(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_8, SIZE);
+        final Union8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions = new Union8[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union8(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    @SuppressWarnings("unchecked")
+    static Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions9(Layout layout, Morphism morphism) {
+        final int[] sequence = morphism.sequence(VARIANTS_9, SIZE);
+        final Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions = new Union9[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            unions[i] = union9(layout, sequence[i], VALUE);
+        }
+        return unions;
+    }
+
+    private Unions() {
+    }
+}
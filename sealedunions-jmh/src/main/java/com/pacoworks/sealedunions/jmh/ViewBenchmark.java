@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.jmh;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.codec.Codecs;
+import com.pacoworks.sealedunions.codec.Union4Codec;
+import com.pacoworks.sealedunions.codec.Union4View;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+/**
+ * Sums a buffer of encoded unions holding an int, a long, a double or a short String, either
+ * decoding every union with a {@link Union4Codec} or reading them in place with a single
+ * {@link Union4View}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViewBenchmark {
+    private static final ToLongFunction<Integer> INT = value -> value;
+
+    private static final ToLongFunction<Long> LONG = value -> value;
+
+    private static final ToLongFunction<Double> DOUBLE = value -> (long)(double)value;
+
+    private static final ToLongFunction<String> STRING = String::length;
+
+    private final Union4.Factory<Integer, Long, Double, String> factory = GenericUnions
+            .quartetFactory();
+
+    private Union4Codec<Integer, Long, Double, String> codec;
+
+    private Union4View<Integer, Long, Double, String> view;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        codec = new Union4Codec<>(factory, Codecs.ints(), Codecs.longs(), Codecs.doubles(),
+                Codecs.strings());
+        view = new Union4View<>(Codecs.ints(), Codecs.longs(), Codecs.doubles(),
+                Codecs.strings());
+        final int[] sequence = Morphism.MEGAMORPHIC.sequence(Unions.VARIANTS_4, Unions.SIZE);
+        buffer = ByteBuffer.allocateDirect(Unions.SIZE * 16);
+        for (int index = 0; index < Unions.SIZE; index++) {
+            switch (sequence[index]) {
+                case 0:
+                    codec.encode(buffer, factory.first(index));
+                    break;
+                case 1:
+                    codec.encode(buffer, factory.second((long)index));
+                    break;
+                case 2:
+                    codec.encode(buffer, factory.third((double)index));
+                    break;
+                default:
+                    codec.encode(buffer, factory.fourth("union" + index));
+            }
+        }
+        buffer.flip();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public long decode() {
+        final ByteBuffer input = buffer.duplicate();
+        long sum = 0;
+        while (input.hasRemaining()) {
+            sum += codec.decode(input).joinToLong(INT, LONG, DOUBLE, STRING);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Unions.SIZE)
+    public long view() {
+        long sum = 0;
+        for (int position = 0; position < buffer.limit(); position = view.next()) {
+            sum += view.wrap(buffer, position).joinToLong(INT, LONG, DOUBLE, STRING);
+        }
+        return sum;
+    }
+}
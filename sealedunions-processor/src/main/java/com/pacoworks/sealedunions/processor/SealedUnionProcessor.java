@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.processor;
+
+import com.pacoworks.sealedunions.annotations.SealedUnion;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates the implementation of every interface annotated with {@link SealedUnion}. See
+ * {@link SealedUnionWriter} for the shape of the generated class.
+ */
+public final class SealedUnionProcessor extends AbstractProcessor {
+    private static final String UNION_PACKAGE = "com.pacoworks.sealedunions";
+
+    private static final int MIN_ARITY = 2;
+
+    private static final int MAX_ARITY = 16;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(SealedUnion.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(SealedUnion.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@SealedUnion can only be applied to interfaces");
+                continue;
+            }
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                error(element, "@SealedUnion interfaces cannot be private");
+                continue;
+            }
+            final TypeElement type = (TypeElement)element;
+            final DeclaredType union = findUnion(type);
+            if (union == null) {
+                error(type, "@SealedUnion interfaces must directly extend one of Union%d to "
+                        + "Union%d", MIN_ARITY, MAX_ARITY);
+                continue;
+            }
+            if (hasUnimplementableMethods(type)) {
+                continue;
+            }
+            write(type, union);
+        }
+        return true;
+    }
+
+    private DeclaredType findUnion(TypeElement type) {
+        for (TypeMirror candidate : type.getInterfaces()) {
+            final DeclaredType declared = (DeclaredType)candidate;
+            final TypeElement element = (TypeElement)declared.asElement();
+            for (int arity = MIN_ARITY; arity <= MAX_ARITY; arity++) {
+                if (element.getQualifiedName().contentEquals(UNION_PACKAGE + ".Union" + arity)) {
+                    return declared;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean hasUnimplementableMethods(TypeElement type) {
+        boolean found = false;
+        for (ExecutableElement method : ElementFilter
+                .methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final Element owner = method.getEnclosingElement();
+            final boolean fromUnion = owner instanceof TypeElement && ((TypeElement)owner)
+                    .getQualifiedName().toString().startsWith(UNION_PACKAGE + ".Union");
+            if (method.getModifiers().contains(Modifier.ABSTRACT) && !fromUnion) {
+                error(type, "@SealedUnion interfaces cannot declare abstract methods, found %s",
+                        method.getSimpleName());
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private void write(TypeElement type, DeclaredType union) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type)
+                .getQualifiedName().toString();
+        final String className = className(type);
+        final List<String> variants = new ArrayList<>();
+        for (TypeMirror variant : union.getTypeArguments()) {
+            variants.add(variant.toString());
+        }
+        final List<String> typeParameters = new ArrayList<>();
+        final List<String> typeArguments = new ArrayList<>();
+        for (TypeParameterElement parameter : type.getTypeParameters()) {
+            typeArguments.add(parameter.getSimpleName().toString());
+            typeParameters.add(typeParameter(parameter));
+        }
+        final String source = new SealedUnionWriter(packageName, className,
+                type.getQualifiedName().toString(), type.getModifiers().contains(Modifier.PUBLIC),
+                typeParameters, typeArguments, variants).write();
+        final String qualifiedName = packageName.isEmpty() ? className
+                : packageName + "." + className;
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName,
+                    type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            error(type, "Could not write %s: %s", qualifiedName, e.getMessage());
+        }
+    }
+
+    private static String className(TypeElement type) {
+        final String name = type.getAnnotation(SealedUnion.class).name();
+        if (!name.isEmpty()) {
+            return name;
+        }
+        final StringBuilder builder = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement;
+                enclosing = enclosing.getEnclosingElement()) {
+            builder.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return builder.insert(0, "Sealed").toString();
+    }
+
+    private static String typeParameter(TypeParameterElement parameter) {
+        final StringBuilder builder = new StringBuilder(parameter.getSimpleName());
+        String separator = " extends ";
+        for (TypeMirror bound : parameter.getBounds()) {
+            if (!bound.toString().equals(Object.class.getName())) {
+                builder.append(separator).append(bound);
+                separator = " & ";
+            }
+        }
+        return builder.toString();
+    }
+
+    private void error(Element element, String message, Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                String.format(message, args), element);
+    }
+}
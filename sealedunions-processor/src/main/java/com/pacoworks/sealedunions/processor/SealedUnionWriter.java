@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes the source of a sealed union: a final class storing a byte tag next to the value, with a
+ * {@code switch} on the tag for every dispatch method, so dispatching allocates nothing and the
+ * call site only ever sees one class.
+ */
+final class SealedUnionWriter {
+    private static final String[] ORDINALS = {
+            "first", "second", "third", "fourth", "fifth", "sixth", "seventh", "eighth", "ninth",
+            "tenth", "eleventh", "twelfth", "thirteenth", "fourteenth", "fifteenth", "sixteenth"
+    };
+
+    private final String packageName;
+
+    private final String className;
+
+    private final String interfaceName;
+
+    private final boolean isPublic;
+
+    private final String typeParameters;
+
+    private final String typeArguments;
+
+    private final String wildcards;
+
+    private final List<String> variants;
+
+    private final String context;
+
+    private final String result;
+
+    private final StringBuilder out = new StringBuilder();
+
+    SealedUnionWriter(String packageName, String className, String interfaceName,
+            boolean isPublic, List<String> typeParameters, List<String> typeArguments,
+            List<String> variants) {
+        this.packageName = packageName;
+        this.className = className;
+        this.interfaceName = interfaceName;
+        this.isPublic = isPublic;
+        this.typeParameters = typeParameters.isEmpty() ? ""
+                : "<" + String.join(", ", typeParameters) + ">";
+        this.typeArguments = typeArguments.isEmpty() ? ""
+                : "<" + String.join(", ", typeArguments) + ">";
+        this.wildcards = typeArguments.isEmpty() ? ""
+                : "<" + String.join(", ", Collections.nCopies(typeArguments.size(), "?")) + ">";
+        this.variants = variants;
+        this.context = freshTypeVariable("C", typeArguments);
+        this.result = freshTypeVariable("R", typeArguments);
+    }
+
+    String write() {
+        if (!packageName.isEmpty()) {
+            line(0, "package %s;", packageName);
+            line(0, "");
+        }
+        line(0, "import com.pacoworks.sealedunions.Tagged;");
+        line(0, "import com.pacoworks.sealedunions.Union%d;", variants.size());
+        line(0, "");
+        for (String function : new String[] {
+                "BiConsumer", "BiFunction", "Consumer", "Function", "Predicate",
+                "ToDoubleFunction", "ToIntFunction", "ToLongFunction"
+        }) {
+            line(0, "import java.util.function.%s;", function);
+        }
+        line(0, "");
+        line(0, "/**");
+        line(0, " * Sealed implementation of {@link %s}, generated by sealedunions-processor",
+                interfaceName);
+        line(0, " */");
+        line(0, "%sfinal class %s%s implements %s%s, Tagged {", isPublic ? "public " : "",
+                className, typeParameters, interfaceName, typeArguments);
+        writeConstants();
+        writeFields();
+        writeFactories();
+        writeTag();
+        writeDispatch("void", "continued", "", "Consumer<%s> continuation%s",
+                "continuation%s.accept((%s)value);");
+        writeDispatch("<" + context + "> void", "continued", context + " context",
+                "BiConsumer<" + context + ", %s> continuation%s",
+                "continuation%s.accept(context, (%s)value);");
+        writeDispatch("<" + result + "> " + result, "join", "",
+                "Function<%s, " + result + "> map%s", "return map%s.apply((%s)value);");
+        writeMatcherDispatch();
+        writeDispatch("<" + context + ", " + result + "> " + result, "join", context + " context",
+                "BiFunction<" + context + ", %s, " + result + "> map%s",
+                "return map%s.apply(context, (%s)value);");
+        writeDispatch("int", "joinToInt", "", "ToIntFunction<%s> map%s",
+                "return map%s.applyAsInt((%s)value);");
+        writeDispatch("long", "joinToLong", "", "ToLongFunction<%s> map%s",
+                "return map%s.applyAsLong((%s)value);");
+        writeDispatch("double", "joinToDouble", "", "ToDoubleFunction<%s> map%s",
+                "return map%s.applyAsDouble((%s)value);");
+        writeDispatch("boolean", "joinToBoolean", "", "Predicate<%s> map%s",
+                "return map%s.test((%s)value);");
+        writeObjectMethods();
+        writeFactoryClass();
+        line(0, "}");
+        return out.toString();
+    }
+
+    private void writeConstants() {
+        for (int i = 0; i < variants.size(); i++) {
+            line(1, "private static final byte %s = %d;", constant(i), i);
+            line(0, "");
+        }
+        line(1, "private static final %s FACTORY = new %s();", factoryClass(wildcards),
+                factoryClass(typeArguments.isEmpty() ? "" : "<>"));
+        line(0, "");
+    }
+
+    private void writeFields() {
+        line(1, "private final byte tag;");
+        line(0, "");
+        line(1, "private final Object value;");
+        line(0, "");
+        line(1, "private %s(byte tag, Object value) {", className);
+        line(2, "this.tag = tag;");
+        line(2, "this.value = value;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeFactories() {
+        final String generic = typeParameters.isEmpty() ? "" : typeParameters + " ";
+        for (int i = 0; i < variants.size(); i++) {
+            line(1, "public static %s%s%s %s(%s value) {", generic, interfaceName, typeArguments,
+                    ORDINALS[i], variants.get(i));
+            line(2, "return new %s%s(%s, value);", className,
+                    typeArguments.isEmpty() ? "" : "<>", constant(i));
+            line(1, "}");
+            line(0, "");
+        }
+        if (!typeArguments.isEmpty()) {
+            line(1, "@SuppressWarnings(\"unchecked\")");
+        }
+        line(1, "public static %s%s factory() {", generic, unionFactory());
+        line(2, "return %sFACTORY;",
+                typeArguments.isEmpty() ? "" : "(" + factoryClass(typeArguments) + ")");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeTag() {
+        line(1, "@Override");
+        line(1, "public int tag() {");
+        line(2, "return tag;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeDispatch(String result, String method, String leading, String parameter,
+            String call) {
+        final List<String> parameters = new ArrayList<>();
+        if (!leading.isEmpty()) {
+            parameters.add(leading);
+        }
+        for (int i = 0; i < variants.size(); i++) {
+            parameters.add(String.format(parameter, variants.get(i), capitalize(ORDINALS[i])));
+        }
+        final boolean returns = call.startsWith("return");
+        line(1, "@Override");
+        line(1, "@SuppressWarnings(\"unchecked\")");
+        line(1, "public %s %s(%s) {", result, method, String.join(", ", parameters));
+        line(2, "switch (tag) {");
+        for (int i = 0; i < variants.size(); i++) {
+            final boolean last = i == variants.size() - 1;
+            line(3, last ? "default:" : "case %s:", constant(i));
+            line(4, call, capitalize(ORDINALS[i]), variants.get(i));
+            if (!returns && !last) {
+                line(4, "break;");
+            }
+        }
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeMatcherDispatch() {
+        line(1, "@Override");
+        line(1, "@SuppressWarnings(\"unchecked\")");
+        line(1, "public <%s> %s join(Union%d.Matcher<%s, %s> matcher) {", result, result,
+                variants.size(), String.join(", ", variants), result);
+        line(2, "switch (tag) {");
+        for (int i = 0; i < variants.size(); i++) {
+            line(3, i == variants.size() - 1 ? "default:" : "case %s:", constant(i));
+            line(4, "return matcher.%s((%s)value);", ORDINALS[i], variants.get(i));
+        }
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeObjectMethods() {
+        final String self = className + wildcards;
+        line(1, "@Override");
+        line(1, "public boolean equals(Object o) {");
+        line(2, "if (o == this)");
+        line(3, "return true;");
+        line(2, "if (!(o instanceof %s))", className);
+        line(3, "return false;");
+        line(2, "final %s other = (%s)o;", self, self);
+        line(2, "if (tag != other.tag)");
+        line(3, "return false;");
+        line(2, "return value == null ? other.value == null : value.equals(other.value);");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        // Same hash as the generic unions: the arity and tag are mixed in so that variants holding
+        // equal values don't collide, then spread with the MurmurHash3 finalizer
+        line(1, "public int hashCode() {");
+        line(2, "int hash = value == null ? 0 : value.hashCode();");
+        line(2, "hash ^= (%d << 4 | tag) * 0x9E3779B9;", variants.size());
+        line(2, "hash ^= hash >>> 16;");
+        line(2, "hash *= 0x85EBCA6B;");
+        line(2, "hash ^= hash >>> 13;");
+        line(2, "hash *= 0xC2B2AE35;");
+        line(2, "hash ^= hash >>> 16;");
+        line(2, "return hash;");
+        line(1, "}");
+        line(0, "");
+        line(1, "@Override");
+        line(1, "public String toString() {");
+        line(2, "return String.valueOf(value);");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeFactoryClass() {
+        line(1, "private static final class FactoryImpl%s implements %s {", typeParameters,
+                unionFactory());
+        for (int i = 0; i < variants.size(); i++) {
+            line(2, "@Override");
+            line(2, "public %s%s %s(%s value) {", interfaceName, typeArguments, ORDINALS[i],
+                    variants.get(i));
+            line(3, "return %s.%s(value);", className, ORDINALS[i]);
+            line(2, "}");
+            if (i < variants.size() - 1) {
+                line(0, "");
+            }
+        }
+        line(1, "}");
+    }
+
+    private String unionFactory() {
+        return String.format("Union%d.Factory<%s>", variants.size(), String.join(", ", variants));
+    }
+
+    private String factoryClass(String arguments) {
+        return "FactoryImpl" + arguments;
+    }
+
+    private static String freshTypeVariable(String name, List<String> taken) {
+        String candidate = name;
+        for (int suffix = 1; taken.contains(candidate); suffix++) {
+            candidate = name + suffix;
+        }
+        return candidate;
+    }
+
+    private static String constant(int index) {
+        return ORDINALS[index].toUpperCase();
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void line(int indent, String format, Object... args) {
+        for (int i = 0; i < indent; i++) {
+            out.append("    ");
+        }
+        out.append(args.length == 0 ? format : String.format(format, args)).append('\n');
+    }
+}
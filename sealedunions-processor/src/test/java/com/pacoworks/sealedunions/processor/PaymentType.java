@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.processor;
+
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.annotations.SealedUnion;
+
+@SealedUnion
+public interface PaymentType extends Union3<PaymentType.Card, PaymentType.PayPal, String> {
+    default boolean valid() {
+        return joinToBoolean(card -> card.number.length() == 16, payPal -> true,
+                accountNumber -> !accountNumber.isEmpty());
+    }
+
+    final class Card {
+        final String number;
+
+        Card(String number) {
+            this.number = number;
+        }
+    }
+
+    final class PayPal {
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.processor;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.annotations.SealedUnion;
+
+/* Named R like the result of join, which the generated join must rename */
+@SealedUnion
+interface Response<R> extends Union2<R, Exception> {
+}
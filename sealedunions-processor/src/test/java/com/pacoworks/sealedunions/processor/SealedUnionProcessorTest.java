@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.processor;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union3;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SealedUnionProcessorTest {
+    private static final String VALID = "a";
+
+    private static final String INVALID = "";
+
+    @Test
+    public void testJoin() throws Exception {
+        Assert.assertEquals(VALID, SealedPaymentType.first(new PaymentType.Card("1234"))
+                .join(card -> VALID, payPal -> INVALID, accountNumber -> INVALID));
+        Assert.assertEquals(VALID, SealedPaymentType.second(new PaymentType.PayPal())
+                .join(card -> INVALID, payPal -> VALID, accountNumber -> INVALID));
+        Assert.assertEquals(VALID, SealedPaymentType.third(VALID).join(card -> INVALID,
+                payPal -> INVALID, accountNumber -> accountNumber));
+        Assert.assertEquals(3, SealedPaymentType.third("123").joinToInt(card -> 0, payPal -> 0,
+                String::length));
+        Assert.assertEquals(2L, Results.<Integer> first(2).joinToLong(Integer::longValue,
+                exception -> -1L));
+        Assert.assertEquals(-1.0, Results.<Integer> second(new IllegalStateException())
+                .joinToDouble(Integer::doubleValue, exception -> -1.0), 0.0);
+    }
+
+    @Test
+    public void testMatcher() throws Exception {
+        Union3.Matcher<PaymentType.Card, PaymentType.PayPal, String, Integer> matcher = Union3.Matcher
+                .of(card -> 1, payPal -> 2, accountNumber -> 3);
+        Assert.assertEquals(1, (int)matcher.apply(SealedPaymentType.first(new PaymentType.Card(""))));
+        Assert.assertEquals(2, (int)SealedPaymentType.second(new PaymentType.PayPal())
+                .join(matcher));
+        Assert.assertEquals(3, (int)SealedPaymentType.third(VALID).join(matcher));
+    }
+
+    @Test
+    public void testContext() throws Exception {
+        Assert.assertEquals(VALID + 3, SealedPaymentType.third("123").join(VALID,
+                (prefix, card) -> INVALID, (prefix, payPal) -> INVALID,
+                (prefix, accountNumber) -> prefix + accountNumber.length()));
+        StringBuilder builder = new StringBuilder();
+        Results.<String> first(VALID).continued(builder, (target, value) -> target.append(value),
+                (target, exception) -> target.append(INVALID));
+        Results.<String> second(new IllegalStateException()).continued(builder,
+                (target, value) -> target.append(INVALID), (target, exception) -> target.append(1));
+        Assert.assertEquals(VALID + 1, builder.toString());
+    }
+
+    @Test
+    public void testTypeParameterNamedLikeResult() throws Exception {
+        Response<String> response = SealedResponse.first(VALID);
+        Assert.assertEquals(1, (int)response.join(String::length, exception -> -1));
+        Assert.assertEquals(VALID + 1, response.join(VALID, (prefix, value) -> prefix + 1,
+                (prefix, exception) -> INVALID));
+        Assert.assertEquals(-1, (int)SealedResponse.<String> second(new IllegalStateException())
+                .join(Union2.Matcher.of(String::length, exception -> -1)));
+    }
+
+    @Test
+    public void testContinued() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        SealedPaymentType.second(new PaymentType.PayPal()).continued(card -> builder.append(1),
+                payPal -> builder.append(2), accountNumber -> builder.append(3));
+        Results.<String> first(VALID).continued(builder::append, exception -> builder.append(4));
+        Assert.assertEquals("2" + VALID, builder.toString());
+    }
+
+    @Test
+    public void testTag() throws Exception {
+        Assert.assertEquals(0, Tagged.tagOf(SealedPaymentType.first(new PaymentType.Card(""))));
+        Assert.assertEquals(2, Tagged.tagOf(SealedPaymentType.third(VALID)));
+        Assert.assertEquals(1, ((Tagged)Results.<String> second(null)).tag());
+    }
+
+    @Test
+    public void testDefaultMethods() throws Exception {
+        Assert.assertTrue(SealedPaymentType.first(new PaymentType.Card("1234567812345678"))
+                .valid());
+        Assert.assertFalse(SealedPaymentType.third(INVALID).valid());
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        Assert.assertEquals(SealedPaymentType.third(VALID), SealedPaymentType.third(VALID));
+        Assert.assertEquals(SealedPaymentType.third(VALID).hashCode(),
+                SealedPaymentType.third(VALID).hashCode());
+        Assert.assertNotEquals(SealedPaymentType.third(VALID), SealedPaymentType.third(INVALID));
+        Assert.assertNotEquals(Results.<String> first(VALID), Results.<String> second(null));
+        Assert.assertNotEquals(Results.<String> first(null).hashCode(),
+                Results.<String> second(null).hashCode());
+        Assert.assertEquals(VALID, SealedPaymentType.third(VALID).toString());
+    }
+
+    @Test
+    public void testFactory() throws Exception {
+        Union3.Factory<PaymentType.Card, PaymentType.PayPal, String> factory = SealedPaymentType
+                .factory();
+        Assert.assertTrue(factory.third(VALID) instanceof PaymentType);
+        Assert.assertEquals(SealedPaymentType.third(VALID), factory.third(VALID));
+        Union2.Factory<String, Exception> results = Results.factory();
+        Assert.assertEquals(Results.<String> first(VALID), results.first(VALID));
+        Assert.assertSame(results, Results.<Integer> factory());
+    }
+}
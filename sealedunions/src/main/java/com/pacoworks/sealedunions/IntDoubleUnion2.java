@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * IntDoubleUnion2 is the primitive specialization of {@code Union2<Integer, Double>}. Primitive
+ * values are stored unboxed and handed to the continuations and mappers without boxing.
+ */
+public interface IntDoubleUnion2 {
+    /**
+     * Executes one of the continuations depending on the element type
+     */
+    void continued(IntConsumer continuationFirst, DoubleConsumer continuationSecond);
+
+    /**
+     * Transforms the element in the union to a new type
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    <R> R join(IntFunction<R> mapFirst, DoubleFunction<R> mapSecond);
+
+    /**
+     * Creator class for IntDoubleUnion2
+     */
+    interface Factory {
+        /**
+         * Creates a IntDoubleUnion2 wrapping a value of the first type
+         *
+         * @param value the value
+         * @return a IntDoubleUnion2 object wrapping the value
+         */
+        IntDoubleUnion2 first(int value);
+
+        /**
+         * Creates a IntDoubleUnion2 wrapping a value of the second type
+         *
+         * @param value the value
+         * @return a IntDoubleUnion2 object wrapping the value
+         */
+        IntDoubleUnion2 second(double value);
+    }
+}
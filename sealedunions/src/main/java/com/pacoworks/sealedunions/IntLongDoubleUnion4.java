@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * IntLongDoubleUnion4 is the primitive specialization of {@code Union4<Integer, Long, Double,
+ * Fourth>}. Primitive values are stored unboxed and handed to the continuations and mappers
+ * without boxing.
+ *
+ * @param <Fourth> fourth possible type
+ */
+public interface IntLongDoubleUnion4<Fourth> {
+    /**
+     * Executes one of the continuations depending on the element type
+     */
+    void continued(IntConsumer continuationFirst, LongConsumer continuationSecond,
+            DoubleConsumer continuationThird, Consumer<Fourth> continuationFourth);
+
+    /**
+     * Transforms the element in the union to a new type
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    <R> R join(IntFunction<R> mapFirst, LongFunction<R> mapSecond, DoubleFunction<R> mapThird,
+            Function<Fourth, R> mapFourth);
+
+    /**
+     * Creator class for IntLongDoubleUnion4
+     */
+    interface Factory<Fourth> {
+        /**
+         * Creates a IntLongDoubleUnion4 wrapping a value of the first type
+         *
+         * @param value the value
+         * @return a IntLongDoubleUnion4 object wrapping the value
+         */
+        IntLongDoubleUnion4<Fourth> first(int value);
+
+        /**
+         * Creates a IntLongDoubleUnion4 wrapping a value of the second type
+         *
+         * @param value the value
+         * @return a IntLongDoubleUnion4 object wrapping the value
+         */
+        IntLongDoubleUnion4<Fourth> second(long value);
+
+        /**
+         * Creates a IntLongDoubleUnion4 wrapping a value of the third type
+         *
+         * @param value the value
+         * @return a IntLongDoubleUnion4 object wrapping the value
+         */
+        IntLongDoubleUnion4<Fourth> third(double value);
+
+        /**
+         * Creates a IntLongDoubleUnion4 wrapping a value of the fourth type
+         *
+         * @param value the value
+         * @return a IntLongDoubleUnion4 object wrapping the value
+         */
+        IntLongDoubleUnion4<Fourth> fourth(Fourth value);
+    }
+}
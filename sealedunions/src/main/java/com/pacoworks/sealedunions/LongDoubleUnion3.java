@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * LongDoubleUnion3 is the primitive specialization of {@code Union3<Long, Double, Third>}.
+ * Primitive values are stored unboxed and handed to the continuations and mappers without
+ * boxing.
+ *
+ * @param <Third> third possible type
+ */
+public interface LongDoubleUnion3<Third> {
+    /**
+     * Executes one of the continuations depending on the element type
+     */
+    void continued(LongConsumer continuationFirst, DoubleConsumer continuationSecond,
+            Consumer<Third> continuationThird);
+
+    /**
+     * Transforms the element in the union to a new type
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    <R> R join(LongFunction<R> mapFirst, DoubleFunction<R> mapSecond, Function<Third, R> mapThird);
+
+    /**
+     * Creator class for LongDoubleUnion3
+     */
+    interface Factory<Third> {
+        /**
+         * Creates a LongDoubleUnion3 wrapping a value of the first type
+         *
+         * @param value the value
+         * @return a LongDoubleUnion3 object wrapping the value
+         */
+        LongDoubleUnion3<Third> first(long value);
+
+        /**
+         * Creates a LongDoubleUnion3 wrapping a value of the second type
+         *
+         * @param value the value
+         * @return a LongDoubleUnion3 object wrapping the value
+         */
+        LongDoubleUnion3<Third> second(double value);
+
+        /**
+         * Creates a LongDoubleUnion3 wrapping a value of the third type
+         *
+         * @param value the value
+         * @return a LongDoubleUnion3 object wrapping the value
+         */
+        LongDoubleUnion3<Third> third(Third value);
+    }
+}
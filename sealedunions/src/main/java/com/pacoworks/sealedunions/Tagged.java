@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions;
+
+/**
+ * Tagged is implemented by unions able to tell which of their possible types they hold without a
+ * join. Every union created by the factories in this library is Tagged, so the tag can be read
+ * with a cast or with {@link #tagOf}, which falls back to a join for other implementations.
+ * <p>
+ * {@code tagOf} is only declared for {@link Union0} to {@link Union9}. The implementations of
+ * {@code Union10} to {@code Union16} generated by the build are Tagged too, so their tag is read
+ * with {@code ((Tagged)union).tag()}, for example as {@code union -> ((Tagged)union).tag()} where
+ * a method reference to {@code tagOf} would be used for narrower unions.
+ */
+public interface Tagged {
+    /**
+     * Position of the type held by the union, starting at 0 for the first type. The none element
+     * of a {@link Union1} has tag 1.
+     *
+     * @return the 0-based position of the type held
+     */
+    int tag();
+
+    /**
+     * Position of the type held by a Union0, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union0<?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag() : union.joinToInt(first -> 0);
+    }
+
+    /**
+     * Position of the type held by a Union1, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union1<?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, () -> 1);
+    }
+
+    /**
+     * Position of the type held by a Union2, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union2<?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1);
+    }
+
+    /**
+     * Position of the type held by a Union3, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union3<?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2);
+    }
+
+    /**
+     * Position of the type held by a Union4, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union4<?, ?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3);
+    }
+
+    /**
+     * Position of the type held by a Union5, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union5<?, ?, ?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3, fifth -> 4);
+    }
+
+    /**
+     * Position of the type held by a Union6, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union6<?, ?, ?, ?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3, fifth -> 4,
+                        sixth -> 5);
+    }
+
+    /**
+     * Position of the type held by a Union7, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union7<?, ?, ?, ?, ?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3, fifth -> 4,
+                        sixth -> 5, seventh -> 6);
+    }
+
+    /**
+     * Position of the type held by a Union8, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union8<?, ?, ?, ?, ?, ?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3, fifth -> 4,
+                        sixth -> 5, seventh -> 6, eighth -> 7);
+    }
+
+    /**
+     * Position of the type held by a Union9, without a join when the union is Tagged
+     *
+     * @param union the union
+     * @return the 0-based position of the type held
+     */
+    static int tagOf(Union9<?, ?, ?, ?, ?, ?, ?, ?, ?> union) {
+        return union instanceof Tagged ? ((Tagged)union).tag()
+                : union.joinToInt(first -> 0, second -> 1, third -> 2, fourth -> 3, fifth -> 4,
+                        sixth -> 5, seventh -> 6, eighth -> 7, ninth -> 8);
+    }
+}
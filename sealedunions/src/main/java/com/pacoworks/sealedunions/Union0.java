@@ -16,8 +16,14 @@
 
 package com.pacoworks.sealedunions;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Union1 represents a union containing an element of 1 possible type
@@ -30,6 +36,17 @@ public interface Union0<First> {
      */
     void continued(Consumer<First> continuationFirst);
 
+    /**
+     * Executes one of the continuations depending on the element type, passing it a context so
+     * the continuations don't need to capture any state
+     *
+     * @param <C> context type
+     * @param context object passed to the selected continuation
+     */
+    default <C> void continued(C context, BiConsumer<C, First> continuationFirst) {
+        continued(value -> continuationFirst.accept(context, value));
+    }
+
     /**
      * Transforms the element in the union to a new type
      * 
@@ -38,6 +55,106 @@ public interface Union0<First> {
      */
     <R> R join(Function<First, R> mapFirst);
 
+    /**
+     * Transforms the element in the union with a reusable matcher
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    default <R> R join(Matcher<First, R> matcher) {
+        return join(matcher::first);
+    }
+
+    /**
+     * Transforms the element in the union to a new type, passing a context to the selected
+     * function so the functions don't need to capture any state
+     *
+     * @param <C> context type
+     * @param <R> result type
+     * @param context object passed to the selected function
+     * @return an object of the result type
+     */
+    default <C, R> R join(C context, BiFunction<C, First, R> mapFirst) {
+        return join(value -> mapFirst.apply(context, value));
+    }
+
+    /**
+     * Transforms the element in the union to an int
+     *
+     * @return an int result
+     */
+    default int joinToInt(ToIntFunction<First> mapFirst) {
+        return join(mapFirst::applyAsInt);
+    }
+
+    /**
+     * Transforms the element in the union to a long
+     *
+     * @return a long result
+     */
+    default long joinToLong(ToLongFunction<First> mapFirst) {
+        return join(mapFirst::applyAsLong);
+    }
+
+    /**
+     * Transforms the element in the union to a double
+     *
+     * @return a double result
+     */
+    default double joinToDouble(ToDoubleFunction<First> mapFirst) {
+        return join(mapFirst::applyAsDouble);
+    }
+
+    /**
+     * Transforms the element in the union to a boolean
+     *
+     * @return a boolean result
+     */
+    default boolean joinToBoolean(Predicate<First> mapFirst) {
+        return join(mapFirst::test);
+    }
+
+    /**
+     * Reusable set of functions transforming the element in a Union0, one per possible type. Keep
+     * long-lived matchers in fields to avoid creating lambdas on every join.
+     *
+     * @param <R> result type
+     */
+    abstract class Matcher<First, R> {
+        /**
+         * Creates a Matcher delegating to one function per possible type
+         *
+         * @param <R> result type
+         * @return a Matcher applying the function of the element type
+         */
+        public static <First, R> Matcher<First, R> of(Function<First, R> mapFirst) {
+            return new Matcher<First, R>() {
+                @Override
+                public R first(First value) {
+                    return mapFirst.apply(value);
+                }
+            };
+        }
+
+        /**
+         * Transforms an element of the first type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R first(First value);
+
+        /**
+         * Transforms the element in the union
+         *
+         * @param union the union
+         * @return an object of the result type
+         */
+        public final R apply(Union0<First> union) {
+            return union.join(this);
+        }
+    }
+
     /**
      * Creator class for Union1
      */
@@ -16,9 +16,19 @@
 
 package com.pacoworks.sealedunions;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Union1 represents a union containing an element of 1 possible type, or none at all
@@ -31,6 +41,19 @@ public interface Union1<First> {
      */
     void continued(Consumer<First> continuationFirst, Runnable continuationNone);
 
+    /**
+     * Executes one of the continuations depending on the element type, passing it a context so
+     * the continuations don't need to capture any state
+     *
+     * @param <C> context type
+     * @param context object passed to the selected continuation
+     */
+    default <C> void continued(C context, BiConsumer<C, First> continuationFirst,
+            Consumer<C> continuationNone) {
+        continued(value -> continuationFirst.accept(context, value),
+                () -> continuationNone.accept(context));
+    }
+
     /**
      * Transforms the element in the union to a new type
      * 
@@ -39,6 +62,119 @@ public interface Union1<First> {
      */
     <R> R join(Function<First, R> mapFirst, Supplier<R> mapNone);
 
+    /**
+     * Transforms the element in the union with a reusable matcher
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    default <R> R join(Matcher<First, R> matcher) {
+        return join(matcher::first, matcher::none);
+    }
+
+    /**
+     * Transforms the element in the union to a new type, passing a context to the selected
+     * function so the functions don't need to capture any state
+     *
+     * @param <C> context type
+     * @param <R> result type
+     * @param context object passed to the selected function
+     * @return an object of the result type
+     */
+    default <C, R> R join(C context, BiFunction<C, First, R> mapFirst, Function<C, R> mapNone) {
+        return join(value -> mapFirst.apply(context, value), () -> mapNone.apply(context));
+    }
+
+    /**
+     * Transforms the element in the union to an int
+     *
+     * @return an int result
+     */
+    default int joinToInt(ToIntFunction<First> mapFirst, IntSupplier mapNone) {
+        return join(mapFirst::applyAsInt, mapNone::getAsInt);
+    }
+
+    /**
+     * Transforms the element in the union to a long
+     *
+     * @return a long result
+     */
+    default long joinToLong(ToLongFunction<First> mapFirst, LongSupplier mapNone) {
+        return join(mapFirst::applyAsLong, mapNone::getAsLong);
+    }
+
+    /**
+     * Transforms the element in the union to a double
+     *
+     * @return a double result
+     */
+    default double joinToDouble(ToDoubleFunction<First> mapFirst, DoubleSupplier mapNone) {
+        return join(mapFirst::applyAsDouble, mapNone::getAsDouble);
+    }
+
+    /**
+     * Transforms the element in the union to a boolean
+     *
+     * @return a boolean result
+     */
+    default boolean joinToBoolean(Predicate<First> mapFirst, BooleanSupplier mapNone) {
+        return join(mapFirst::test, mapNone::getAsBoolean);
+    }
+
+    /**
+     * Reusable set of functions transforming the element in a Union1, one per possible type. Keep
+     * long-lived matchers in fields to avoid creating lambdas on every join.
+     *
+     * @param <R> result type
+     */
+    abstract class Matcher<First, R> {
+        /**
+         * Creates a Matcher delegating to one function per possible type
+         *
+         * @param <R> result type
+         * @return a Matcher applying the function of the element type
+         */
+        public static <First, R> Matcher<First, R> of(Function<First, R> mapFirst,
+                Supplier<R> mapNone) {
+            return new Matcher<First, R>() {
+                @Override
+                public R first(First value) {
+                    return mapFirst.apply(value);
+                }
+
+                @Override
+                public R none() {
+                    return mapNone.get();
+                }
+            };
+        }
+
+        /**
+         * Transforms an element of the first type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R first(First value);
+
+        /**
+         * Produces the result when the union holds no element
+         *
+         * @return an object of the result type
+         */
+        public abstract R none();
+
+        /**
+         * Transforms the element in the union
+         *
+         * @param union the union
+         * @return an object of the result type
+         */
+        public final R apply(Union1<First> union) {
+            return union.join(this);
+        }
+    }
+
     /**
      * Creator class for Union1
      */
@@ -16,8 +16,14 @@
 
 package com.pacoworks.sealedunions;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Union2 represents a union containing an element of 2 possible types
@@ -31,6 +37,19 @@ public interface Union2<First, Second> {
      */
     void continued(Consumer<First> continuationFirst, Consumer<Second> continuationSecond);
 
+    /**
+     * Executes one of the continuations depending on the element type, passing it a context so
+     * the continuations don't need to capture any state
+     *
+     * @param <C> context type
+     * @param context object passed to the selected continuation
+     */
+    default <C> void continued(C context, BiConsumer<C, First> continuationFirst,
+            BiConsumer<C, Second> continuationSecond) {
+        continued(value -> continuationFirst.accept(context, value),
+                value -> continuationSecond.accept(context, value));
+    }
+
     /**
      * Transforms the element in the union to a new type
      *
@@ -39,6 +58,123 @@ public interface Union2<First, Second> {
      */
     <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond);
 
+    /**
+     * Transforms the element in the union with a reusable matcher
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    default <R> R join(Matcher<First, Second, R> matcher) {
+        return join(matcher::first, matcher::second);
+    }
+
+    /**
+     * Transforms the element in the union to a new type, passing a context to the selected
+     * function so the functions don't need to capture any state
+     *
+     * @param <C> context type
+     * @param <R> result type
+     * @param context object passed to the selected function
+     * @return an object of the result type
+     */
+    default <C, R> R join(C context, BiFunction<C, First, R> mapFirst,
+            BiFunction<C, Second, R> mapSecond) {
+        return join(value -> mapFirst.apply(context, value),
+                value -> mapSecond.apply(context, value));
+    }
+
+    /**
+     * Transforms the element in the union to an int
+     *
+     * @return an int result
+     */
+    default int joinToInt(ToIntFunction<First> mapFirst, ToIntFunction<Second> mapSecond) {
+        return join(mapFirst::applyAsInt, mapSecond::applyAsInt);
+    }
+
+    /**
+     * Transforms the element in the union to a long
+     *
+     * @return a long result
+     */
+    default long joinToLong(ToLongFunction<First> mapFirst, ToLongFunction<Second> mapSecond) {
+        return join(mapFirst::applyAsLong, mapSecond::applyAsLong);
+    }
+
+    /**
+     * Transforms the element in the union to a double
+     *
+     * @return a double result
+     */
+    default double joinToDouble(ToDoubleFunction<First> mapFirst,
+            ToDoubleFunction<Second> mapSecond) {
+        return join(mapFirst::applyAsDouble, mapSecond::applyAsDouble);
+    }
+
+    /**
+     * Transforms the element in the union to a boolean
+     *
+     * @return a boolean result
+     */
+    default boolean joinToBoolean(Predicate<First> mapFirst, Predicate<Second> mapSecond) {
+        return join(mapFirst::test, mapSecond::test);
+    }
+
+    /**
+     * Reusable set of functions transforming the element in a Union2, one per possible type. Keep
+     * long-lived matchers in fields to avoid creating lambdas on every join.
+     *
+     * @param <R> result type
+     */
+    abstract class Matcher<First, Second, R> {
+        /**
+         * Creates a Matcher delegating to one function per possible type
+         *
+         * @param <R> result type
+         * @return a Matcher applying the function of the element type
+         */
+        public static <First, Second, R> Matcher<First, Second, R> of(Function<First, R> mapFirst,
+                Function<Second, R> mapSecond) {
+            return new Matcher<First, Second, R>() {
+                @Override
+                public R first(First value) {
+                    return mapFirst.apply(value);
+                }
+
+                @Override
+                public R second(Second value) {
+                    return mapSecond.apply(value);
+                }
+            };
+        }
+
+        /**
+         * Transforms an element of the first type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R first(First value);
+
+        /**
+         * Transforms an element of the second type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R second(Second value);
+
+        /**
+         * Transforms the element in the union
+         *
+         * @param union the union
+         * @return an object of the result type
+         */
+        public final R apply(Union2<First, Second> union) {
+            return union.join(this);
+        }
+    }
+
     /**
      * Creator class for Union2
      */
@@ -32,8 +32,14 @@
 
 package com.pacoworks.sealedunions;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Union3 represents a union containing an element of 3 possible types
@@ -49,6 +55,20 @@ public interface Union3<First, Second, Third> {
     void continued(Consumer<First> continuationFirst, Consumer<Second> continuationSecond,
             Consumer<Third> continuationThird);
 
+    /**
+     * Executes one of the continuations depending on the element type, passing it a context so
+     * the continuations don't need to capture any state
+     *
+     * @param <C> context type
+     * @param context object passed to the selected continuation
+     */
+    default <C> void continued(C context, BiConsumer<C, First> continuationFirst,
+            BiConsumer<C, Second> continuationSecond, BiConsumer<C, Third> continuationThird) {
+        continued(value -> continuationFirst.accept(context, value),
+                value -> continuationSecond.accept(context, value),
+                value -> continuationThird.accept(context, value));
+    }
+
     /**
      * Transforms the element in the union to a new type
      *
@@ -58,6 +78,140 @@ public interface Union3<First, Second, Third> {
     <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond,
             Function<Third, R> mapThird);
 
+    /**
+     * Transforms the element in the union with a reusable matcher
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    default <R> R join(Matcher<First, Second, Third, R> matcher) {
+        return join(matcher::first, matcher::second, matcher::third);
+    }
+
+    /**
+     * Transforms the element in the union to a new type, passing a context to the selected
+     * function so the functions don't need to capture any state
+     *
+     * @param <C> context type
+     * @param <R> result type
+     * @param context object passed to the selected function
+     * @return an object of the result type
+     */
+    default <C, R> R join(C context, BiFunction<C, First, R> mapFirst,
+            BiFunction<C, Second, R> mapSecond, BiFunction<C, Third, R> mapThird) {
+        return join(value -> mapFirst.apply(context, value),
+                value -> mapSecond.apply(context, value), value -> mapThird.apply(context, value));
+    }
+
+    /**
+     * Transforms the element in the union to an int
+     *
+     * @return an int result
+     */
+    default int joinToInt(ToIntFunction<First> mapFirst, ToIntFunction<Second> mapSecond,
+            ToIntFunction<Third> mapThird) {
+        return join(mapFirst::applyAsInt, mapSecond::applyAsInt, mapThird::applyAsInt);
+    }
+
+    /**
+     * Transforms the element in the union to a long
+     *
+     * @return a long result
+     */
+    default long joinToLong(ToLongFunction<First> mapFirst, ToLongFunction<Second> mapSecond,
+            ToLongFunction<Third> mapThird) {
+        return join(mapFirst::applyAsLong, mapSecond::applyAsLong, mapThird::applyAsLong);
+    }
+
+    /**
+     * Transforms the element in the union to a double
+     *
+     * @return a double result
+     */
+    default double joinToDouble(ToDoubleFunction<First> mapFirst,
+            ToDoubleFunction<Second> mapSecond, ToDoubleFunction<Third> mapThird) {
+        return join(mapFirst::applyAsDouble, mapSecond::applyAsDouble, mapThird::applyAsDouble);
+    }
+
+    /**
+     * Transforms the element in the union to a boolean
+     *
+     * @return a boolean result
+     */
+    default boolean joinToBoolean(Predicate<First> mapFirst, Predicate<Second> mapSecond,
+            Predicate<Third> mapThird) {
+        return join(mapFirst::test, mapSecond::test, mapThird::test);
+    }
+
+    /**
+     * Reusable set of functions transforming the element in a Union3, one per possible type. Keep
+     * long-lived matchers in fields to avoid creating lambdas on every join.
+     *
+     * @param <R> result type
+     */
+    abstract class Matcher<First, Second, Third, R> {
+        /**
+         * Creates a Matcher delegating to one function per possible type
+         *
+         * @param <R> result type
+         * @return a Matcher applying the function of the element type
+         */
+        public static <First, Second, Third, R> Matcher<First, Second, Third, R>
+                of(Function<First, R> mapFirst, Function<Second, R> mapSecond,
+                        Function<Third, R> mapThird) {
+            return new Matcher<First, Second, Third, R>() {
+                @Override
+                public R first(First value) {
+                    return mapFirst.apply(value);
+                }
+
+                @Override
+                public R second(Second value) {
+                    return mapSecond.apply(value);
+                }
+
+                @Override
+                public R third(Third value) {
+                    return mapThird.apply(value);
+                }
+            };
+        }
+
+        /**
+         * Transforms an element of the first type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R first(First value);
+
+        /**
+         * Transforms an element of the second type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R second(Second value);
+
+        /**
+         * Transforms an element of the third type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R third(Third value);
+
+        /**
+         * Transforms the element in the union
+         *
+         * @param union the union
+         * @return an object of the result type
+         */
+        public final R apply(Union3<First, Second, Third> union) {
+            return union.join(this);
+        }
+    }
+
     /**
      * Creator class for Union3
      */
@@ -16,8 +16,14 @@
 
 package com.pacoworks.sealedunions;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Union7 represents a union containing an element of 7 possible types
@@ -39,6 +45,26 @@ public interface Union7<First, Second, Third, Fourth, Fifth, Sixth, Seventh> {
             Consumer<Fifth> continuationFifth, Consumer<Sixth> continuationSixth,
             Consumer<Seventh> continuationSeventh);
 
+    /**
+     * Executes one of the continuations depending on the element type, passing it a context so
+     * the continuations don't need to capture any state
+     *
+     * @param <C> context type
+     * @param context object passed to the selected continuation
+     */
+    default <C> void continued(C context, BiConsumer<C, First> continuationFirst,
+            BiConsumer<C, Second> continuationSecond, BiConsumer<C, Third> continuationThird,
+            BiConsumer<C, Fourth> continuationFourth, BiConsumer<C, Fifth> continuationFifth,
+            BiConsumer<C, Sixth> continuationSixth, BiConsumer<C, Seventh> continuationSeventh) {
+        continued(value -> continuationFirst.accept(context, value),
+                value -> continuationSecond.accept(context, value),
+                value -> continuationThird.accept(context, value),
+                value -> continuationFourth.accept(context, value),
+                value -> continuationFifth.accept(context, value),
+                value -> continuationSixth.accept(context, value),
+                value -> continuationSeventh.accept(context, value));
+    }
+
     /**
      * Transforms the element in the union to a new type
      *
@@ -49,6 +75,214 @@ public interface Union7<First, Second, Third, Fourth, Fifth, Sixth, Seventh> {
             Function<Third, R> mapThird, Function<Fourth, R> mapFourth, Function<Fifth, R> mapFifth,
             Function<Sixth, R> mapSixth, Function<Seventh, R> mapSeventh);
 
+    /**
+     * Transforms the element in the union with a reusable matcher
+     *
+     * @param <R> result type
+     * @return an object of the result type
+     */
+    default <R> R join(Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, R> matcher) {
+        return join(matcher::first, matcher::second, matcher::third, matcher::fourth,
+                matcher::fifth, matcher::sixth, matcher::seventh);
+    }
+
+    /**
+     * Transforms the element in the union to a new type, passing a context to the selected
+     * function so the functions don't need to capture any state
+     *
+     * @param <C> context type
+     * @param <R> result type
+     * @param context object passed to the selected function
+     * @return an object of the result type
+     */
+    default <C, R> R join(C context, BiFunction<C, First, R> mapFirst,
+            BiFunction<C, Second, R> mapSecond, BiFunction<C, Third, R> mapThird,
+            BiFunction<C, Fourth, R> mapFourth, BiFunction<C, Fifth, R> mapFifth,
+            BiFunction<C, Sixth, R> mapSixth, BiFunction<C, Seventh, R> mapSeventh) {
+        return join(value -> mapFirst.apply(context, value),
+                value -> mapSecond.apply(context, value), value -> mapThird.apply(context, value),
+                value -> mapFourth.apply(context, value), value -> mapFifth.apply(context, value),
+                value -> mapSixth.apply(context, value), value -> mapSeventh.apply(context, value));
+    }
+
+    /**
+     * Transforms the element in the union to an int
+     *
+     * @return an int result
+     */
+    default int joinToInt(ToIntFunction<First> mapFirst, ToIntFunction<Second> mapSecond,
+            ToIntFunction<Third> mapThird, ToIntFunction<Fourth> mapFourth,
+            ToIntFunction<Fifth> mapFifth, ToIntFunction<Sixth> mapSixth,
+            ToIntFunction<Seventh> mapSeventh) {
+        return join(mapFirst::applyAsInt, mapSecond::applyAsInt, mapThird::applyAsInt,
+                mapFourth::applyAsInt, mapFifth::applyAsInt, mapSixth::applyAsInt,
+                mapSeventh::applyAsInt);
+    }
+
+    /**
+     * Transforms the element in the union to a long
+     *
+     * @return a long result
+     */
+    default long joinToLong(ToLongFunction<First> mapFirst, ToLongFunction<Second> mapSecond,
+            ToLongFunction<Third> mapThird, ToLongFunction<Fourth> mapFourth,
+            ToLongFunction<Fifth> mapFifth, ToLongFunction<Sixth> mapSixth,
+            ToLongFunction<Seventh> mapSeventh) {
+        return join(mapFirst::applyAsLong, mapSecond::applyAsLong, mapThird::applyAsLong,
+                mapFourth::applyAsLong, mapFifth::applyAsLong, mapSixth::applyAsLong,
+                mapSeventh::applyAsLong);
+    }
+
+    /**
+     * Transforms the element in the union to a double
+     *
+     * @return a double result
+     */
+    default double joinToDouble(ToDoubleFunction<First> mapFirst,
+            ToDoubleFunction<Second> mapSecond, ToDoubleFunction<Third> mapThird,
+            ToDoubleFunction<Fourth> mapFourth, ToDoubleFunction<Fifth> mapFifth,
+            ToDoubleFunction<Sixth> mapSixth, ToDoubleFunction<Seventh> mapSeventh) {
+        return join(mapFirst::applyAsDouble, mapSecond::applyAsDouble, mapThird::applyAsDouble,
+                mapFourth::applyAsDouble, mapFifth::applyAsDouble, mapSixth::applyAsDouble,
+                mapSeventh::applyAsDouble);
+    }
+
+    /**
+     * Transforms the element in the union to a boolean
+     *
+     * @return a boolean result
+     */
+    default boolean joinToBoolean(Predicate<First> mapFirst, Predicate<Second> mapSecond,
+            Predicate<Third> mapThird, Predicate<Fourth> mapFourth, Predicate<Fifth> mapFifth,
+            Predicate<Sixth> mapSixth, Predicate<Seventh> mapSeventh) {
+        return join(mapFirst::test, mapSecond::test, mapThird::test, mapFourth::test,
+                mapFifth::test, mapSixth::test, mapSeventh::test);
+    }
+
+    /**
+     * Reusable set of functions transforming the element in a Union7, one per possible type. Keep
+     * long-lived matchers in fields to avoid creating lambdas on every join.
+     *
+     * @param <R> result type
+     */
+    abstract class Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, R> {
+        /**
+         * Creates a Matcher delegating to one function per possible type
+         *
+         * @param <R> result type
+         * @return a Matcher applying the function of the element type
+         */
+        public static <First, Second, Third, Fourth, Fifth, Sixth, Seventh, R>
+                Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, R>
+                of(Function<First, R> mapFirst, Function<Second, R> mapSecond,
+                        Function<Third, R> mapThird, Function<Fourth, R> mapFourth,
+                        Function<Fifth, R> mapFifth, Function<Sixth, R> mapSixth,
+                        Function<Seventh, R> mapSeventh) {
+            return new Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, R>() {
+                @Override
+                public R first(First value) {
+                    return mapFirst.apply(value);
+                }
+
+                @Override
+                public R second(Second value) {
+                    return mapSecond.apply(value);
+                }
+
+                @Override
+                public R third(Third value) {
+                    return mapThird.apply(value);
+                }
+
+                @Override
+                public R fourth(Fourth value) {
+                    return mapFourth.apply(value);
+                }
+
+                @Override
+                public R fifth(Fifth value) {
+                    return mapFifth.apply(value);
+                }
+
+                @Override
+                public R sixth(Sixth value) {
+                    return mapSixth.apply(value);
+                }
+
+                @Override
+                public R seventh(Seventh value) {
+                    return mapSeventh.apply(value);
+                }
+            };
+        }
+
+        /**
+         * Transforms an element of the first type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R first(First value);
+
+        /**
+         * Transforms an element of the second type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R second(Second value);
+
+        /**
+         * Transforms an element of the third type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R third(Third value);
+
+        /**
+         * Transforms an element of the fourth type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R fourth(Fourth value);
+
+        /**
+         * Transforms an element of the fifth type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R fifth(Fifth value);
+
+        /**
+         * Transforms an element of the sixth type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R sixth(Sixth value);
+
+        /**
+         * Transforms an element of the seventh type
+         *
+         * @param value the element
+         * @return an object of the result type
+         */
+        public abstract R seventh(Seventh value);
+
+        /**
+         * Transforms the element in the union
+         *
+         * @param union the union
+         * @return an object of the result type
+         */
+        public final R apply(Union7<First, Second, Third, Fourth, Fifth, Sixth, Seventh> union) {
+            return union.join(this);
+        }
+    }
+
     /**
      * Creator class for Union7
      */
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface extending one of {@link com.pacoworks.sealedunions.Union2} to
+ * {@link com.pacoworks.sealedunions.Union16} so the sealedunions-processor generates its
+ * implementation at compile time.
+ * <p>
+ * The generated class is final, stores a tag next to the value, dispatches with a {@code switch}
+ * and provides {@code equals}, {@code hashCode}, a static factory per variant and a
+ * {@code factory()} method returning the union's {@code Factory}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface SealedUnion {
+    /**
+     * @return simple name of the generated class, defaults to the interface name prefixed by
+     *         Sealed
+     */
+    String name() default "";
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads values of a type, so that decoding the bytes written by
+ * {@link #encode(ByteBuffer, Object)} returns an equal value
+ *
+ * @param <T> type of the values
+ */
+public interface Codec<T> extends Encoder<T>, Decoder<T> {
+    /**
+     * Creates a Codec from an encoder and a decoder of the same format
+     *
+     * @param encoder the encoder
+     * @param decoder the decoder
+     * @return a Codec delegating to both
+     */
+    static <T> Codec<T> of(Encoder<T> encoder, Decoder<T> decoder) {
+        return new Codec<T>() {
+            @Override
+            public void encode(ByteBuffer buffer, T value) {
+                encoder.encode(buffer, value);
+            }
+
+            @Override
+            public T decode(ByteBuffer buffer) {
+                return decoder.decode(buffer);
+            }
+
+            @Override
+            public void skip(ByteBuffer buffer) {
+                decoder.skip(buffer);
+            }
+        };
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codecs for common value types, and the variable length integers used by the union codecs for
+ * tags and lengths.
+ * <p>
+ * Fixed size values are written in the byte order of the buffer. Variable length integers use 7
+ * bits per byte, least significant group first, with the high bit set on every byte but the last,
+ * so values below 128 take a single byte.
+ */
+public final class Codecs {
+    private static final int VARINT_MAX_BYTES = 5;
+
+    private static final Codec<Integer> INTS = fixed(Integer.BYTES, ByteBuffer::putInt,
+            ByteBuffer::getInt);
+
+    private static final Codec<Long> LONGS = fixed(Long.BYTES, ByteBuffer::putLong,
+            ByteBuffer::getLong);
+
+    private static final Codec<Double> DOUBLES = fixed(Double.BYTES, ByteBuffer::putDouble,
+            ByteBuffer::getDouble);
+
+    private static final Codec<Boolean> BOOLEANS = fixed(1,
+            (buffer, value) -> buffer.put(value ? (byte)1 : (byte)0), Codecs::readBoolean);
+
+    private static final Codec<String> STRINGS = new Codec<String>() {
+        @Override
+        public void encode(ByteBuffer buffer, String value) {
+            writeString(buffer, value);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            return readString(buffer);
+        }
+
+        @Override
+        public void skip(ByteBuffer buffer) {
+            final int length = readVarint(buffer);
+            checkRemaining(buffer, length);
+            buffer.position(buffer.position() + length);
+        }
+    };
+
+    /**
+     * Codec writing an int as 4 bytes
+     *
+     * @return the codec
+     */
+    public static Codec<Integer> ints() {
+        return INTS;
+    }
+
+    /**
+     * Codec writing a long as 8 bytes
+     *
+     * @return the codec
+     */
+    public static Codec<Long> longs() {
+        return LONGS;
+    }
+
+    /**
+     * Codec writing a double as 8 bytes
+     *
+     * @return the codec
+     */
+    public static Codec<Double> doubles() {
+        return DOUBLES;
+    }
+
+    /**
+     * Codec writing a boolean as a byte, 1 for true and 0 for false
+     *
+     * @return the codec
+     */
+    public static Codec<Boolean> booleans() {
+        return BOOLEANS;
+    }
+
+    /**
+     * Codec writing a String as its length in UTF-8 bytes, as a variable length integer, followed
+     * by those bytes
+     *
+     * @return the codec
+     */
+    public static Codec<String> strings() {
+        return STRINGS;
+    }
+
+    /**
+     * Codec that writes nothing and always decodes to the same value, for types that carry no
+     * data like markers
+     *
+     * @param value the value returned by every decode
+     * @return the codec
+     */
+    public static <T> Codec<T> unit(T value) {
+        return Codec.of((buffer, ignored) -> {
+        }, buffer -> value);
+    }
+
+    /**
+     * Writes a non-negative int as a variable length integer
+     *
+     * @param buffer the buffer
+     * @param value the value
+     * @throws IllegalArgumentException if the value is negative
+     * @throws java.nio.BufferOverflowException if the buffer has no room for the value
+     */
+    public static void writeVarint(ByteBuffer buffer, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative varint: " + value);
+        }
+        int remaining = value;
+        while (remaining >= 0x80) {
+            buffer.put((byte)(remaining | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte)remaining);
+    }
+
+    /**
+     * Reads a variable length integer written by {@link #writeVarint}
+     *
+     * @param buffer the buffer
+     * @return the value
+     * @throws IllegalArgumentException if the bytes don't hold a non-negative int
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value does
+     */
+    public static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int index = 0; index < VARINT_MAX_BYTES; index++) {
+            final byte current = buffer.get();
+            value |= (current & 0x7F) << (7 * index);
+            if (current >= 0) {
+                if (index == VARINT_MAX_BYTES - 1 && current > 0x07) {
+                    throw new IllegalArgumentException("Varint out of range");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint longer than " + VARINT_MAX_BYTES + " bytes");
+    }
+
+    /**
+     * Number of bytes {@link #writeVarint} uses for a value
+     *
+     * @param value the value
+     * @return the number of bytes, from 1 to 5
+     */
+    public static int varintSize(int value) {
+        return value < 0 ? VARINT_MAX_BYTES : (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /* Skips values without decoding them, as all of them take the same number of bytes */
+    private static <T> Codec<T> fixed(int size, Encoder<T> encoder, Decoder<T> decoder) {
+        return new Codec<T>() {
+            @Override
+            public void encode(ByteBuffer buffer, T value) {
+                encoder.encode(buffer, value);
+            }
+
+            @Override
+            public T decode(ByteBuffer buffer) {
+                return decoder.decode(buffer);
+            }
+
+            @Override
+            public void skip(ByteBuffer buffer) {
+                checkRemaining(buffer, size);
+                buffer.position(buffer.position() + size);
+            }
+        };
+    }
+
+    private static void checkRemaining(ByteBuffer buffer, int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    private static boolean readBoolean(ByteBuffer buffer) {
+        final byte value = buffer.get();
+        if (value != 0 && value != 1) {
+            throw new IllegalArgumentException("Invalid boolean: " + value);
+        }
+        return value == 1;
+    }
+
+    /* Encodes straight into the buffer, without going through a byte array */
+    private static void writeString(ByteBuffer buffer, String value) {
+        final int length = value.length();
+        writeVarint(buffer, utf8Length(value));
+        for (int index = 0; index < length; index++) {
+            final char current = value.charAt(index);
+            if (current < 0x80) {
+                buffer.put((byte)current);
+            } else if (current < 0x800) {
+                buffer.put((byte)(0xC0 | current >>> 6));
+                buffer.put((byte)(0x80 | current & 0x3F));
+            } else if (Character.isHighSurrogate(current) && index + 1 < length
+                    && Character.isLowSurrogate(value.charAt(index + 1))) {
+                final int codePoint = Character.toCodePoint(current, value.charAt(++index));
+                buffer.put((byte)(0xF0 | codePoint >>> 18));
+                buffer.put((byte)(0x80 | codePoint >>> 12 & 0x3F));
+                buffer.put((byte)(0x80 | codePoint >>> 6 & 0x3F));
+                buffer.put((byte)(0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(current)) {
+                // Unpaired surrogates are replaced with '?', like String.getBytes does
+                buffer.put((byte)'?');
+            } else {
+                buffer.put((byte)(0xE0 | current >>> 12));
+                buffer.put((byte)(0x80 | current >>> 6 & 0x3F));
+                buffer.put((byte)(0x80 | current & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(String value) {
+        final int length = value.length();
+        int bytes = length;
+        for (int index = 0; index < length; index++) {
+            final char current = value.charAt(index);
+            if (current >= 0x80) {
+                if (current < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(current) && index + 1 < length
+                        && Character.isLowSurrogate(value.charAt(index + 1))) {
+                    bytes += 2;
+                    index++;
+                } else if (!Character.isSurrogate(current)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final int length = readVarint(buffer);
+        checkRemaining(buffer, length);
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.duplicate().get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
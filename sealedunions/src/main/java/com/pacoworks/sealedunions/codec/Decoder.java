@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads values of a type from a {@link ByteBuffer}
+ *
+ * @param <T> type of the values
+ */
+public interface Decoder<T> {
+    /**
+     * Reads a value at the buffer's position and advances it past the value
+     *
+     * @param buffer the buffer
+     * @return the value
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value does
+     * @throws IllegalArgumentException if the bytes don't hold a valid value
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Advances the buffer's position past a value without returning it. Decodes the value by
+     * default, override it when the size of the value can be read without decoding it.
+     *
+     * @param buffer the buffer
+     * @throws java.nio.BufferUnderflowException if the buffer ends before the value does
+     * @throws IllegalArgumentException if the bytes don't hold a valid value
+     */
+    default void skip(ByteBuffer buffer) {
+        decode(buffer);
+    }
+}
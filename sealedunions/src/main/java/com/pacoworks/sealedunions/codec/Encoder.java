@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values of a type into a {@link ByteBuffer}
+ *
+ * @param <T> type of the values
+ */
+public interface Encoder<T> {
+    /**
+     * Writes a value at the buffer's position and advances it past the value
+     *
+     * @param buffer the buffer
+     * @param value the value
+     * @throws java.nio.BufferOverflowException if the buffer has no room for the value
+     */
+    void encode(ByteBuffer buffer, T value);
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Union1;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Codec for {@link Union1}: the position of the type held, as a variable length integer, followed
+ * by the value written by the codec of that type. Decoding passes the value straight to the
+ * factory, so nothing but the value and the union is created.
+ *
+ * @param <First> first possible type
+ */
+public final class Union1Codec<First> implements Codec<Union1<First>> {
+    private final Union1.Factory<First> factory;
+
+    private final Codec<First> first;
+
+    private final BiConsumer<ByteBuffer, First> writeFirst;
+
+    private final Consumer<ByteBuffer> writeNone;
+
+    /**
+     * Creates a codec with one codec per possible type
+     *
+     * @param factory the factory creating the decoded unions
+     * @param first codec of the first type
+     */
+    public Union1Codec(Union1.Factory<First> factory, Codec<First> first) {
+        this.factory = factory;
+        this.first = first;
+        this.writeFirst = (target, value) -> {
+            Codecs.writeVarint(target, 0);
+            first.encode(target, value);
+        };
+        this.writeNone = target -> Codecs.writeVarint(target, 1);
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, Union1<First> union) {
+        union.continued(buffer, writeFirst, writeNone);
+    }
+
+    @Override
+    public Union1<First> decode(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                return factory.first(first.decode(buffer));
+            case 1:
+                return factory.none();
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union1");
+        }
+    }
+
+    @Override
+    public void skip(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                first.skip(buffer);
+                break;
+            case 1:
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union1");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Union2;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+
+/**
+ * Codec for {@link Union2}: the position of the type held, as a variable length integer, followed
+ * by the value written by the codec of that type. Decoding passes the value straight to the
+ * factory, so nothing but the value and the union is created.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ */
+public final class Union2Codec<First, Second> implements Codec<Union2<First, Second>> {
+    private final Union2.Factory<First, Second> factory;
+
+    private final Codec<First> first;
+
+    private final Codec<Second> second;
+
+    private final BiConsumer<ByteBuffer, First> writeFirst;
+
+    private final BiConsumer<ByteBuffer, Second> writeSecond;
+
+    /**
+     * Creates a codec with one codec per possible type
+     *
+     * @param factory the factory creating the decoded unions
+     * @param first codec of the first type
+     * @param second codec of the second type
+     */
+    public Union2Codec(Union2.Factory<First, Second> factory, Codec<First> first,
+            Codec<Second> second) {
+        this.factory = factory;
+        this.first = first;
+        this.second = second;
+        this.writeFirst = (target, value) -> {
+            Codecs.writeVarint(target, 0);
+            first.encode(target, value);
+        };
+        this.writeSecond = (target, value) -> {
+            Codecs.writeVarint(target, 1);
+            second.encode(target, value);
+        };
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, Union2<First, Second> union) {
+        union.continued(buffer, writeFirst, writeSecond);
+    }
+
+    @Override
+    public Union2<First, Second> decode(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                return factory.first(first.decode(buffer));
+            case 1:
+                return factory.second(second.decode(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union2");
+        }
+    }
+
+    @Override
+    public void skip(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                first.skip(buffer);
+                break;
+            case 1:
+                second.skip(buffer);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union2");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union2;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Flyweight {@link Union2} reading a union written by {@link Union2Codec} in place. The view is
+ * moved from one encoded union to the next with {@link #wrap}, and only decodes the value of the
+ * type held when {@code join} or {@code continued} is called, so scanning a buffer with one view
+ * creates no unions.
+ * <p>
+ * A view is mutable and compared by identity. Use the codec to decode a union that can be kept
+ * after the view moves.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ */
+public final class Union2View<First, Second> implements Union2<First, Second>, Tagged {
+    private static final int FIRST = 0;
+
+    private static final int SECOND = 1;
+
+    private static final int VARIANTS = 2;
+
+    private final Decoder<First> first;
+
+    private final Decoder<Second> second;
+
+    private ByteBuffer source;
+
+    private ByteBuffer cursor;
+
+    private int tag;
+
+    private int start;
+
+    /**
+     * Creates a view with one decoder per possible type, not pointing to any union yet
+     *
+     * @param first decoder of the first type
+     * @param second decoder of the second type
+     */
+    public Union2View(Decoder<First> first, Decoder<Second> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Points the view to the union encoded at a position of a buffer. The view reads the buffer
+     * through its own duplicate, so the position of the buffer doesn't change.
+     *
+     * @param buffer the buffer
+     * @param position the position where the union starts
+     * @return this view
+     * @throws IllegalArgumentException if there is no valid tag at the position
+     */
+    public Union2View<First, Second> wrap(ByteBuffer buffer, int position) {
+        if (buffer != source) {
+            source = buffer;
+            cursor = buffer.duplicate().order(buffer.order());
+        }
+        cursor.limit(buffer.limit());
+        cursor.position(position);
+        final int tag = Codecs.readVarint(cursor);
+        if (tag >= VARIANTS) {
+            throw new IllegalArgumentException("Unknown tag " + tag + " for a Union2");
+        }
+        this.tag = tag;
+        start = cursor.position();
+        return this;
+    }
+
+    /**
+     * Position where the union the view points to ends, which is where the next one starts
+     *
+     * @return the position after the union
+     */
+    public int next() {
+        final ByteBuffer payload = payload();
+        switch (tag) {
+            case FIRST:
+                first.skip(payload);
+                break;
+            default:
+                second.skip(payload);
+        }
+        return payload.position();
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    public void continued(Consumer<First> continuationFirst, Consumer<Second> continuationSecond) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(first.decode(payload()));
+                break;
+            default:
+                continuationSecond.accept(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public <X> void continued(X context, BiConsumer<X, First> continuationFirst,
+            BiConsumer<X, Second> continuationSecond) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, first.decode(payload()));
+                break;
+            default:
+                continuationSecond.accept(context, second.decode(payload()));
+        }
+    }
+
+    @Override
+    public <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(first.decode(payload()));
+            default:
+                return mapSecond.apply(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public <R> R join(Union2.Matcher<First, Second, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first(first.decode(payload()));
+            default:
+                return matcher.second(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, First, R> mapFirst,
+            BiFunction<X, Second, R> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, first.decode(payload()));
+            default:
+                return mapSecond.apply(context, second.decode(payload()));
+        }
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<First> mapFirst, ToIntFunction<Second> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt(first.decode(payload()));
+            default:
+                return mapSecond.applyAsInt(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<First> mapFirst, ToLongFunction<Second> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong(first.decode(payload()));
+            default:
+                return mapSecond.applyAsLong(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<First> mapFirst,
+            ToDoubleFunction<Second> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble(first.decode(payload()));
+            default:
+                return mapSecond.applyAsDouble(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<First> mapFirst, Predicate<Second> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test(first.decode(payload()));
+            default:
+                return mapSecond.test(second.decode(payload()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return join(String::valueOf, String::valueOf);
+    }
+
+    private ByteBuffer payload() {
+        cursor.position(start);
+        return cursor;
+    }
+}
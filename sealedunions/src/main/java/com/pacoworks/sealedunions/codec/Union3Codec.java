@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Union3;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+
+/**
+ * Codec for {@link Union3}: the position of the type held, as a variable length integer, followed
+ * by the value written by the codec of that type. Decoding passes the value straight to the
+ * factory, so nothing but the value and the union is created.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ */
+public final class Union3Codec<First, Second, Third>
+        implements Codec<Union3<First, Second, Third>> {
+    private final Union3.Factory<First, Second, Third> factory;
+
+    private final Codec<First> first;
+
+    private final Codec<Second> second;
+
+    private final Codec<Third> third;
+
+    private final BiConsumer<ByteBuffer, First> writeFirst;
+
+    private final BiConsumer<ByteBuffer, Second> writeSecond;
+
+    private final BiConsumer<ByteBuffer, Third> writeThird;
+
+    /**
+     * Creates a codec with one codec per possible type
+     *
+     * @param factory the factory creating the decoded unions
+     * @param first codec of the first type
+     * @param second codec of the second type
+     * @param third codec of the third type
+     */
+    public Union3Codec(Union3.Factory<First, Second, Third> factory, Codec<First> first,
+            Codec<Second> second, Codec<Third> third) {
+        this.factory = factory;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.writeFirst = (target, value) -> {
+            Codecs.writeVarint(target, 0);
+            first.encode(target, value);
+        };
+        this.writeSecond = (target, value) -> {
+            Codecs.writeVarint(target, 1);
+            second.encode(target, value);
+        };
+        this.writeThird = (target, value) -> {
+            Codecs.writeVarint(target, 2);
+            third.encode(target, value);
+        };
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, Union3<First, Second, Third> union) {
+        union.continued(buffer, writeFirst, writeSecond, writeThird);
+    }
+
+    @Override
+    public Union3<First, Second, Third> decode(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                return factory.first(first.decode(buffer));
+            case 1:
+                return factory.second(second.decode(buffer));
+            case 2:
+                return factory.third(third.decode(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union3");
+        }
+    }
+
+    @Override
+    public void skip(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                first.skip(buffer);
+                break;
+            case 1:
+                second.skip(buffer);
+                break;
+            case 2:
+                third.skip(buffer);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union3");
+        }
+    }
+}
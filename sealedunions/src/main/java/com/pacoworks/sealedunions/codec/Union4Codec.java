@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Union4;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+
+/**
+ * Codec for {@link Union4}: the position of the type held, as a variable length integer, followed
+ * by the value written by the codec of that type. Decoding passes the value straight to the
+ * factory, so nothing but the value and the union is created.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ * @param <Fourth> fourth possible type
+ */
+public final class Union4Codec<First, Second, Third, Fourth>
+        implements Codec<Union4<First, Second, Third, Fourth>> {
+    private final Union4.Factory<First, Second, Third, Fourth> factory;
+
+    private final Codec<First> first;
+
+    private final Codec<Second> second;
+
+    private final Codec<Third> third;
+
+    private final Codec<Fourth> fourth;
+
+    private final BiConsumer<ByteBuffer, First> writeFirst;
+
+    private final BiConsumer<ByteBuffer, Second> writeSecond;
+
+    private final BiConsumer<ByteBuffer, Third> writeThird;
+
+    private final BiConsumer<ByteBuffer, Fourth> writeFourth;
+
+    /**
+     * Creates a codec with one codec per possible type
+     *
+     * @param factory the factory creating the decoded unions
+     * @param first codec of the first type
+     * @param second codec of the second type
+     * @param third codec of the third type
+     * @param fourth codec of the fourth type
+     */
+    public Union4Codec(Union4.Factory<First, Second, Third, Fourth> factory, Codec<First> first,
+            Codec<Second> second, Codec<Third> third, Codec<Fourth> fourth) {
+        this.factory = factory;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+        this.writeFirst = (target, value) -> {
+            Codecs.writeVarint(target, 0);
+            first.encode(target, value);
+        };
+        this.writeSecond = (target, value) -> {
+            Codecs.writeVarint(target, 1);
+            second.encode(target, value);
+        };
+        this.writeThird = (target, value) -> {
+            Codecs.writeVarint(target, 2);
+            third.encode(target, value);
+        };
+        this.writeFourth = (target, value) -> {
+            Codecs.writeVarint(target, 3);
+            fourth.encode(target, value);
+        };
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer, Union4<First, Second, Third, Fourth> union) {
+        union.continued(buffer, writeFirst, writeSecond, writeThird, writeFourth);
+    }
+
+    @Override
+    public Union4<First, Second, Third, Fourth> decode(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                return factory.first(first.decode(buffer));
+            case 1:
+                return factory.second(second.decode(buffer));
+            case 2:
+                return factory.third(third.decode(buffer));
+            case 3:
+                return factory.fourth(fourth.decode(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union4");
+        }
+    }
+
+    @Override
+    public void skip(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                first.skip(buffer);
+                break;
+            case 1:
+                second.skip(buffer);
+                break;
+            case 2:
+                third.skip(buffer);
+                break;
+            case 3:
+                fourth.skip(buffer);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union4");
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union7;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Flyweight {@link Union7} reading a union written by {@link Union7Codec} in place. The view is
+ * moved from one encoded union to the next with {@link #wrap}, and only decodes the value of the
+ * type held when {@code join} or {@code continued} is called, so scanning a buffer with one view
+ * creates no unions.
+ * <p>
+ * A view is mutable and compared by identity. Use the codec to decode a union that can be kept
+ * after the view moves.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ * @param <Fourth> fourth possible type
+ * @param <Fifth> fifth possible type
+ * @param <Sixth> sixth possible type
+ * @param <Seventh> seventh possible type
+ */
+public final class Union7View<First, Second, Third, Fourth, Fifth, Sixth, Seventh>
+        implements Union7<First, Second, Third, Fourth, Fifth, Sixth, Seventh>, Tagged {
+    private static final int FIRST = 0;
+
+    private static final int SECOND = 1;
+
+    private static final int THIRD = 2;
+
+    private static final int FOURTH = 3;
+
+    private static final int FIFTH = 4;
+
+    private static final int SIXTH = 5;
+
+    private static final int SEVENTH = 6;
+
+    private static final int VARIANTS = 7;
+
+    private final Decoder<First> first;
+
+    private final Decoder<Second> second;
+
+    private final Decoder<Third> third;
+
+    private final Decoder<Fourth> fourth;
+
+    private final Decoder<Fifth> fifth;
+
+    private final Decoder<Sixth> sixth;
+
+    private final Decoder<Seventh> seventh;
+
+    private ByteBuffer source;
+
+    private ByteBuffer cursor;
+
+    private int tag;
+
+    private int start;
+
+    /**
+     * Creates a view with one decoder per possible type, not pointing to any union yet
+     *
+     * @param first decoder of the first type
+     * @param second decoder of the second type
+     * @param third decoder of the third type
+     * @param fourth decoder of the fourth type
+     * @param fifth decoder of the fifth type
+     * @param sixth decoder of the sixth type
+     * @param seventh decoder of the seventh type
+     */
+    public Union7View(Decoder<First> first, Decoder<Second> second, Decoder<Third> third,
+            Decoder<Fourth> fourth, Decoder<Fifth> fifth, Decoder<Sixth> sixth,
+            Decoder<Seventh> seventh) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+        this.fifth = fifth;
+        this.sixth = sixth;
+        this.seventh = seventh;
+    }
+
+    /**
+     * Points the view to the union encoded at a position of a buffer. The view reads the buffer
+     * through its own duplicate, so the position of the buffer doesn't change.
+     *
+     * @param buffer the buffer
+     * @param position the position where the union starts
+     * @return this view
+     * @throws IllegalArgumentException if there is no valid tag at the position
+     */
+    public Union7View<First, Second, Third, Fourth, Fifth, Sixth, Seventh> wrap(ByteBuffer buffer,
+            int position) {
+        if (buffer != source) {
+            source = buffer;
+            cursor = buffer.duplicate().order(buffer.order());
+        }
+        cursor.limit(buffer.limit());
+        cursor.position(position);
+        final int tag = Codecs.readVarint(cursor);
+        if (tag >= VARIANTS) {
+            throw new IllegalArgumentException("Unknown tag " + tag + " for a Union7");
+        }
+        this.tag = tag;
+        start = cursor.position();
+        return this;
+    }
+
+    /**
+     * Position where the union the view points to ends, which is where the next one starts
+     *
+     * @return the position after the union
+     */
+    public int next() {
+        final ByteBuffer payload = payload();
+        switch (tag) {
+            case FIRST:
+                first.skip(payload);
+                break;
+            case SECOND:
+                second.skip(payload);
+                break;
+            case THIRD:
+                third.skip(payload);
+                break;
+            case FOURTH:
+                fourth.skip(payload);
+                break;
+            case FIFTH:
+                fifth.skip(payload);
+                break;
+            case SIXTH:
+                sixth.skip(payload);
+                break;
+            default:
+                seventh.skip(payload);
+        }
+        return payload.position();
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    public void continued(Consumer<First> continuationFirst, Consumer<Second> continuationSecond,
+            Consumer<Third> continuationThird, Consumer<Fourth> continuationFourth,
+            Consumer<Fifth> continuationFifth, Consumer<Sixth> continuationSixth,
+            Consumer<Seventh> continuationSeventh) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(first.decode(payload()));
+                break;
+            case SECOND:
+                continuationSecond.accept(second.decode(payload()));
+                break;
+            case THIRD:
+                continuationThird.accept(third.decode(payload()));
+                break;
+            case FOURTH:
+                continuationFourth.accept(fourth.decode(payload()));
+                break;
+            case FIFTH:
+                continuationFifth.accept(fifth.decode(payload()));
+                break;
+            case SIXTH:
+                continuationSixth.accept(sixth.decode(payload()));
+                break;
+            default:
+                continuationSeventh.accept(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public <X> void continued(X context, BiConsumer<X, First> continuationFirst,
+            BiConsumer<X, Second> continuationSecond, BiConsumer<X, Third> continuationThird,
+            BiConsumer<X, Fourth> continuationFourth, BiConsumer<X, Fifth> continuationFifth,
+            BiConsumer<X, Sixth> continuationSixth, BiConsumer<X, Seventh> continuationSeventh) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, first.decode(payload()));
+                break;
+            case SECOND:
+                continuationSecond.accept(context, second.decode(payload()));
+                break;
+            case THIRD:
+                continuationThird.accept(context, third.decode(payload()));
+                break;
+            case FOURTH:
+                continuationFourth.accept(context, fourth.decode(payload()));
+                break;
+            case FIFTH:
+                continuationFifth.accept(context, fifth.decode(payload()));
+                break;
+            case SIXTH:
+                continuationSixth.accept(context, sixth.decode(payload()));
+                break;
+            default:
+                continuationSeventh.accept(context, seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond,
+            Function<Third, R> mapThird, Function<Fourth, R> mapFourth, Function<Fifth, R> mapFifth,
+            Function<Sixth, R> mapSixth, Function<Seventh, R> mapSeventh) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(first.decode(payload()));
+            case SECOND:
+                return mapSecond.apply(second.decode(payload()));
+            case THIRD:
+                return mapThird.apply(third.decode(payload()));
+            case FOURTH:
+                return mapFourth.apply(fourth.decode(payload()));
+            case FIFTH:
+                return mapFifth.apply(fifth.decode(payload()));
+            case SIXTH:
+                return mapSixth.apply(sixth.decode(payload()));
+            default:
+                return mapSeventh.apply(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public <R> R join(
+            Union7.Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first(first.decode(payload()));
+            case SECOND:
+                return matcher.second(second.decode(payload()));
+            case THIRD:
+                return matcher.third(third.decode(payload()));
+            case FOURTH:
+                return matcher.fourth(fourth.decode(payload()));
+            case FIFTH:
+                return matcher.fifth(fifth.decode(payload()));
+            case SIXTH:
+                return matcher.sixth(sixth.decode(payload()));
+            default:
+                return matcher.seventh(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, First, R> mapFirst,
+            BiFunction<X, Second, R> mapSecond, BiFunction<X, Third, R> mapThird,
+            BiFunction<X, Fourth, R> mapFourth, BiFunction<X, Fifth, R> mapFifth,
+            BiFunction<X, Sixth, R> mapSixth, BiFunction<X, Seventh, R> mapSeventh) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, first.decode(payload()));
+            case SECOND:
+                return mapSecond.apply(context, second.decode(payload()));
+            case THIRD:
+                return mapThird.apply(context, third.decode(payload()));
+            case FOURTH:
+                return mapFourth.apply(context, fourth.decode(payload()));
+            case FIFTH:
+                return mapFifth.apply(context, fifth.decode(payload()));
+            case SIXTH:
+                return mapSixth.apply(context, sixth.decode(payload()));
+            default:
+                return mapSeventh.apply(context, seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<First> mapFirst, ToIntFunction<Second> mapSecond,
+            ToIntFunction<Third> mapThird, ToIntFunction<Fourth> mapFourth,
+            ToIntFunction<Fifth> mapFifth, ToIntFunction<Sixth> mapSixth,
+            ToIntFunction<Seventh> mapSeventh) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt(first.decode(payload()));
+            case SECOND:
+                return mapSecond.applyAsInt(second.decode(payload()));
+            case THIRD:
+                return mapThird.applyAsInt(third.decode(payload()));
+            case FOURTH:
+                return mapFourth.applyAsInt(fourth.decode(payload()));
+            case FIFTH:
+                return mapFifth.applyAsInt(fifth.decode(payload()));
+            case SIXTH:
+                return mapSixth.applyAsInt(sixth.decode(payload()));
+            default:
+                return mapSeventh.applyAsInt(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<First> mapFirst, ToLongFunction<Second> mapSecond,
+            ToLongFunction<Third> mapThird, ToLongFunction<Fourth> mapFourth,
+            ToLongFunction<Fifth> mapFifth, ToLongFunction<Sixth> mapSixth,
+            ToLongFunction<Seventh> mapSeventh) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong(first.decode(payload()));
+            case SECOND:
+                return mapSecond.applyAsLong(second.decode(payload()));
+            case THIRD:
+                return mapThird.applyAsLong(third.decode(payload()));
+            case FOURTH:
+                return mapFourth.applyAsLong(fourth.decode(payload()));
+            case FIFTH:
+                return mapFifth.applyAsLong(fifth.decode(payload()));
+            case SIXTH:
+                return mapSixth.applyAsLong(sixth.decode(payload()));
+            default:
+                return mapSeventh.applyAsLong(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<First> mapFirst, ToDoubleFunction<Second> mapSecond,
+            ToDoubleFunction<Third> mapThird, ToDoubleFunction<Fourth> mapFourth,
+            ToDoubleFunction<Fifth> mapFifth, ToDoubleFunction<Sixth> mapSixth,
+            ToDoubleFunction<Seventh> mapSeventh) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble(first.decode(payload()));
+            case SECOND:
+                return mapSecond.applyAsDouble(second.decode(payload()));
+            case THIRD:
+                return mapThird.applyAsDouble(third.decode(payload()));
+            case FOURTH:
+                return mapFourth.applyAsDouble(fourth.decode(payload()));
+            case FIFTH:
+                return mapFifth.applyAsDouble(fifth.decode(payload()));
+            case SIXTH:
+                return mapSixth.applyAsDouble(sixth.decode(payload()));
+            default:
+                return mapSeventh.applyAsDouble(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<First> mapFirst, Predicate<Second> mapSecond,
+            Predicate<Third> mapThird, Predicate<Fourth> mapFourth, Predicate<Fifth> mapFifth,
+            Predicate<Sixth> mapSixth, Predicate<Seventh> mapSeventh) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test(first.decode(payload()));
+            case SECOND:
+                return mapSecond.test(second.decode(payload()));
+            case THIRD:
+                return mapThird.test(third.decode(payload()));
+            case FOURTH:
+                return mapFourth.test(fourth.decode(payload()));
+            case FIFTH:
+                return mapFifth.test(fifth.decode(payload()));
+            case SIXTH:
+                return mapSixth.test(sixth.decode(payload()));
+            default:
+                return mapSeventh.test(seventh.decode(payload()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return join(String::valueOf, String::valueOf, String::valueOf, String::valueOf,
+                String::valueOf, String::valueOf, String::valueOf);
+    }
+
+    private ByteBuffer payload() {
+        cursor.position(start);
+        return cursor;
+    }
+}
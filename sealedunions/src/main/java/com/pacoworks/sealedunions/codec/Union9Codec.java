@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Union9;
+
+import java.nio.ByteBuffer;
+import java.util.function.BiConsumer;
+
+/**
+ * Codec for {@link Union9}: the position of the type held, as a variable length integer, followed
+ * by the value written by the codec of that type. Decoding passes the value straight to the
+ * factory, so nothing but the value and the union is created.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ * @param <Fourth> fourth possible type
+ * @param <Fifth> fifth possible type
+ * @param <Sixth> sixth possible type
+ * @param <Seventh> seventh possible type
+ * @param <Eighth> eighth possible type
+ * @param <Ninth> ninth possible type
+ */
+public final class Union9Codec<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth, Ninth>
+        implements Codec<Union9<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth,
+                Ninth>> {
+    private final Union9.Factory<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth,
+            Ninth> factory;
+
+    private final Codec<First> first;
+
+    private final Codec<Second> second;
+
+    private final Codec<Third> third;
+
+    private final Codec<Fourth> fourth;
+
+    private final Codec<Fifth> fifth;
+
+    private final Codec<Sixth> sixth;
+
+    private final Codec<Seventh> seventh;
+
+    private final Codec<Eighth> eighth;
+
+    private final Codec<Ninth> ninth;
+
+    private final BiConsumer<ByteBuffer, First> writeFirst;
+
+    private final BiConsumer<ByteBuffer, Second> writeSecond;
+
+    private final BiConsumer<ByteBuffer, Third> writeThird;
+
+    private final BiConsumer<ByteBuffer, Fourth> writeFourth;
+
+    private final BiConsumer<ByteBuffer, Fifth> writeFifth;
+
+    private final BiConsumer<ByteBuffer, Sixth> writeSixth;
+
+    private final BiConsumer<ByteBuffer, Seventh> writeSeventh;
+
+    private final BiConsumer<ByteBuffer, Eighth> writeEighth;
+
+    private final BiConsumer<ByteBuffer, Ninth> writeNinth;
+
+    /**
+     * Creates a codec with one codec per possible type
+     *
+     * @param factory the factory creating the decoded unions
+     * @param first codec of the first type
+     * @param second codec of the second type
+     * @param third codec of the third type
+     * @param fourth codec of the fourth type
+     * @param fifth codec of the fifth type
+     * @param sixth codec of the sixth type
+     * @param seventh codec of the seventh type
+     * @param eighth codec of the eighth type
+     * @param ninth codec of the ninth type
+     */
+    public Union9Codec(
+            Union9.Factory<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth,
+                    Ninth> factory, Codec<First> first, Codec<Second> second, Codec<Third> third,
+            Codec<Fourth> fourth, Codec<Fifth> fifth, Codec<Sixth> sixth, Codec<Seventh> seventh,
+            Codec<Eighth> eighth, Codec<Ninth> ninth) {
+        this.factory = factory;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+        this.fifth = fifth;
+        this.sixth = sixth;
+        this.seventh = seventh;
+        this.eighth = eighth;
+        this.ninth = ninth;
+        this.writeFirst = (target, value) -> {
+            Codecs.writeVarint(target, 0);
+            first.encode(target, value);
+        };
+        this.writeSecond = (target, value) -> {
+            Codecs.writeVarint(target, 1);
+            second.encode(target, value);
+        };
+        this.writeThird = (target, value) -> {
+            Codecs.writeVarint(target, 2);
+            third.encode(target, value);
+        };
+        this.writeFourth = (target, value) -> {
+            Codecs.writeVarint(target, 3);
+            fourth.encode(target, value);
+        };
+        this.writeFifth = (target, value) -> {
+            Codecs.writeVarint(target, 4);
+            fifth.encode(target, value);
+        };
+        this.writeSixth = (target, value) -> {
+            Codecs.writeVarint(target, 5);
+            sixth.encode(target, value);
+        };
+        this.writeSeventh = (target, value) -> {
+            Codecs.writeVarint(target, 6);
+            seventh.encode(target, value);
+        };
+        this.writeEighth = (target, value) -> {
+            Codecs.writeVarint(target, 7);
+            eighth.encode(target, value);
+        };
+        this.writeNinth = (target, value) -> {
+            Codecs.writeVarint(target, 8);
+            ninth.encode(target, value);
+        };
+    }
+
+    @Override
+    public void encode(ByteBuffer buffer,
+            Union9<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth, Ninth> union) {
+        union.continued(buffer, writeFirst, writeSecond, writeThird, writeFourth, writeFifth,
+                writeSixth, writeSeventh, writeEighth, writeNinth);
+    }
+
+    @Override
+    public Union9<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth, Ninth> decode(
+            ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                return factory.first(first.decode(buffer));
+            case 1:
+                return factory.second(second.decode(buffer));
+            case 2:
+                return factory.third(third.decode(buffer));
+            case 3:
+                return factory.fourth(fourth.decode(buffer));
+            case 4:
+                return factory.fifth(fifth.decode(buffer));
+            case 5:
+                return factory.sixth(sixth.decode(buffer));
+            case 6:
+                return factory.seventh(seventh.decode(buffer));
+            case 7:
+                return factory.eighth(eighth.decode(buffer));
+            case 8:
+                return factory.ninth(ninth.decode(buffer));
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union9");
+        }
+    }
+
+    @Override
+    public void skip(ByteBuffer buffer) {
+        final int tag = Codecs.readVarint(buffer);
+        switch (tag) {
+            case 0:
+                first.skip(buffer);
+                break;
+            case 1:
+                second.skip(buffer);
+                break;
+            case 2:
+                third.skip(buffer);
+                break;
+            case 3:
+                fourth.skip(buffer);
+                break;
+            case 4:
+                fifth.skip(buffer);
+                break;
+            case 5:
+                sixth.skip(buffer);
+                break;
+            case 6:
+                seventh.skip(buffer);
+                break;
+            case 7:
+                eighth.skip(buffer);
+                break;
+            case 8:
+                ninth.skip(buffer);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag " + tag + " for a Union9");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Columnar storage backing the union arrays: a byte tag per element in insertion order, plus a
+ * dense column per variant holding only the values of that variant.
+ */
+final class Columns {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final byte[] EMPTY_TAGS = {};
+
+    private static final Object[] EMPTY_VALUES = {};
+
+    byte[] tags;
+
+    final Object[][] values;
+
+    final int[] counts;
+
+    int size;
+
+    Columns(int variants, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        tags = capacity == 0 ? EMPTY_TAGS : new byte[capacity];
+        values = new Object[variants][];
+        Arrays.fill(values, EMPTY_VALUES);
+        counts = new int[variants];
+    }
+
+    void add(int tag, Object value) {
+        addTag(tag);
+        Object[] column = values[tag];
+        final int count = counts[tag];
+        if (count == column.length) {
+            column = values[tag] = Arrays.copyOf(column, grow(count));
+        }
+        column[count] = value;
+        counts[tag] = count + 1;
+    }
+
+    void addEmpty(int tag) {
+        addTag(tag);
+        counts[tag]++;
+    }
+
+    private void addTag(int tag) {
+        if (size == tags.length) {
+            tags = Arrays.copyOf(tags, grow(size));
+        }
+        tags[size++] = (byte)tag;
+    }
+
+    int[] countByVariant() {
+        return counts.clone();
+    }
+
+    <T> List<T> column(int tag) {
+        return new Column<>(this, tag);
+    }
+
+    void trimToSize() {
+        tags = Arrays.copyOf(tags, size);
+        for (int tag = 0; tag < values.length; tag++) {
+            if (values[tag].length > counts[tag]) {
+                values[tag] = Arrays.copyOf(values[tag], counts[tag]);
+            }
+        }
+    }
+
+    private static int grow(int length) {
+        final int grown = length + (length >> 1);
+        if (grown < 0) {
+            throw new OutOfMemoryError("Columns too large");
+        }
+        return Math.max(grown, DEFAULT_CAPACITY);
+    }
+
+    /* Read-only view of the values of a variant, following the column when it grows */
+    private static final class Column<T> extends AbstractList<T> implements RandomAccess {
+        private final Columns columns;
+
+        private final int tag;
+
+        Column(Columns columns, int tag) {
+            this.columns = columns;
+            this.tag = tag;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= columns.counts[tag]) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return (T)columns.values[tag][index];
+        }
+
+        @Override
+        public int size() {
+            return columns.counts[tag];
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+/**
+ * Per-variant results of partitioning {@link com.pacoworks.sealedunions.Union2} elements with
+ * {@link UnionCollectors}
+ *
+ * @param <First> result type for the first variant
+ * @param <Second> result type for the second variant
+ */
+public final class Partition2<First, Second> {
+    private final First first;
+
+    private final Second second;
+
+    Partition2(First first, Second second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * @return the result for the elements of the first variant
+     */
+    public First first() {
+        return first;
+    }
+
+    /**
+     * @return the result for the elements of the second variant
+     */
+    public Second second() {
+        return second;
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof Partition2))
+            return false;
+        final Partition2 other = (Partition2)o;
+        final Object this$first = this.first;
+        final Object other$first = other.first;
+        if (this$first == null ? other$first != null : !this$first.equals(other$first))
+            return false;
+        final Object this$second = this.second;
+        final Object other$second = other.second;
+        return this$second == null ? other$second == null : this$second.equals(other$second);
+    }
+
+    public int hashCode() {
+        final int PRIME = 59;
+        int result = 1;
+        final Object $first = this.first;
+        result = result * PRIME + ($first == null ? 0 : $first.hashCode());
+        final Object $second = this.second;
+        result = result * PRIME + ($second == null ? 0 : $second.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Partition2(first=" + first + ", second=" + second + ")";
+    }
+}
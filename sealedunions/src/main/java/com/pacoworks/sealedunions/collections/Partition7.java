@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+/**
+ * Per-variant results of partitioning {@link com.pacoworks.sealedunions.Union7} elements with
+ * {@link UnionCollectors}
+ *
+ * @param <First> result type for the first variant
+ * @param <Second> result type for the second variant
+ * @param <Third> result type for the third variant
+ * @param <Fourth> result type for the fourth variant
+ * @param <Fifth> result type for the fifth variant
+ * @param <Sixth> result type for the sixth variant
+ * @param <Seventh> result type for the seventh variant
+ */
+public final class Partition7<First, Second, Third, Fourth, Fifth, Sixth, Seventh> {
+    private final First first;
+
+    private final Second second;
+
+    private final Third third;
+
+    private final Fourth fourth;
+
+    private final Fifth fifth;
+
+    private final Sixth sixth;
+
+    private final Seventh seventh;
+
+    Partition7(First first, Second second, Third third, Fourth fourth, Fifth fifth, Sixth sixth,
+            Seventh seventh) {
+        this.first = first;
+        this.second = second;
+        this.third = third;
+        this.fourth = fourth;
+        this.fifth = fifth;
+        this.sixth = sixth;
+        this.seventh = seventh;
+    }
+
+    /**
+     * @return the result for the elements of the first variant
+     */
+    public First first() {
+        return first;
+    }
+
+    /**
+     * @return the result for the elements of the second variant
+     */
+    public Second second() {
+        return second;
+    }
+
+    /**
+     * @return the result for the elements of the third variant
+     */
+    public Third third() {
+        return third;
+    }
+
+    /**
+     * @return the result for the elements of the fourth variant
+     */
+    public Fourth fourth() {
+        return fourth;
+    }
+
+    /**
+     * @return the result for the elements of the fifth variant
+     */
+    public Fifth fifth() {
+        return fifth;
+    }
+
+    /**
+     * @return the result for the elements of the sixth variant
+     */
+    public Sixth sixth() {
+        return sixth;
+    }
+
+    /**
+     * @return the result for the elements of the seventh variant
+     */
+    public Seventh seventh() {
+        return seventh;
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof Partition7))
+            return false;
+        final Partition7 other = (Partition7)o;
+        final Object this$first = this.first;
+        final Object other$first = other.first;
+        if (this$first == null ? other$first != null : !this$first.equals(other$first))
+            return false;
+        final Object this$second = this.second;
+        final Object other$second = other.second;
+        if (this$second == null ? other$second != null : !this$second.equals(other$second))
+            return false;
+        final Object this$third = this.third;
+        final Object other$third = other.third;
+        if (this$third == null ? other$third != null : !this$third.equals(other$third))
+            return false;
+        final Object this$fourth = this.fourth;
+        final Object other$fourth = other.fourth;
+        if (this$fourth == null ? other$fourth != null : !this$fourth.equals(other$fourth))
+            return false;
+        final Object this$fifth = this.fifth;
+        final Object other$fifth = other.fifth;
+        if (this$fifth == null ? other$fifth != null : !this$fifth.equals(other$fifth))
+            return false;
+        final Object this$sixth = this.sixth;
+        final Object other$sixth = other.sixth;
+        if (this$sixth == null ? other$sixth != null : !this$sixth.equals(other$sixth))
+            return false;
+        final Object this$seventh = this.seventh;
+        final Object other$seventh = other.seventh;
+        return this$seventh == null ? other$seventh == null : this$seventh.equals(other$seventh);
+    }
+
+    public int hashCode() {
+        final int PRIME = 59;
+        int result = 1;
+        final Object $first = this.first;
+        result = result * PRIME + ($first == null ? 0 : $first.hashCode());
+        final Object $second = this.second;
+        result = result * PRIME + ($second == null ? 0 : $second.hashCode());
+        final Object $third = this.third;
+        result = result * PRIME + ($third == null ? 0 : $third.hashCode());
+        final Object $fourth = this.fourth;
+        result = result * PRIME + ($fourth == null ? 0 : $fourth.hashCode());
+        final Object $fifth = this.fifth;
+        result = result * PRIME + ($fifth == null ? 0 : $fifth.hashCode());
+        final Object $sixth = this.sixth;
+        result = result * PRIME + ($sixth == null ? 0 : $sixth.hashCode());
+        final Object $seventh = this.seventh;
+        result = result * PRIME + ($seventh == null ? 0 : $seventh.hashCode());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Partition7(first=" + first + ", second=" + second + ", third=" + third
+                + ", fourth=" + fourth + ", fifth=" + fifth + ", sixth=" + sixth
+                + ", seventh=" + seventh + ")";
+    }
+}
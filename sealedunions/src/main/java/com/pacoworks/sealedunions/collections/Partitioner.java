@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Shared core of the partitioning collectors: keeps one downstream container per variant and
+ * forwards every element to the container of its variant. The containers are passed as context to
+ * {@code continued}, so accumulating an element doesn't create any lambdas.
+ */
+final class Partitioner {
+    private final Collector<Object, Object, Object>[] downstreams;
+
+    private final BiConsumer<Object, Object>[] accumulators;
+
+    private final Collector.Characteristics[] characteristics;
+
+    @SuppressWarnings("unchecked")
+    Partitioner(Collector<?, ?, ?>... downstreams) {
+        this.downstreams = (Collector<Object, Object, Object>[])downstreams;
+        this.accumulators = (BiConsumer<Object, Object>[])new BiConsumer<?, ?>[downstreams.length];
+        for (int variant = 0; variant < downstreams.length; variant++) {
+            accumulators[variant] = this.downstreams[variant].accumulator();
+        }
+        this.characteristics = isUnordered(downstreams) ? new Collector.Characteristics[] {
+                Collector.Characteristics.UNORDERED
+        } : new Collector.Characteristics[0];
+    }
+
+    <T, R> Collector<T, Containers, R> collector(BiConsumer<Containers, T> accumulator,
+            Function<Object[], R> finisher) {
+        return Collector.of(this::supply, accumulator, this::combine,
+                containers -> finisher.apply(finish(containers)), characteristics);
+    }
+
+    private Containers supply() {
+        final Object[] values = new Object[downstreams.length];
+        for (int variant = 0; variant < downstreams.length; variant++) {
+            values[variant] = downstreams[variant].supplier().get();
+        }
+        return new Containers(accumulators, values);
+    }
+
+    private Containers combine(Containers left, Containers right) {
+        for (int variant = 0; variant < downstreams.length; variant++) {
+            left.values[variant] = downstreams[variant].combiner().apply(left.values[variant],
+                    right.values[variant]);
+        }
+        return left;
+    }
+
+    private Object[] finish(Containers containers) {
+        final Object[] results = new Object[downstreams.length];
+        for (int variant = 0; variant < downstreams.length; variant++) {
+            results[variant] = downstreams[variant].finisher().apply(containers.values[variant]);
+        }
+        return results;
+    }
+
+    private static boolean isUnordered(Collector<?, ?, ?>[] downstreams) {
+        for (Collector<?, ?, ?> downstream : downstreams) {
+            if (!downstream.characteristics().contains(Collector.Characteristics.UNORDERED)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static final class Containers {
+        private final BiConsumer<Object, Object>[] accumulators;
+
+        private final Object[] values;
+
+        Containers(BiConsumer<Object, Object>[] accumulators, Object[] values) {
+            this.accumulators = accumulators;
+            this.values = values;
+        }
+
+        void accumulate(int variant, Object value) {
+            accumulators[variant].accept(values[variant], value);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Every state a machine can reach from its initial state, numbered in the order they are found,
+ * with the state each event leads to precomputed into an {@code int[][]} table. Once the table is
+ * built, stepping the machine is an array read that doesn't run the transition function or
+ * allocate.
+ * <p>
+ * States are usually unions and are told apart with {@code equals} and {@code hashCode}, so the
+ * same state must always compare equal. The set of reachable states must be finite.
+ *
+ * @param <S> type of the states
+ * @param <E> type of the events
+ */
+public final class StateTable<S, E> {
+    /**
+     * Index of the initial state
+     */
+    public static final int INITIAL = 0;
+
+    private final List<S> states;
+
+    private final List<E> events;
+
+    private final Map<S, Integer> indexes;
+
+    private final int[][] transitions;
+
+    private StateTable(List<S> states, List<E> events, Map<S, Integer> indexes,
+            int[][] transitions) {
+        this.states = states;
+        this.events = events;
+        this.indexes = indexes;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Finds every state reachable from the initial one, breadth first, applying every event to
+     * every state once
+     *
+     * @param initial the initial state
+     * @param events the events, whose positions are used as event indexes
+     * @param transition function returning the state an event leads to
+     * @return the table of states and transitions
+     */
+    public static <S, E> StateTable<S, E> explore(S initial, List<E> events,
+            BiFunction<S, E, S> transition) {
+        final List<E> eventList = Collections.unmodifiableList(new ArrayList<>(events));
+        final List<S> states = new ArrayList<>();
+        final Map<S, Integer> indexes = new HashMap<>();
+        final List<int[]> rows = new ArrayList<>();
+        states.add(initial);
+        indexes.put(initial, INITIAL);
+        for (int state = 0; state < states.size(); state++) {
+            final int[] row = new int[eventList.size()];
+            for (int event = 0; event < row.length; event++) {
+                final S next = transition.apply(states.get(state), eventList.get(event));
+                Integer index = indexes.get(next);
+                if (index == null) {
+                    index = states.size();
+                    states.add(next);
+                    indexes.put(next, index);
+                }
+                row[event] = index;
+            }
+            rows.add(row);
+        }
+        return new StateTable<>(Collections.unmodifiableList(states), eventList, indexes,
+                rows.toArray(new int[rows.size()][]));
+    }
+
+    /**
+     * Index of the state an event leads to
+     *
+     * @param state index of the current state
+     * @param event index of the event
+     * @return index of the next state
+     * @throws ArrayIndexOutOfBoundsException if either index is out of range
+     */
+    public int next(int state, int event) {
+        return transitions[state][event];
+    }
+
+    /**
+     * Index of the state a sequence of events leads to
+     *
+     * @param state index of the current state
+     * @param events indexes of the events, in order
+     * @return index of the state after the last event
+     * @throws ArrayIndexOutOfBoundsException if any index is out of range
+     */
+    public int run(int state, int[] events) {
+        final int[][] transitions = this.transitions;
+        int current = state;
+        for (int event : events) {
+            current = transitions[current][event];
+        }
+        return current;
+    }
+
+    /**
+     * State at an index
+     *
+     * @param state index of the state
+     * @return the state
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public S state(int state) {
+        return states.get(state);
+    }
+
+    /**
+     * Index of a state
+     *
+     * @param state the state
+     * @return the index of the state, or -1 if it can't be reached from the initial state
+     */
+    public int indexOf(S state) {
+        final Integer index = indexes.get(state);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Index of an event
+     *
+     * @param event the event
+     * @return the index of the event, or -1 if it isn't one of the events of the table
+     */
+    public int eventIndexOf(E event) {
+        return events.indexOf(event);
+    }
+
+    /**
+     * Reachable states, in index order
+     *
+     * @return an unmodifiable list of the states
+     */
+    public List<S> states() {
+        return states;
+    }
+
+    /**
+     * Events, in index order
+     *
+     * @return an unmodifiable list of the events
+     */
+    public List<E> events() {
+        return events;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Columnar collection of {@link Union2} elements, each holding a value of one of 2 possible types.
+ * Elements are stored as a byte tag in insertion order and a dense column of values per variant, so
+ * no wrapper object is kept per element.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ */
+public final class Union2Array<First, Second> {
+    private static final byte FIRST = 0;
+
+    private static final byte SECOND = 1;
+
+    private final Columns columns;
+
+    /**
+     * Creates an empty array
+     */
+    public Union2Array() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty array with room for the given number of elements
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public Union2Array(int initialCapacity) {
+        columns = new Columns(2, initialCapacity);
+    }
+
+    /**
+     * Appends the element in the union
+     *
+     * @param union the union
+     */
+    public void add(Union2<First, Second> union) {
+        union.continued(this::addFirst, this::addSecond);
+    }
+
+    /**
+     * Appends a value of the first type
+     *
+     * @param value the value
+     */
+    public void addFirst(First value) {
+        columns.add(FIRST, value);
+    }
+
+    /**
+     * Appends a value of the second type
+     *
+     * @param value the value
+     */
+    public void addSecond(Second value) {
+        columns.add(SECOND, value);
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return columns.size;
+    }
+
+    /**
+     * @return true if the array has no elements
+     */
+    public boolean isEmpty() {
+        return columns.size == 0;
+    }
+
+    /**
+     * Counts the elements of each variant
+     *
+     * @return the number of elements per variant, indexed by declaration order
+     */
+    public int[] countByVariant() {
+        return columns.countByVariant();
+    }
+
+    /**
+     * Trims the backing columns to the current number of elements
+     */
+    public void trimToSize() {
+        columns.trimToSize();
+    }
+
+    /**
+     * Executes one of the continuations for each element, in insertion order
+     */
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<First> continuationFirst, Consumer<Second> continuationSecond) {
+        final int size = columns.size;
+        final byte[] tags = columns.tags;
+        final Object[] firsts = columns.values[FIRST];
+        final Object[] seconds = columns.values[SECOND];
+        int first = 0;
+        int second = 0;
+        for (int i = 0; i < size; i++) {
+            switch (tags[i]) {
+                case FIRST:
+                    continuationFirst.accept((First)firsts[first++]);
+                    break;
+                default:
+                    continuationSecond.accept((Second)seconds[second++]);
+            }
+        }
+    }
+
+    /**
+     * Transforms each element to a new type, in insertion order
+     *
+     * @param <R> result type
+     * @return a list with one result per element
+     */
+    @SuppressWarnings("unchecked")
+    public <R> List<R> join(Function<First, R> mapFirst, Function<Second, R> mapSecond) {
+        final int size = columns.size;
+        final byte[] tags = columns.tags;
+        final Object[] firsts = columns.values[FIRST];
+        final Object[] seconds = columns.values[SECOND];
+        final List<R> result = new ArrayList<>(size);
+        int first = 0;
+        int second = 0;
+        for (int i = 0; i < size; i++) {
+            switch (tags[i]) {
+                case FIRST:
+                    result.add(mapFirst.apply((First)firsts[first++]));
+                    break;
+                default:
+                    result.add(mapSecond.apply((Second)seconds[second++]));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union5;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * List of {@link Union5} elements that also keeps the values of each variant in a dense column, so
+ * {@link #seconds()} and the other per-variant lists visit only the elements holding that type, in
+ * insertion order, without calling {@code join} on every element.
+ * <p>
+ * Elements can only be appended.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ * @param <Fourth> fourth possible type
+ * @param <Fifth> fifth possible type
+ */
+public final class Union5Store<First, Second, Third, Fourth, Fifth>
+        extends AbstractList<Union5<First, Second, Third, Fourth, Fifth>> implements RandomAccess {
+    private static final byte FIRST = 0;
+
+    private static final byte SECOND = 1;
+
+    private static final byte THIRD = 2;
+
+    private static final byte FOURTH = 3;
+
+    private static final byte FIFTH = 4;
+
+    private final ArrayList<Union5<First, Second, Third, Fourth, Fifth>> elements;
+
+    private final Columns columns;
+
+    private final Consumer<First> storeFirst;
+
+    private final Consumer<Second> storeSecond;
+
+    private final Consumer<Third> storeThird;
+
+    private final Consumer<Fourth> storeFourth;
+
+    private final Consumer<Fifth> storeFifth;
+
+    /**
+     * Creates an empty store
+     */
+    public Union5Store() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty store with room for the given number of elements
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public Union5Store(int initialCapacity) {
+        columns = new Columns(5, initialCapacity);
+        elements = new ArrayList<>(initialCapacity);
+        storeFirst = value -> columns.add(FIRST, value);
+        storeSecond = value -> columns.add(SECOND, value);
+        storeThird = value -> columns.add(THIRD, value);
+        storeFourth = value -> columns.add(FOURTH, value);
+        storeFifth = value -> columns.add(FIFTH, value);
+    }
+
+    /**
+     * Appends the union, and its value to the column of the type it holds
+     *
+     * @param union the union
+     * @return true
+     */
+    @Override
+    public boolean add(Union5<First, Second, Third, Fourth, Fifth> union) {
+        union.continued(storeFirst, storeSecond, storeThird, storeFourth, storeFifth);
+        elements.add(union);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Union5<First, Second, Third, Fourth, Fifth> get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Values of the elements holding the first type, in insertion order. The list is a read-only
+     * view that reflects later additions.
+     *
+     * @return the values of the first type
+     */
+    public List<First> firsts() {
+        return columns.column(FIRST);
+    }
+
+    /**
+     * Values of the elements holding the second type, in insertion order. The list is a read-only
+     * view that reflects later additions.
+     *
+     * @return the values of the second type
+     */
+    public List<Second> seconds() {
+        return columns.column(SECOND);
+    }
+
+    /**
+     * Values of the elements holding the third type, in insertion order. The list is a read-only
+     * view that reflects later additions.
+     *
+     * @return the values of the third type
+     */
+    public List<Third> thirds() {
+        return columns.column(THIRD);
+    }
+
+    /**
+     * Values of the elements holding the fourth type, in insertion order. The list is a read-only
+     * view that reflects later additions.
+     *
+     * @return the values of the fourth type
+     */
+    public List<Fourth> fourths() {
+        return columns.column(FOURTH);
+    }
+
+    /**
+     * Values of the elements holding the fifth type, in insertion order. The list is a read-only
+     * view that reflects later additions.
+     *
+     * @return the values of the fifth type
+     */
+    public List<Fifth> fifths() {
+        return columns.column(FIFTH);
+    }
+
+    /**
+     * Counts the elements of each variant without traversing them
+     *
+     * @return the number of elements per variant, indexed by declaration order
+     */
+    public int[] countByVariant() {
+        return columns.countByVariant();
+    }
+
+    /**
+     * Trims the backing list and columns to the current number of elements
+     */
+    public void trimToSize() {
+        elements.trimToSize();
+        columns.trimToSize();
+    }
+}
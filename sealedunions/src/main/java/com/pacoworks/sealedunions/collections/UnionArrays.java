@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bulk {@code join} and {@code continued} over arrays of unions, split across the common
+ * {@link ForkJoinPool}. The functions are bound once per call instead of once per element, and
+ * each task works on a contiguous range of the array large enough to amortize forking it.
+ */
+public final class UnionArrays {
+    /* Below this many elements per task, forking costs more than the dispatch it spreads */
+    private static final int MIN_LEAF_SIZE = 1 << 12;
+
+    private UnionArrays() {
+        // No instances.
+    }
+
+    /**
+     * Transforms every {@link Union0} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, R> void parallelJoin(Union0<A>[] in, R[] out, Function<A, R> mapFirst) {
+        map(in, out, union -> union.join(mapFirst));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union0} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A> void parallelContinued(Union0<A>[] in, Consumer<A> continuationFirst) {
+        forEach(in, union -> union.continued(continuationFirst));
+    }
+
+    /**
+     * Transforms every {@link Union1} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, R> void parallelJoin(Union1<A>[] in, R[] out, Function<A, R> mapFirst,
+            Supplier<R> mapNone) {
+        map(in, out, union -> union.join(mapFirst, mapNone));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union1} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A> void parallelContinued(Union1<A>[] in, Consumer<A> continuationFirst,
+            Runnable continuationNone) {
+        forEach(in, union -> union.continued(continuationFirst, continuationNone));
+    }
+
+    /**
+     * Transforms every {@link Union2} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, R> void parallelJoin(Union2<A, B>[] in, R[] out, Function<A, R> mapFirst,
+            Function<B, R> mapSecond) {
+        map(in, out, union -> union.join(mapFirst, mapSecond));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union2} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B> void parallelContinued(Union2<A, B>[] in, Consumer<A> continuationFirst,
+            Consumer<B> continuationSecond) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond));
+    }
+
+    /**
+     * Transforms every {@link Union3} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, R> void parallelJoin(Union3<A, B, C>[] in, R[] out,
+            Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union3} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C> void parallelContinued(Union3<A, B, C>[] in,
+            Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird));
+    }
+
+    /**
+     * Transforms every {@link Union4} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, D, R> void parallelJoin(Union4<A, B, C, D>[] in, R[] out,
+            Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird, mapFourth));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union4} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C, D> void parallelContinued(Union4<A, B, C, D>[] in,
+            Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird, Consumer<D> continuationFourth) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird, continuationFourth));
+    }
+
+    /**
+     * Transforms every {@link Union5} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, D, E, R> void parallelJoin(Union5<A, B, C, D, E>[] in, R[] out,
+            Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth, Function<E, R> mapFifth) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union5} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C, D, E> void parallelContinued(Union5<A, B, C, D, E>[] in,
+            Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird, Consumer<D> continuationFourth,
+            Consumer<E> continuationFifth) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird, continuationFourth, continuationFifth));
+    }
+
+    /**
+     * Transforms every {@link Union6} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, D, E, F, R> void parallelJoin(Union6<A, B, C, D, E, F>[] in, R[] out,
+            Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth, Function<E, R> mapFifth, Function<F, R> mapSixth) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth,
+                mapSixth));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union6} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C, D, E, F> void parallelContinued(Union6<A, B, C, D, E, F>[] in,
+            Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird, Consumer<D> continuationFourth,
+            Consumer<E> continuationFifth, Consumer<F> continuationSixth) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird, continuationFourth, continuationFifth, continuationSixth));
+    }
+
+    /**
+     * Transforms every {@link Union7} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, D, E, F, G, R> void parallelJoin(Union7<A, B, C, D, E, F, G>[] in,
+            R[] out, Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth, Function<E, R> mapFifth, Function<F, R> mapSixth,
+            Function<G, R> mapSeventh) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth,
+                mapSixth, mapSeventh));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union7} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C, D, E, F, G> void parallelContinued(Union7<A, B, C, D, E, F, G>[] in,
+            Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird, Consumer<D> continuationFourth,
+            Consumer<E> continuationFifth, Consumer<F> continuationSixth,
+            Consumer<G> continuationSeventh) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird, continuationFourth, continuationFifth, continuationSixth,
+                continuationSeventh));
+    }
+
+    /**
+     * Transforms every {@link Union8} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, D, E, F, G, H, R> void parallelJoin(Union8<A, B, C, D, E, F, G, H>[] in,
+            R[] out, Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth, Function<E, R> mapFifth, Function<F, R> mapSixth,
+            Function<G, R> mapSeventh, Function<H, R> mapEighth) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth,
+                mapSixth, mapSeventh, mapEighth));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union8} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C, D, E, F, G, H> void parallelContinued(
+            Union8<A, B, C, D, E, F, G, H>[] in, Consumer<A> continuationFirst,
+            Consumer<B> continuationSecond, Consumer<C> continuationThird,
+            Consumer<D> continuationFourth, Consumer<E> continuationFifth,
+            Consumer<F> continuationSixth, Consumer<G> continuationSeventh,
+            Consumer<H> continuationEighth) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird, continuationFourth, continuationFifth, continuationSixth,
+                continuationSeventh, continuationEighth));
+    }
+
+    /**
+     * Transforms every {@link Union9} of an array, in parallel on the common {@link ForkJoinPool},
+     * storing each result at the same index of the output array
+     *
+     * @param in the unions
+     * @param out the array receiving the results, at least as long as the input
+     * @throws IllegalArgumentException if the output is shorter than the input
+     */
+    public static <A, B, C, D, E, F, G, H, I, R> void parallelJoin(
+            Union9<A, B, C, D, E, F, G, H, I>[] in, R[] out, Function<A, R> mapFirst,
+            Function<B, R> mapSecond, Function<C, R> mapThird, Function<D, R> mapFourth,
+            Function<E, R> mapFifth, Function<F, R> mapSixth, Function<G, R> mapSeventh,
+            Function<H, R> mapEighth, Function<I, R> mapNinth) {
+        map(in, out, union -> union.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth,
+                mapSixth, mapSeventh, mapEighth, mapNinth));
+    }
+
+    /**
+     * Executes one of the continuations for every {@link Union9} of an array, in parallel on the
+     * common {@link ForkJoinPool} and in no particular order
+     *
+     * @param in the unions
+     */
+    public static <A, B, C, D, E, F, G, H, I> void parallelContinued(
+            Union9<A, B, C, D, E, F, G, H, I>[] in, Consumer<A> continuationFirst,
+            Consumer<B> continuationSecond, Consumer<C> continuationThird,
+            Consumer<D> continuationFourth, Consumer<E> continuationFifth,
+            Consumer<F> continuationSixth, Consumer<G> continuationSeventh,
+            Consumer<H> continuationEighth, Consumer<I> continuationNinth) {
+        forEach(in, union -> union.continued(continuationFirst, continuationSecond,
+                continuationThird, continuationFourth, continuationFifth, continuationSixth,
+                continuationSeventh, continuationEighth, continuationNinth));
+    }
+
+    private static <T, R> void map(T[] in, R[] out, Function<T, R> map) {
+        if (out.length < in.length) {
+            throw new IllegalArgumentException(
+                    "Output shorter than input: " + out.length + " < " + in.length);
+        }
+        new MapTask<>(in, out, map, 0, in.length, leafSize(in.length)).invoke();
+    }
+
+    private static <T> void forEach(T[] in, Consumer<T> action) {
+        new ForEachTask<>(in, action, 0, in.length, leafSize(in.length)).invoke();
+    }
+
+    /* About four leaves per worker, so that a slow leaf can be balanced by stealing */
+    private static int leafSize(int length) {
+        return Math.max(length / (ForkJoinPool.getCommonPoolParallelism() << 2), MIN_LEAF_SIZE);
+    }
+
+    private static final class MapTask<T, R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] in;
+
+        private final R[] out;
+
+        private final Function<T, R> map;
+
+        private final int from;
+
+        private final int to;
+
+        private final int leafSize;
+
+        MapTask(T[] in, R[] out, Function<T, R> map, int from, int to, int leafSize) {
+            this.in = in;
+            this.out = out;
+            this.map = map;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int index = from; index < to; index++) {
+                    out[index] = map.apply(in[index]);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new MapTask<>(in, out, map, from, middle, leafSize),
+                        new MapTask<>(in, out, map, middle, to, leafSize));
+            }
+        }
+    }
+
+    private static final class ForEachTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] in;
+
+        private final Consumer<T> action;
+
+        private final int from;
+
+        private final int to;
+
+        private final int leafSize;
+
+        ForEachTask(T[] in, Consumer<T> action, int from, int to, int leafSize) {
+            this.in = in;
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int index = from; index < to; index++) {
+                    action.accept(in[index]);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ForEachTask<>(in, action, from, middle, leafSize),
+                        new ForEachTask<>(in, action, middle, to, leafSize));
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.*;
+
+import java.util.stream.Collector;
+
+/**
+ * Collectors splitting a stream of unions by variant in a single pass. Each variant is collected
+ * with its own downstream collector, and partial results of parallel streams are merged with the
+ * downstream combiners.
+ */
+public final class UnionCollectors {
+    private UnionCollectors() {
+        // No instances.
+    }
+
+    /**
+     * Partitions {@link Union2} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition2} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, RA, RB> Collector<Union2<A, B>, ?, Partition2<RA, RB>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second)),
+                results -> new Partition2<>((RA)results[0], (RB)results[1]));
+    }
+
+    /**
+     * Partitions {@link Union3} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition3} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, RA, RB, RC> Collector<Union3<A, B, C>, ?, Partition3<RA, RB, RC>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third)),
+                results -> new Partition3<>((RA)results[0], (RB)results[1], (RC)results[2]));
+    }
+
+    /**
+     * Partitions {@link Union4} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition4} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, RA, RB, RC, RD>
+            Collector<Union4<A, B, C, D>, ?, Partition4<RA, RB, RC, RD>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird,
+                    Collector<? super D, ?, RD> downstreamFourth) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird, downstreamFourth);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third),
+                        (target, fourth) -> target.accumulate(3, fourth)),
+                results -> new Partition4<>((RA)results[0], (RB)results[1], (RC)results[2],
+                        (RD)results[3]));
+    }
+
+    /**
+     * Partitions {@link Union5} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition5} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, RA, RB, RC, RD, RE>
+            Collector<Union5<A, B, C, D, E>, ?, Partition5<RA, RB, RC, RD, RE>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird,
+                    Collector<? super D, ?, RD> downstreamFourth,
+                    Collector<? super E, ?, RE> downstreamFifth) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird, downstreamFourth, downstreamFifth);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third),
+                        (target, fourth) -> target.accumulate(3, fourth),
+                        (target, fifth) -> target.accumulate(4, fifth)),
+                results -> new Partition5<>((RA)results[0], (RB)results[1], (RC)results[2],
+                        (RD)results[3], (RE)results[4]));
+    }
+
+    /**
+     * Partitions {@link Union6} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition6} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, RA, RB, RC, RD, RE, RF>
+            Collector<Union6<A, B, C, D, E, F>, ?, Partition6<RA, RB, RC, RD, RE, RF>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird,
+                    Collector<? super D, ?, RD> downstreamFourth,
+                    Collector<? super E, ?, RE> downstreamFifth,
+                    Collector<? super F, ?, RF> downstreamSixth) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird, downstreamFourth, downstreamFifth, downstreamSixth);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third),
+                        (target, fourth) -> target.accumulate(3, fourth),
+                        (target, fifth) -> target.accumulate(4, fifth),
+                        (target, sixth) -> target.accumulate(5, sixth)),
+                results -> new Partition6<>((RA)results[0], (RB)results[1], (RC)results[2],
+                        (RD)results[3], (RE)results[4], (RF)results[5]));
+    }
+
+    /**
+     * Partitions {@link Union7} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition7} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, RA, RB, RC, RD, RE, RF, RG>
+            Collector<Union7<A, B, C, D, E, F, G>, ?, Partition7<RA, RB, RC, RD, RE, RF, RG>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird,
+                    Collector<? super D, ?, RD> downstreamFourth,
+                    Collector<? super E, ?, RE> downstreamFifth,
+                    Collector<? super F, ?, RF> downstreamSixth,
+                    Collector<? super G, ?, RG> downstreamSeventh) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird, downstreamFourth, downstreamFifth, downstreamSixth,
+                downstreamSeventh);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third),
+                        (target, fourth) -> target.accumulate(3, fourth),
+                        (target, fifth) -> target.accumulate(4, fifth),
+                        (target, sixth) -> target.accumulate(5, sixth),
+                        (target, seventh) -> target.accumulate(6, seventh)),
+                results -> new Partition7<>((RA)results[0], (RB)results[1], (RC)results[2],
+                        (RD)results[3], (RE)results[4], (RF)results[5], (RG)results[6]));
+    }
+
+    /**
+     * Partitions {@link Union8} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition8} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, RA, RB, RC, RD, RE, RF, RG, RH>
+            Collector<Union8<A, B, C, D, E, F, G, H>, ?, Partition8<RA, RB, RC, RD, RE, RF, RG, RH>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird,
+                    Collector<? super D, ?, RD> downstreamFourth,
+                    Collector<? super E, ?, RE> downstreamFifth,
+                    Collector<? super F, ?, RF> downstreamSixth,
+                    Collector<? super G, ?, RG> downstreamSeventh,
+                    Collector<? super H, ?, RH> downstreamEighth) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird, downstreamFourth, downstreamFifth, downstreamSixth,
+                downstreamSeventh, downstreamEighth);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third),
+                        (target, fourth) -> target.accumulate(3, fourth),
+                        (target, fifth) -> target.accumulate(4, fifth),
+                        (target, sixth) -> target.accumulate(5, sixth),
+                        (target, seventh) -> target.accumulate(6, seventh),
+                        (target, eighth) -> target.accumulate(7, eighth)),
+                results -> new Partition8<>((RA)results[0], (RB)results[1], (RC)results[2],
+                        (RD)results[3], (RE)results[4], (RF)results[5], (RG)results[6],
+                        (RH)results[7]));
+    }
+
+    /**
+     * Partitions {@link Union9} elements by variant, collecting each variant with its downstream
+     * collector
+     *
+     * @return a collector producing a {@link Partition9} of the downstream results
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, RA, RB, RC, RD, RE, RF, RG, RH, RI>
+            Collector<Union9<A, B, C, D, E, F, G, H, I>, ?, Partition9<RA, RB, RC, RD, RE, RF, RG,
+                    RH, RI>>
+            partitioning(Collector<? super A, ?, RA> downstreamFirst,
+                    Collector<? super B, ?, RB> downstreamSecond,
+                    Collector<? super C, ?, RC> downstreamThird,
+                    Collector<? super D, ?, RD> downstreamFourth,
+                    Collector<? super E, ?, RE> downstreamFifth,
+                    Collector<? super F, ?, RF> downstreamSixth,
+                    Collector<? super G, ?, RG> downstreamSeventh,
+                    Collector<? super H, ?, RH> downstreamEighth,
+                    Collector<? super I, ?, RI> downstreamNinth) {
+        final Partitioner partitioner = new Partitioner(downstreamFirst, downstreamSecond,
+                downstreamThird, downstreamFourth, downstreamFifth, downstreamSixth,
+                downstreamSeventh, downstreamEighth, downstreamNinth);
+        return partitioner.collector(
+                (containers, union) -> union.continued(containers,
+                        (target, first) -> target.accumulate(0, first),
+                        (target, second) -> target.accumulate(1, second),
+                        (target, third) -> target.accumulate(2, third),
+                        (target, fourth) -> target.accumulate(3, fourth),
+                        (target, fifth) -> target.accumulate(4, fifth),
+                        (target, sixth) -> target.accumulate(5, sixth),
+                        (target, seventh) -> target.accumulate(6, seventh),
+                        (target, eighth) -> target.accumulate(7, eighth),
+                        (target, ninth) -> target.accumulate(8, ninth)),
+                results -> new Partition9<>((RA)results[0], (RB)results[1], (RC)results[2],
+                        (RD)results[3], (RE)results[4], (RF)results[5], (RG)results[6],
+                        (RH)results[7], (RI)results[8]));
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link Spliterator} over an array or a random access list of unions that splits where the
+ * variant changes. When the elements are grouped by variant, for example after sorting them by
+ * tag, each split hands out runs of a single variant, so the tasks of a parallel stream mostly
+ * dispatch to one type. Otherwise it splits next to the middle, like the spliterator of an array.
+ * <p>
+ * The spliterator is {@link #SIZED} and {@link #SUBSIZED}, and binds to the size of the list when
+ * created, so the list must not be modified while it is traversed. Elements must not be null.
+ *
+ * @param <U> type of the unions
+ */
+public final class UnionSpliterator<U> implements Spliterator<U> {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+    private final U[] array;
+
+    private final List<U> list;
+
+    private final ToIntFunction<? super U> tag;
+
+    private int from;
+
+    private final int to;
+
+    private UnionSpliterator(U[] array, List<U> list, ToIntFunction<? super U> tag, int from,
+            int to) {
+        this.array = array;
+        this.list = list;
+        this.tag = tag;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates a spliterator over an array of unions
+     *
+     * @param array the unions
+     * @param tag function returning the variant of a union, usually {@code Tagged::tagOf}
+     * @return the spliterator
+     */
+    public static <U> UnionSpliterator<U> of(U[] array, ToIntFunction<? super U> tag) {
+        return new UnionSpliterator<>(Objects.requireNonNull(array), null, tag, 0, array.length);
+    }
+
+    /**
+     * Creates a spliterator over a list of unions
+     *
+     * @param list the unions
+     * @param tag function returning the variant of a union, usually {@code Tagged::tagOf}
+     * @return the spliterator
+     * @throws IllegalArgumentException if the list doesn't implement {@link RandomAccess}
+     */
+    public static <U> UnionSpliterator<U> of(List<U> list, ToIntFunction<? super U> tag) {
+        if (!(list instanceof RandomAccess)) {
+            throw new IllegalArgumentException("List without random access: " + list.getClass());
+        }
+        return new UnionSpliterator<>(null, list, tag, 0, list.size());
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super U> action) {
+        if (from >= to) {
+            return false;
+        }
+        action.accept(get(from++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super U> action) {
+        final int start = from;
+        from = to;
+        if (array != null) {
+            for (int index = start; index < to; index++) {
+                action.accept(array[index]);
+            }
+        } else {
+            for (int index = start; index < to; index++) {
+                action.accept(list.get(index));
+            }
+        }
+    }
+
+    @Override
+    public UnionSpliterator<U> trySplit() {
+        final int start = from;
+        if (to - start < 2) {
+            return null;
+        }
+        final int split = split(start, to);
+        from = split;
+        return new UnionSpliterator<>(array, list, tag, start, split);
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /*
+     * Looks for a change of variant around the middle at doubling distances, and narrows it down by
+     * bisection once found, so a change close to the middle is found in a logarithmic number of
+     * reads. Changes are only looked for in the middle half, so both sides keep at least a quarter
+     * of the elements.
+     */
+    private int split(int start, int end) {
+        final int middle = (start + end) >>> 1;
+        final int quarter = (end - start) >>> 2;
+        final int middleTag = tagAt(middle);
+        int checked = 0;
+        while (checked < quarter) {
+            final int distance = Math.min(Math.max(checked << 1, 1), quarter);
+            if (tagAt(middle - distance) != middleTag) {
+                return changeBetween(middle - distance, middle - checked);
+            }
+            if (tagAt(middle + distance) != middleTag) {
+                return changeBetween(middle + checked, middle + distance);
+            }
+            checked = distance;
+        }
+        return middle;
+    }
+
+    /* First index after low holding another variant than low, given that high does */
+    private int changeBetween(int low, int high) {
+        final int lowTag = tagAt(low);
+        int same = low;
+        int different = high;
+        while (different - same > 1) {
+            final int index = (same + different) >>> 1;
+            if (tagAt(index) == lowTag) {
+                same = index;
+            } else {
+                different = index;
+            }
+        }
+        return different;
+    }
+
+    private int tagAt(int index) {
+        return tag.applyAsInt(get(index));
+    }
+
+    private U get(int index) {
+        return array != null ? array[index] : list.get(index);
+    }
+}
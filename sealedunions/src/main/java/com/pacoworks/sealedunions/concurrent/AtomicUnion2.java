@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.concurrent;
+
+import com.pacoworks.sealedunions.Union2;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * Holder of a {@link Union2} that can be updated atomically. Updates apply one transition per
+ * possible type in a compare-and-set loop, so readers never block and writers never lock. The
+ * transitions may run more than once when other threads update the union at the same time, and
+ * must not have side effects.
+ * <p>
+ * Unions are compared by identity, not with {@code equals}.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ */
+public final class AtomicUnion2<First, Second> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicUnion2, Union2> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(AtomicUnion2.class, Union2.class, "value");
+
+    private volatile Union2<First, Second> value;
+
+    /**
+     * Creates a holder with an initial union
+     *
+     * @param initial the initial union
+     */
+    public AtomicUnion2(Union2<First, Second> initial) {
+        value = initial;
+    }
+
+    /**
+     * Current union
+     *
+     * @return the current union
+     */
+    public Union2<First, Second> get() {
+        return value;
+    }
+
+    /**
+     * Replaces the current union
+     *
+     * @param union the new union
+     */
+    public void set(Union2<First, Second> union) {
+        value = union;
+    }
+
+    /**
+     * Replaces the current union and returns the previous one
+     *
+     * @param union the new union
+     * @return the previous union
+     */
+    @SuppressWarnings("unchecked")
+    public Union2<First, Second> getAndSet(Union2<First, Second> union) {
+        return VALUE.getAndSet(this, union);
+    }
+
+    /**
+     * Replaces the current union if it is the expected one
+     *
+     * @param expected the expected union, compared by identity
+     * @param union the new union
+     * @return true if the union was replaced
+     */
+    public boolean compareAndSet(Union2<First, Second> expected, Union2<First, Second> union) {
+        return VALUE.compareAndSet(this, expected, union);
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @return the new union
+     */
+    public Union2<First, Second> updateAndGet(Function<First, Union2<First, Second>> updateFirst,
+            Function<Second, Union2<First, Second>> updateSecond) {
+        Union2<First, Second> current;
+        Union2<First, Second> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param transition the transitions, one per possible type
+     * @return the new union
+     */
+    public Union2<First, Second> updateAndGet(
+            Union2.Matcher<First, Second, Union2<First, Second>> transition) {
+        Union2<First, Second> current;
+        Union2<First, Second> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @return the previous union
+     */
+    public Union2<First, Second> getAndUpdate(Function<First, Union2<First, Second>> updateFirst,
+            Function<Second, Union2<First, Second>> updateSecond) {
+        Union2<First, Second> current;
+        Union2<First, Second> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param transition the transitions, one per possible type
+     * @return the previous union
+     */
+    public Union2<First, Second> getAndUpdate(
+            Union2.Matcher<First, Second, Union2<First, Second>> transition) {
+        Union2<First, Second> current;
+        Union2<First, Second> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Transforms the current union without blocking
+     *
+     * @param mapFirst function applied to a value of the first type
+     * @param mapSecond function applied to a value of the second type
+     * @return the result of the function for the type held
+     */
+    public <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond) {
+        return value.join(mapFirst, mapSecond);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.concurrent;
+
+import com.pacoworks.sealedunions.Union3;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * Holder of a {@link Union3} that can be updated atomically. Updates apply one transition per
+ * possible type in a compare-and-set loop, so readers never block and writers never lock. The
+ * transitions may run more than once when other threads update the union at the same time, and
+ * must not have side effects.
+ * <p>
+ * Unions are compared by identity, not with {@code equals}.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ */
+public final class AtomicUnion3<First, Second, Third> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicUnion3, Union3> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(AtomicUnion3.class, Union3.class, "value");
+
+    private volatile Union3<First, Second, Third> value;
+
+    /**
+     * Creates a holder with an initial union
+     *
+     * @param initial the initial union
+     */
+    public AtomicUnion3(Union3<First, Second, Third> initial) {
+        value = initial;
+    }
+
+    /**
+     * Current union
+     *
+     * @return the current union
+     */
+    public Union3<First, Second, Third> get() {
+        return value;
+    }
+
+    /**
+     * Replaces the current union
+     *
+     * @param union the new union
+     */
+    public void set(Union3<First, Second, Third> union) {
+        value = union;
+    }
+
+    /**
+     * Replaces the current union and returns the previous one
+     *
+     * @param union the new union
+     * @return the previous union
+     */
+    @SuppressWarnings("unchecked")
+    public Union3<First, Second, Third> getAndSet(Union3<First, Second, Third> union) {
+        return VALUE.getAndSet(this, union);
+    }
+
+    /**
+     * Replaces the current union if it is the expected one
+     *
+     * @param expected the expected union, compared by identity
+     * @param union the new union
+     * @return true if the union was replaced
+     */
+    public boolean compareAndSet(Union3<First, Second, Third> expected,
+            Union3<First, Second, Third> union) {
+        return VALUE.compareAndSet(this, expected, union);
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @param updateThird transition from a value of the third type
+     * @return the new union
+     */
+    public Union3<First, Second, Third> updateAndGet(
+            Function<First, Union3<First, Second, Third>> updateFirst,
+            Function<Second, Union3<First, Second, Third>> updateSecond,
+            Function<Third, Union3<First, Second, Third>> updateThird) {
+        Union3<First, Second, Third> current;
+        Union3<First, Second, Third> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond, updateThird);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param transition the transitions, one per possible type
+     * @return the new union
+     */
+    public Union3<First, Second, Third> updateAndGet(
+            Union3.Matcher<First, Second, Third, Union3<First, Second, Third>> transition) {
+        Union3<First, Second, Third> current;
+        Union3<First, Second, Third> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @param updateThird transition from a value of the third type
+     * @return the previous union
+     */
+    public Union3<First, Second, Third> getAndUpdate(
+            Function<First, Union3<First, Second, Third>> updateFirst,
+            Function<Second, Union3<First, Second, Third>> updateSecond,
+            Function<Third, Union3<First, Second, Third>> updateThird) {
+        Union3<First, Second, Third> current;
+        Union3<First, Second, Third> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond, updateThird);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param transition the transitions, one per possible type
+     * @return the previous union
+     */
+    public Union3<First, Second, Third> getAndUpdate(
+            Union3.Matcher<First, Second, Third, Union3<First, Second, Third>> transition) {
+        Union3<First, Second, Third> current;
+        Union3<First, Second, Third> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Transforms the current union without blocking
+     *
+     * @param mapFirst function applied to a value of the first type
+     * @param mapSecond function applied to a value of the second type
+     * @param mapThird function applied to a value of the third type
+     * @return the result of the function for the type held
+     */
+    public <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond,
+            Function<Third, R> mapThird) {
+        return value.join(mapFirst, mapSecond, mapThird);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.concurrent;
+
+import com.pacoworks.sealedunions.Union5;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * Holder of a {@link Union5} that can be updated atomically. Updates apply one transition per
+ * possible type in a compare-and-set loop, so readers never block and writers never lock. The
+ * transitions may run more than once when other threads update the union at the same time, and
+ * must not have side effects.
+ * <p>
+ * Unions are compared by identity, not with {@code equals}.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ * @param <Fourth> fourth possible type
+ * @param <Fifth> fifth possible type
+ */
+public final class AtomicUnion5<First, Second, Third, Fourth, Fifth> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicUnion5, Union5> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(AtomicUnion5.class, Union5.class, "value");
+
+    private volatile Union5<First, Second, Third, Fourth, Fifth> value;
+
+    /**
+     * Creates a holder with an initial union
+     *
+     * @param initial the initial union
+     */
+    public AtomicUnion5(Union5<First, Second, Third, Fourth, Fifth> initial) {
+        value = initial;
+    }
+
+    /**
+     * Current union
+     *
+     * @return the current union
+     */
+    public Union5<First, Second, Third, Fourth, Fifth> get() {
+        return value;
+    }
+
+    /**
+     * Replaces the current union
+     *
+     * @param union the new union
+     */
+    public void set(Union5<First, Second, Third, Fourth, Fifth> union) {
+        value = union;
+    }
+
+    /**
+     * Replaces the current union and returns the previous one
+     *
+     * @param union the new union
+     * @return the previous union
+     */
+    @SuppressWarnings("unchecked")
+    public Union5<First, Second, Third, Fourth, Fifth> getAndSet(
+            Union5<First, Second, Third, Fourth, Fifth> union) {
+        return VALUE.getAndSet(this, union);
+    }
+
+    /**
+     * Replaces the current union if it is the expected one
+     *
+     * @param expected the expected union, compared by identity
+     * @param union the new union
+     * @return true if the union was replaced
+     */
+    public boolean compareAndSet(Union5<First, Second, Third, Fourth, Fifth> expected,
+            Union5<First, Second, Third, Fourth, Fifth> union) {
+        return VALUE.compareAndSet(this, expected, union);
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @param updateThird transition from a value of the third type
+     * @param updateFourth transition from a value of the fourth type
+     * @param updateFifth transition from a value of the fifth type
+     * @return the new union
+     */
+    public Union5<First, Second, Third, Fourth, Fifth> updateAndGet(
+            Function<First, Union5<First, Second, Third, Fourth, Fifth>> updateFirst,
+            Function<Second, Union5<First, Second, Third, Fourth, Fifth>> updateSecond,
+            Function<Third, Union5<First, Second, Third, Fourth, Fifth>> updateThird,
+            Function<Fourth, Union5<First, Second, Third, Fourth, Fifth>> updateFourth,
+            Function<Fifth, Union5<First, Second, Third, Fourth, Fifth>> updateFifth) {
+        Union5<First, Second, Third, Fourth, Fifth> current;
+        Union5<First, Second, Third, Fourth, Fifth> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond, updateThird, updateFourth, updateFifth);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param transition the transitions, one per possible type
+     * @return the new union
+     */
+    public Union5<First, Second, Third, Fourth, Fifth> updateAndGet(
+            Union5.Matcher<First, Second, Third, Fourth, Fifth, Union5<First, Second, Third, Fourth,
+                    Fifth>> transition) {
+        Union5<First, Second, Third, Fourth, Fifth> current;
+        Union5<First, Second, Third, Fourth, Fifth> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @param updateThird transition from a value of the third type
+     * @param updateFourth transition from a value of the fourth type
+     * @param updateFifth transition from a value of the fifth type
+     * @return the previous union
+     */
+    public Union5<First, Second, Third, Fourth, Fifth> getAndUpdate(
+            Function<First, Union5<First, Second, Third, Fourth, Fifth>> updateFirst,
+            Function<Second, Union5<First, Second, Third, Fourth, Fifth>> updateSecond,
+            Function<Third, Union5<First, Second, Third, Fourth, Fifth>> updateThird,
+            Function<Fourth, Union5<First, Second, Third, Fourth, Fifth>> updateFourth,
+            Function<Fifth, Union5<First, Second, Third, Fourth, Fifth>> updateFifth) {
+        Union5<First, Second, Third, Fourth, Fifth> current;
+        Union5<First, Second, Third, Fourth, Fifth> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond, updateThird, updateFourth, updateFifth);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param transition the transitions, one per possible type
+     * @return the previous union
+     */
+    public Union5<First, Second, Third, Fourth, Fifth> getAndUpdate(
+            Union5.Matcher<First, Second, Third, Fourth, Fifth, Union5<First, Second, Third, Fourth,
+                    Fifth>> transition) {
+        Union5<First, Second, Third, Fourth, Fifth> current;
+        Union5<First, Second, Third, Fourth, Fifth> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Transforms the current union without blocking
+     *
+     * @param mapFirst function applied to a value of the first type
+     * @param mapSecond function applied to a value of the second type
+     * @param mapThird function applied to a value of the third type
+     * @param mapFourth function applied to a value of the fourth type
+     * @param mapFifth function applied to a value of the fifth type
+     * @return the result of the function for the type held
+     */
+    public <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond,
+            Function<Third, R> mapThird, Function<Fourth, R> mapFourth,
+            Function<Fifth, R> mapFifth) {
+        return value.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
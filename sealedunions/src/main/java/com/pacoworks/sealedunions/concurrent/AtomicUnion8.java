@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.concurrent;
+
+import com.pacoworks.sealedunions.Union8;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Function;
+
+/**
+ * Holder of a {@link Union8} that can be updated atomically. Updates apply one transition per
+ * possible type in a compare-and-set loop, so readers never block and writers never lock. The
+ * transitions may run more than once when other threads update the union at the same time, and
+ * must not have side effects.
+ * <p>
+ * Unions are compared by identity, not with {@code equals}.
+ *
+ * @param <First> first possible type
+ * @param <Second> second possible type
+ * @param <Third> third possible type
+ * @param <Fourth> fourth possible type
+ * @param <Fifth> fifth possible type
+ * @param <Sixth> sixth possible type
+ * @param <Seventh> seventh possible type
+ * @param <Eighth> eighth possible type
+ */
+public final class AtomicUnion8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AtomicUnion8, Union8> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(AtomicUnion8.class, Union8.class, "value");
+
+    private volatile Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> value;
+
+    /**
+     * Creates a holder with an initial union
+     *
+     * @param initial the initial union
+     */
+    public AtomicUnion8(Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+            Eighth> initial) {
+        value = initial;
+    }
+
+    /**
+     * Current union
+     *
+     * @return the current union
+     */
+    public Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> get() {
+        return value;
+    }
+
+    /**
+     * Replaces the current union
+     *
+     * @param union the new union
+     */
+    public void set(Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> union) {
+        value = union;
+    }
+
+    /**
+     * Replaces the current union and returns the previous one
+     *
+     * @param union the new union
+     * @return the previous union
+     */
+    @SuppressWarnings("unchecked")
+    public Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> getAndSet(
+            Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> union) {
+        return VALUE.getAndSet(this, union);
+    }
+
+    /**
+     * Replaces the current union if it is the expected one
+     *
+     * @param expected the expected union, compared by identity
+     * @param union the new union
+     * @return true if the union was replaced
+     */
+    public boolean compareAndSet(
+            Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> expected,
+            Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> union) {
+        return VALUE.compareAndSet(this, expected, union);
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @param updateThird transition from a value of the third type
+     * @param updateFourth transition from a value of the fourth type
+     * @param updateFifth transition from a value of the fifth type
+     * @param updateSixth transition from a value of the sixth type
+     * @param updateSeventh transition from a value of the seventh type
+     * @param updateEighth transition from a value of the eighth type
+     * @return the new union
+     */
+    public Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> updateAndGet(
+            Function<First, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateFirst,
+            Function<Second, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateSecond,
+            Function<Third, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateThird,
+            Function<Fourth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateFourth,
+            Function<Fifth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateFifth,
+            Function<Sixth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateSixth,
+            Function<Seventh, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateSeventh,
+            Function<Eighth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateEighth) {
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> current;
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond, updateThird, updateFourth, updateFifth,
+                    updateSixth, updateSeventh, updateEighth);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds
+     *
+     * @param transition the transitions, one per possible type
+     * @return the new union
+     */
+    public Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> updateAndGet(
+            Union8.Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth,
+                    Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> transition) {
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> current;
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return next;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param updateFirst transition from a value of the first type
+     * @param updateSecond transition from a value of the second type
+     * @param updateThird transition from a value of the third type
+     * @param updateFourth transition from a value of the fourth type
+     * @param updateFifth transition from a value of the fifth type
+     * @param updateSixth transition from a value of the sixth type
+     * @param updateSeventh transition from a value of the seventh type
+     * @param updateEighth transition from a value of the eighth type
+     * @return the previous union
+     */
+    public Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> getAndUpdate(
+            Function<First, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateFirst,
+            Function<Second, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateSecond,
+            Function<Third, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateThird,
+            Function<Fourth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateFourth,
+            Function<Fifth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateFifth,
+            Function<Sixth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateSixth,
+            Function<Seventh, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateSeventh,
+            Function<Eighth, Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> updateEighth) {
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> current;
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> next;
+        do {
+            current = value;
+            next = current.join(updateFirst, updateSecond, updateThird, updateFourth, updateFifth,
+                    updateSixth, updateSeventh, updateEighth);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Replaces the current union with the result of the transition for the type it holds and
+     * returns the previous one
+     *
+     * @param transition the transitions, one per possible type
+     * @return the previous union
+     */
+    public Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> getAndUpdate(
+            Union8.Matcher<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth,
+                    Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh,
+                    Eighth>> transition) {
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> current;
+        Union8<First, Second, Third, Fourth, Fifth, Sixth, Seventh, Eighth> next;
+        do {
+            current = value;
+            next = current.join(transition);
+        } while (!VALUE.compareAndSet(this, current, next));
+        return current;
+    }
+
+    /**
+     * Transforms the current union without blocking
+     *
+     * @param mapFirst function applied to a value of the first type
+     * @param mapSecond function applied to a value of the second type
+     * @param mapThird function applied to a value of the third type
+     * @param mapFourth function applied to a value of the fourth type
+     * @param mapFifth function applied to a value of the fifth type
+     * @param mapSixth function applied to a value of the sixth type
+     * @param mapSeventh function applied to a value of the seventh type
+     * @param mapEighth function applied to a value of the eighth type
+     * @return the result of the function for the type held
+     */
+    public <R> R join(Function<First, R> mapFirst, Function<Second, R> mapSecond,
+            Function<Third, R> mapThird, Function<Fourth, R> mapFourth, Function<Fifth, R> mapFifth,
+            Function<Sixth, R> mapSixth, Function<Seventh, R> mapSeventh,
+            Function<Eighth, R> mapEighth) {
+        return value.join(mapFirst, mapSecond, mapThird, mapFourth, mapFifth, mapSixth, mapSeventh,
+                mapEighth);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
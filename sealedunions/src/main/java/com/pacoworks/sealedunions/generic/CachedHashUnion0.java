@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union0;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class CachedHashUnion0<T> implements Union0<T>, Tagged {
+    private final Object value;
+
+    /* Computed on first use, 0 until then */
+    private int hash;
+
+    CachedHashUnion0(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public int tag() {
+        return 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<T> continuationFirst) {
+        continuationFirst.accept((T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst) {
+        continuationFirst.accept(context, (T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Function<T, R> mapFirst) {
+        return mapFirst.apply((T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Union0.Matcher<T, R> matcher) {
+        return matcher.first((T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst) {
+        return mapFirst.apply(context, (T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int joinToInt(ToIntFunction<T> mapFirst) {
+        return mapFirst.applyAsInt((T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long joinToLong(ToLongFunction<T> mapFirst) {
+        return mapFirst.applyAsLong((T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double joinToDouble(ToDoubleFunction<T> mapFirst) {
+        return mapFirst.applyAsDouble((T)value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean joinToBoolean(Predicate<T> mapFirst) {
+        return mapFirst.test((T)value);
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof CachedHashUnion0))
+            return false;
+        final CachedHashUnion0 other = (CachedHashUnion0)o;
+        if (hash != 0 && other.hash != 0 && hash != other.hash)
+            return false;
+        final Object this$value = this.value;
+        final Object other$value = other.value;
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Hashes.hash(0, 0, value);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union2;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class CachedHashUnion2<T, U> implements Union2<T, U>, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte SECOND = 1;
+
+    private final byte tag;
+
+    private final Object value;
+
+    /* Computed on first use, 0 until then */
+    private int hash;
+
+    CachedHashUnion2(byte tag, Object value) {
+        this.tag = tag;
+        this.value = value;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<T> continuationFirst, Consumer<U> continuationSecond) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept((T)value);
+                break;
+            default:
+                continuationSecond.accept((U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            BiConsumer<X, U> continuationSecond) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, (T)value);
+                break;
+            default:
+                continuationSecond.accept(context, (U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Function<T, R> mapFirst, Function<U, R> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply((T)value);
+            default:
+                return mapSecond.apply((U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Union2.Matcher<T, U, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first((T)value);
+            default:
+                return matcher.second((U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, BiFunction<X, U, R> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, (T)value);
+            default:
+                return mapSecond.apply(context, (U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int joinToInt(ToIntFunction<T> mapFirst, ToIntFunction<U> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt((T)value);
+            default:
+                return mapSecond.applyAsInt((U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long joinToLong(ToLongFunction<T> mapFirst, ToLongFunction<U> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong((T)value);
+            default:
+                return mapSecond.applyAsLong((U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, ToDoubleFunction<U> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble((T)value);
+            default:
+                return mapSecond.applyAsDouble((U)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean joinToBoolean(Predicate<T> mapFirst, Predicate<U> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test((T)value);
+            default:
+                return mapSecond.test((U)value);
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof CachedHashUnion2))
+            return false;
+        final CachedHashUnion2 other = (CachedHashUnion2)o;
+        if (tag != other.tag)
+            return false;
+        if (hash != 0 && other.hash != 0 && hash != other.hash)
+            return false;
+        final Object this$value = this.value;
+        final Object other$value = other.value;
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Hashes.hash(2, tag, value);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union3;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class CachedHashUnion3<T, U, V> implements Union3<T, U, V>, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte SECOND = 1;
+
+    static final byte THIRD = 2;
+
+    private final byte tag;
+
+    private final Object value;
+
+    /* Computed on first use, 0 until then */
+    private int hash;
+
+    CachedHashUnion3(byte tag, Object value) {
+        this.tag = tag;
+        this.value = value;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<T> continuationFirst, Consumer<U> continuationSecond,
+            Consumer<V> continuationThird) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept((T)value);
+                break;
+            case SECOND:
+                continuationSecond.accept((U)value);
+                break;
+            default:
+                continuationThird.accept((V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            BiConsumer<X, U> continuationSecond, BiConsumer<X, V> continuationThird) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, (T)value);
+                break;
+            case SECOND:
+                continuationSecond.accept(context, (U)value);
+                break;
+            default:
+                continuationThird.accept(context, (V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Function<T, R> mapFirst, Function<U, R> mapSecond, Function<V, R> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply((T)value);
+            case SECOND:
+                return mapSecond.apply((U)value);
+            default:
+                return mapThird.apply((V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Union3.Matcher<T, U, V, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first((T)value);
+            case SECOND:
+                return matcher.second((U)value);
+            default:
+                return matcher.third((V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, BiFunction<X, U, R> mapSecond,
+            BiFunction<X, V, R> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, (T)value);
+            case SECOND:
+                return mapSecond.apply(context, (U)value);
+            default:
+                return mapThird.apply(context, (V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int joinToInt(ToIntFunction<T> mapFirst, ToIntFunction<U> mapSecond,
+            ToIntFunction<V> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt((T)value);
+            case SECOND:
+                return mapSecond.applyAsInt((U)value);
+            default:
+                return mapThird.applyAsInt((V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long joinToLong(ToLongFunction<T> mapFirst, ToLongFunction<U> mapSecond,
+            ToLongFunction<V> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong((T)value);
+            case SECOND:
+                return mapSecond.applyAsLong((U)value);
+            default:
+                return mapThird.applyAsLong((V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, ToDoubleFunction<U> mapSecond,
+            ToDoubleFunction<V> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble((T)value);
+            case SECOND:
+                return mapSecond.applyAsDouble((U)value);
+            default:
+                return mapThird.applyAsDouble((V)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean joinToBoolean(Predicate<T> mapFirst, Predicate<U> mapSecond,
+            Predicate<V> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test((T)value);
+            case SECOND:
+                return mapSecond.test((U)value);
+            default:
+                return mapThird.test((V)value);
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof CachedHashUnion3))
+            return false;
+        final CachedHashUnion3 other = (CachedHashUnion3)o;
+        if (tag != other.tag)
+            return false;
+        if (hash != 0 && other.hash != 0 && hash != other.hash)
+            return false;
+        final Object this$value = this.value;
+        final Object other$value = other.value;
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Hashes.hash(3, tag, value);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
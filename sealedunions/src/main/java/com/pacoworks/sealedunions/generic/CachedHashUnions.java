@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Factories for tagged unions that compute their hash code once and keep it in a field, the same
+ * way {@link String} does.
+ * <p>
+ * Use them for unions that are used as keys of hash maps and sets and hold values with an
+ * expensive hash code, like large collections or deeply nested objects. Two unions that already
+ * know their hash codes are compared by hash before comparing their values.
+ */
+public final class CachedHashUnions {
+    /* Factories hold no state, so a single instance of each is shared by every parameterization */
+    private static final Union0.Factory<?> NULLET_FACTORY = newNulletFactory();
+
+    private static final Union1.Factory<?> SINGLET_FACTORY = newSingletFactory();
+
+    private static final Union2.Factory<?, ?> DOUBLET_FACTORY = newDoubletFactory();
+
+    private static final Union3.Factory<?, ?, ?> TRIPLET_FACTORY = newTripletFactory();
+
+    private static final Union4.Factory<?, ?, ?, ?> QUARTET_FACTORY = newQuartetFactory();
+
+    private static final Union5.Factory<?, ?, ?, ?, ?> QUINTET_FACTORY = newQuintetFactory();
+
+    private static final Union6.Factory<?, ?, ?, ?, ?, ?> SEXTET_FACTORY = newSextetFactory();
+
+    private static final Union7.Factory<?, ?, ?, ?, ?, ?, ?> SEPTET_FACTORY = newSeptetFactory();
+
+    private static final Union8.Factory<?, ?, ?, ?, ?, ?, ?, ?> OCTET_FACTORY = newOctetFactory();
+
+    private static final Union9.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?> NONET_FACTORY =
+            newNonetFactory();
+
+    @SuppressWarnings("unchecked")
+    public static <Result> Union0.Factory<Result> nulletFactory() {
+        return (Union0.Factory<Result>)NULLET_FACTORY;
+    }
+
+    private static <Result> Union0.Factory<Result> newNulletFactory() {
+        return new Union0.Factory<Result>() {
+            @Override
+            public Union0<Result> first(Result result) {
+                return new CachedHashUnion0<>(result);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Result> Union1.Factory<Result> singletFactory() {
+        return (Union1.Factory<Result>)SINGLET_FACTORY;
+    }
+
+    private static <Result> Union1.Factory<Result> newSingletFactory() {
+        return new Union1.Factory<Result>() {
+            @Override
+            public Union1<Result> first(Result result) {
+                return new CachedHashUnion1<>(CachedHashUnion1.FIRST, result);
+            }
+
+            @Override
+            public Union1<Result> none() {
+                return CachedHashUnion1.none();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U> Union2.Factory<T, U> doubletFactory() {
+        return (Union2.Factory<T, U>)DOUBLET_FACTORY;
+    }
+
+    private static <T, U> Union2.Factory<T, U> newDoubletFactory() {
+        return new Union2.Factory<T, U>() {
+            @Override
+            public Union2<T, U> first(T t) {
+                return new CachedHashUnion2<>(CachedHashUnion2.FIRST, t);
+            }
+
+            @Override
+            public Union2<T, U> second(U u) {
+                return new CachedHashUnion2<>(CachedHashUnion2.SECOND, u);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U, V> Union3.Factory<T, U, V> tripletFactory() {
+        return (Union3.Factory<T, U, V>)TRIPLET_FACTORY;
+    }
+
+    private static <T, U, V> Union3.Factory<T, U, V> newTripletFactory() {
+        return new Union3.Factory<T, U, V>() {
+            @Override
+            public Union3<T, U, V> first(T t) {
+                return new CachedHashUnion3<>(CachedHashUnion3.FIRST, t);
+            }
+
+            @Override
+            public Union3<T, U, V> second(U u) {
+                return new CachedHashUnion3<>(CachedHashUnion3.SECOND, u);
+            }
+
+            @Override
+            public Union3<T, U, V> third(V v) {
+                return new CachedHashUnion3<>(CachedHashUnion3.THIRD, v);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> Union4.Factory<A, B, C, D> quartetFactory() {
+        return (Union4.Factory<A, B, C, D>)QUARTET_FACTORY;
+    }
+
+    private static <A, B, C, D> Union4.Factory<A, B, C, D> newQuartetFactory() {
+        return new Union4.Factory<A, B, C, D>() {
+            @Override
+            public Union4<A, B, C, D> first(A a) {
+                return new CachedHashUnion4<>(CachedHashUnion4.FIRST, a);
+            }
+
+            @Override
+            public Union4<A, B, C, D> second(B b) {
+                return new CachedHashUnion4<>(CachedHashUnion4.SECOND, b);
+            }
+
+            @Override
+            public Union4<A, B, C, D> third(C c) {
+                return new CachedHashUnion4<>(CachedHashUnion4.THIRD, c);
+            }
+
+            @Override
+            public Union4<A, B, C, D> fourth(D d) {
+                return new CachedHashUnion4<>(CachedHashUnion4.FOURTH, d);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> Union5.Factory<A, B, C, D, E> quintetFactory() {
+        return (Union5.Factory<A, B, C, D, E>)QUINTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E> Union5.Factory<A, B, C, D, E> newQuintetFactory() {
+        return new Union5.Factory<A, B, C, D, E>() {
+            @Override
+            public Union5<A, B, C, D, E> first(A a) {
+                return new CachedHashUnion5<>(CachedHashUnion5.FIRST, a);
+            }
+
+            @Override
+            public Union5<A, B, C, D, E> second(B b) {
+                return new CachedHashUnion5<>(CachedHashUnion5.SECOND, b);
+            }
+
+            @Override
+            public Union5<A, B, C, D, E> third(C c) {
+                return new CachedHashUnion5<>(CachedHashUnion5.THIRD, c);
+            }
+
+            @Override
+            public Union5<A, B, C, D, E> fourth(D d) {
+                return new CachedHashUnion5<>(CachedHashUnion5.FOURTH, d);
+            }
+
+            @Override
+            public Union5<A, B, C, D, E> fifth(E e) {
+                return new CachedHashUnion5<>(CachedHashUnion5.FIFTH, e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> Union6.Factory<A, B, C, D, E, F> sextetFactory() {
+        return (Union6.Factory<A, B, C, D, E, F>)SEXTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F> Union6.Factory<A, B, C, D, E, F> newSextetFactory() {
+        return new Union6.Factory<A, B, C, D, E, F>() {
+            @Override
+            public Union6<A, B, C, D, E, F> first(A a) {
+                return new CachedHashUnion6<>(CachedHashUnion6.FIRST, a);
+            }
+
+            @Override
+            public Union6<A, B, C, D, E, F> second(B b) {
+                return new CachedHashUnion6<>(CachedHashUnion6.SECOND, b);
+            }
+
+            @Override
+            public Union6<A, B, C, D, E, F> third(C c) {
+                return new CachedHashUnion6<>(CachedHashUnion6.THIRD, c);
+            }
+
+            @Override
+            public Union6<A, B, C, D, E, F> fourth(D d) {
+                return new CachedHashUnion6<>(CachedHashUnion6.FOURTH, d);
+            }
+
+            @Override
+            public Union6<A, B, C, D, E, F> fifth(E e) {
+                return new CachedHashUnion6<>(CachedHashUnion6.FIFTH, e);
+            }
+
+            @Override
+            public Union6<A, B, C, D, E, F> sixth(F f) {
+                return new CachedHashUnion6<>(CachedHashUnion6.SIXTH, f);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> Union7.Factory<A, B, C, D, E, F, G> septetFactory() {
+        return (Union7.Factory<A, B, C, D, E, F, G>)SEPTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F, G> Union7.Factory<A, B, C, D, E, F, G> newSeptetFactory() {
+        return new Union7.Factory<A, B, C, D, E, F, G>() {
+            @Override
+            public Union7<A, B, C, D, E, F, G> first(A a) {
+                return new CachedHashUnion7<>(CachedHashUnion7.FIRST, a);
+            }
+
+            @Override
+            public Union7<A, B, C, D, E, F, G> second(B b) {
+                return new CachedHashUnion7<>(CachedHashUnion7.SECOND, b);
+            }
+
+            @Override
+            public Union7<A, B, C, D, E, F, G> third(C c) {
+                return new CachedHashUnion7<>(CachedHashUnion7.THIRD, c);
+            }
+
+            @Override
+            public Union7<A, B, C, D, E, F, G> fourth(D d) {
+                return new CachedHashUnion7<>(CachedHashUnion7.FOURTH, d);
+            }
+
+            @Override
+            public Union7<A, B, C, D, E, F, G> fifth(E e) {
+                return new CachedHashUnion7<>(CachedHashUnion7.FIFTH, e);
+            }
+
+            @Override
+            public Union7<A, B, C, D, E, F, G> sixth(F f) {
+                return new CachedHashUnion7<>(CachedHashUnion7.SIXTH, f);
+            }
+
+            @Override
+            public Union7<A, B, C, D, E, F, G> seventh(G g) {
+                return new CachedHashUnion7<>(CachedHashUnion7.SEVENTH, g);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> Union8.Factory<A, B, C, D, E, F, G, H> octetFactory() {
+        return (Union8.Factory<A, B, C, D, E, F, G, H>)OCTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F, G, H> Union8.Factory<A, B, C, D, E, F, G, H> newOctetFactory() {
+        return new Union8.Factory<A, B, C, D, E, F, G, H>() {
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> first(A a) {
+                return new CachedHashUnion8<>(CachedHashUnion8.FIRST, a);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> second(B b) {
+                return new CachedHashUnion8<>(CachedHashUnion8.SECOND, b);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> third(C c) {
+                return new CachedHashUnion8<>(CachedHashUnion8.THIRD, c);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> fourth(D d) {
+                return new CachedHashUnion8<>(CachedHashUnion8.FOURTH, d);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> fifth(E e) {
+                return new CachedHashUnion8<>(CachedHashUnion8.FIFTH, e);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> sixth(F f) {
+                return new CachedHashUnion8<>(CachedHashUnion8.SIXTH, f);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> seventh(G g) {
+                return new CachedHashUnion8<>(CachedHashUnion8.SEVENTH, g);
+            }
+
+            @Override
+            public Union8<A, B, C, D, E, F, G, H> eighth(H h) {
+                return new CachedHashUnion8<>(CachedHashUnion8.EIGHTH, h);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I> Union9.Factory<A, B, C, D, E, F, G, H, I> nonetFactory() {
+        return (Union9.Factory<A, B, C, D, E, F, G, H, I>)NONET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F, G, H, I> Union9.Factory<A, B, C, D, E, F, G, H, I> newNonetFactory() {
+        return new Union9.Factory<A, B, C, D, E, F, G, H, I>() {
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> first(A a) {
+                return new CachedHashUnion9<>(CachedHashUnion9.FIRST, a);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> second(B b) {
+                return new CachedHashUnion9<>(CachedHashUnion9.SECOND, b);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> third(C c) {
+                return new CachedHashUnion9<>(CachedHashUnion9.THIRD, c);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> fourth(D d) {
+                return new CachedHashUnion9<>(CachedHashUnion9.FOURTH, d);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> fifth(E e) {
+                return new CachedHashUnion9<>(CachedHashUnion9.FIFTH, e);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> sixth(F f) {
+                return new CachedHashUnion9<>(CachedHashUnion9.SIXTH, f);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> seventh(G g) {
+                return new CachedHashUnion9<>(CachedHashUnion9.SEVENTH, g);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> eighth(H h) {
+                return new CachedHashUnion9<>(CachedHashUnion9.EIGHTH, h);
+            }
+
+            @Override
+            public Union9<A, B, C, D, E, F, G, H, I> ninth(I i) {
+                return new CachedHashUnion9<>(CachedHashUnion9.NINTH, i);
+            }
+        };
+    }
+}
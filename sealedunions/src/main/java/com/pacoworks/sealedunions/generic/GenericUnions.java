@@ -19,7 +19,55 @@ package com.pacoworks.sealedunions.generic;
 import com.pacoworks.sealedunions.*;
 
 public final class GenericUnions {
+    /* Factories hold no state, so a single instance of each is shared by every parameterization */
+    private static final Union0.Factory<?> NULLET_FACTORY = newNulletFactory();
+
+    private static final Union1.Factory<?> SINGLET_FACTORY = newSingletFactory();
+
+    private static final Union2.Factory<?, ?> DOUBLET_FACTORY = newDoubletFactory();
+
+    private static final Union3.Factory<?, ?, ?> TRIPLET_FACTORY = newTripletFactory();
+
+    private static final Union4.Factory<?, ?, ?, ?> QUARTET_FACTORY = newQuartetFactory();
+
+    private static final Union5.Factory<?, ?, ?, ?, ?> QUINTET_FACTORY = newQuintetFactory();
+
+    private static final Union6.Factory<?, ?, ?, ?, ?, ?> SEXTET_FACTORY = newSextetFactory();
+
+    private static final Union7.Factory<?, ?, ?, ?, ?, ?, ?> SEPTET_FACTORY = newSeptetFactory();
+
+    private static final Union8.Factory<?, ?, ?, ?, ?, ?, ?, ?> OCTET_FACTORY = newOctetFactory();
+
+    private static final Union9.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?> NONET_FACTORY =
+            newNonetFactory();
+
+    private static final Union10.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?> DECTET_FACTORY =
+            WideUnionFactories.newDectetFactory();
+
+    private static final Union11.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> UNDECTET_FACTORY =
+            WideUnionFactories.newUndectetFactory();
+
+    private static final Union12.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> DUODECTET_FACTORY =
+            WideUnionFactories.newDuodectetFactory();
+
+    private static final Union13.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> TREDECTET_FACTORY =
+            WideUnionFactories.newTredectetFactory();
+
+    private static final Union14.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> QUATTUORDECTET_FACTORY =
+            WideUnionFactories.newQuattuordectetFactory();
+
+    private static final Union15.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> QUINDECTET_FACTORY =
+            WideUnionFactories.newQuindectetFactory();
+
+    private static final Union16.Factory<?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?> SEXDECTET_FACTORY =
+            WideUnionFactories.newSexdectetFactory();
+
+    @SuppressWarnings("unchecked")
     public static <Result> Union0.Factory<Result> nulletFactory() {
+        return (Union0.Factory<Result>)NULLET_FACTORY;
+    }
+
+    private static <Result> Union0.Factory<Result> newNulletFactory() {
         return new Union0.Factory<Result>() {
             @Override
             public Union0<Result> first(Result result) {
@@ -28,7 +76,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <Result> Union1.Factory<Result> singletFactory() {
+        return (Union1.Factory<Result>)SINGLET_FACTORY;
+    }
+
+    private static <Result> Union1.Factory<Result> newSingletFactory() {
         return new Union1.Factory<Result>() {
             @Override
             public Union1<Result> first(Result result) {
@@ -37,12 +90,17 @@ public final class GenericUnions {
 
             @Override
             public Union1<Result> none() {
-                return new Union1None<>();
+                return Union1None.instance();
             }
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <T, U> Union2.Factory<T, U> doubletFactory() {
+        return (Union2.Factory<T, U>)DOUBLET_FACTORY;
+    }
+
+    private static <T, U> Union2.Factory<T, U> newDoubletFactory() {
         return new Union2.Factory<T, U>() {
             @Override
             public Union2<T, U> first(T t) {
@@ -56,7 +114,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <T, U, V> Union3.Factory<T, U, V> tripletFactory() {
+        return (Union3.Factory<T, U, V>)TRIPLET_FACTORY;
+    }
+
+    private static <T, U, V> Union3.Factory<T, U, V> newTripletFactory() {
         return new Union3.Factory<T, U, V>() {
             @Override
             public Union3<T, U, V> first(T t) {
@@ -75,7 +138,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D> Union4.Factory<A, B, C, D> quartetFactory() {
+        return (Union4.Factory<A, B, C, D>)QUARTET_FACTORY;
+    }
+
+    private static <A, B, C, D> Union4.Factory<A, B, C, D> newQuartetFactory() {
         return new Union4.Factory<A, B, C, D>() {
             @Override
             public Union4<A, B, C, D> first(A a) {
@@ -99,7 +167,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E> Union5.Factory<A, B, C, D, E> quintetFactory() {
+        return (Union5.Factory<A, B, C, D, E>)QUINTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E> Union5.Factory<A, B, C, D, E> newQuintetFactory() {
         return new Union5.Factory<A, B, C, D, E>() {
             @Override
             public Union5<A, B, C, D, E> first(A a) {
@@ -128,7 +201,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F> Union6.Factory<A, B, C, D, E, F> sextetFactory() {
+        return (Union6.Factory<A, B, C, D, E, F>)SEXTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F> Union6.Factory<A, B, C, D, E, F> newSextetFactory() {
         return new Union6.Factory<A, B, C, D, E, F>() {
             @Override
             public Union6<A, B, C, D, E, F> first(A a) {
@@ -162,7 +240,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G> Union7.Factory<A, B, C, D, E, F, G> septetFactory() {
+        return (Union7.Factory<A, B, C, D, E, F, G>)SEPTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F, G> Union7.Factory<A, B, C, D, E, F, G> newSeptetFactory() {
         return new Union7.Factory<A, B, C, D, E, F, G>() {
             @Override
             public Union7<A, B, C, D, E, F, G> first(A a) {
@@ -201,7 +284,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H> Union8.Factory<A, B, C, D, E, F, G, H> octetFactory() {
+        return (Union8.Factory<A, B, C, D, E, F, G, H>)OCTET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F, G, H> Union8.Factory<A, B, C, D, E, F, G, H> newOctetFactory() {
         return new Union8.Factory<A, B, C, D, E, F, G, H>() {
             @Override
             public Union8<A, B, C, D, E, F, G, H> first(A a) {
@@ -245,7 +333,12 @@ public final class GenericUnions {
         };
     }
 
+    @SuppressWarnings("unchecked")
     public static <A, B, C, D, E, F, G, H, I> Union9.Factory<A, B, C, D, E, F, G, H, I> nonetFactory() {
+        return (Union9.Factory<A, B, C, D, E, F, G, H, I>)NONET_FACTORY;
+    }
+
+    private static <A, B, C, D, E, F, G, H, I> Union9.Factory<A, B, C, D, E, F, G, H, I> newNonetFactory() {
         return new Union9.Factory<A, B, C, D, E, F, G, H, I>() {
             @Override
             public Union9<A, B, C, D, E, F, G, H, I> first(A a) {
@@ -293,4 +386,39 @@ public final class GenericUnions {
             }
         };
     }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J> Union10.Factory<A, B, C, D, E, F, G, H, I, J> dectetFactory() {
+        return (Union10.Factory<A, B, C, D, E, F, G, H, I, J>)DECTET_FACTORY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J, K> Union11.Factory<A, B, C, D, E, F, G, H, I, J, K> undectetFactory() {
+        return (Union11.Factory<A, B, C, D, E, F, G, H, I, J, K>)UNDECTET_FACTORY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J, K, L> Union12.Factory<A, B, C, D, E, F, G, H, I, J, K, L> duodectetFactory() {
+        return (Union12.Factory<A, B, C, D, E, F, G, H, I, J, K, L>)DUODECTET_FACTORY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M> Union13.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M> tredectetFactory() {
+        return (Union13.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M>)TREDECTET_FACTORY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M, N> Union14.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M, N> quattuordectetFactory() {
+        return (Union14.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M, N>)QUATTUORDECTET_FACTORY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> Union15.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O> quindectetFactory() {
+        return (Union15.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O>)QUINDECTET_FACTORY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> Union16.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P> sexdectetFactory() {
+        return (Union16.Factory<A, B, C, D, E, F, G, H, I, J, K, L, M, N, O, P>)SEXDECTET_FACTORY;
+    }
 }
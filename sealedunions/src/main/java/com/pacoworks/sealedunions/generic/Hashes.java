@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+/**
+ * Hash shared by the union implementations. The arity of the union and the position of the variant
+ * are mixed into the hash of the value, so the same value held by two different variants doesn't
+ * collide, and the result is spread so hash tables can use its low bits directly.
+ */
+final class Hashes {
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private Hashes() {
+        // No instances.
+    }
+
+    static int hash(int arity, int ordinal, Object value) {
+        return hash(arity, ordinal, value == null ? 0 : value.hashCode());
+    }
+
+    static int hash(int arity, int ordinal, int valueHash) {
+        return mix(valueHash ^ (arity << 4 | ordinal) * GOLDEN_RATIO);
+    }
+
+    /* Finalization step of MurmurHash3, every input bit affects every output bit */
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
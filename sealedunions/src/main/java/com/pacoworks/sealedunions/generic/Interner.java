@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import java.util.Arrays;
+
+/**
+ * Canonical unions of an interning factory, looked up by variant and value. Each variant keeps its
+ * values and unions side by side in one array that is replaced on every registration, so lookups
+ * read a volatile field and never lock.
+ *
+ * @param <U> type of the union
+ */
+final class Interner<U> {
+    private static final Object[] EMPTY = new Object[0];
+
+    /* For each variant: value, union, value, union... */
+    private volatile Object[][] entries;
+
+    Interner(int variants) {
+        final Object[][] entries = new Object[variants][];
+        Arrays.fill(entries, EMPTY);
+        this.entries = entries;
+    }
+
+    /**
+     * Finds the canonical union holding a value
+     *
+     * @param variant the 0-based position of the value's type
+     * @param value the value
+     * @return the canonical union, or null if the value wasn't registered
+     */
+    @SuppressWarnings("unchecked")
+    U lookup(int variant, Object value) {
+        final Object[] canonical = entries[variant];
+        for (int index = 0; index < canonical.length; index += 2) {
+            final Object candidate = canonical[index];
+            if (candidate == value || candidate != null && candidate.equals(value)) {
+                return (U)canonical[index + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Registers a union as the canonical one for its value, unless another one already was
+     *
+     * @param variant the 0-based position of the value's type
+     * @param value the value held by the union
+     * @param union the union
+     * @return the canonical union for the value
+     */
+    synchronized U register(int variant, Object value, U union) {
+        final U existing = lookup(variant, value);
+        if (existing != null) {
+            return existing;
+        }
+        final Object[][] copy = entries.clone();
+        final Object[] canonical = Arrays.copyOf(copy[variant], copy[variant].length + 2);
+        canonical[canonical.length - 2] = value;
+        canonical[canonical.length - 1] = union;
+        copy[variant] = canonical;
+        entries = copy;
+        return union;
+    }
+}
@@ -0,0 +1,794 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Factories that return the same union every time they are asked for a value registered as
+ * canonical, instead of a new one.
+ * <p>
+ * They are meant for types that carry no data, like markers or the states of a state machine,
+ * whose unions would otherwise be allocated again on every creation. Register each value once
+ * with {@code intern} and keep the result in a static field. Values are compared with
+ * {@code equals}, and values that weren't registered are passed to the wrapped factory.
+ * <p>
+ * Each call to one of these methods returns a new factory with its own canonical unions.
+ */
+public final class InterningUnions {
+    /**
+     * Creates an interning factory over {@link GenericUnions#nulletFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <Result> NulletFactory<Result> nulletFactory() {
+        return nulletFactory(GenericUnions.nulletFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <Result> NulletFactory<Result> nulletFactory(Union0.Factory<Result> factory) {
+        return new NulletFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#singletFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <Result> SingletFactory<Result> singletFactory() {
+        return singletFactory(GenericUnions.singletFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <Result> SingletFactory<Result> singletFactory(Union1.Factory<Result> factory) {
+        return new SingletFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#doubletFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <T, U> DoubletFactory<T, U> doubletFactory() {
+        return doubletFactory(GenericUnions.doubletFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <T, U> DoubletFactory<T, U> doubletFactory(Union2.Factory<T, U> factory) {
+        return new DoubletFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#tripletFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <T, U, V> TripletFactory<T, U, V> tripletFactory() {
+        return tripletFactory(GenericUnions.tripletFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <T, U, V> TripletFactory<T, U, V> tripletFactory(
+            Union3.Factory<T, U, V> factory) {
+        return new TripletFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#quartetFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D> QuartetFactory<A, B, C, D> quartetFactory() {
+        return quartetFactory(GenericUnions.quartetFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D> QuartetFactory<A, B, C, D> quartetFactory(
+            Union4.Factory<A, B, C, D> factory) {
+        return new QuartetFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#quintetFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E> QuintetFactory<A, B, C, D, E> quintetFactory() {
+        return quintetFactory(GenericUnions.quintetFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E> QuintetFactory<A, B, C, D, E> quintetFactory(
+            Union5.Factory<A, B, C, D, E> factory) {
+        return new QuintetFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#sextetFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F> SextetFactory<A, B, C, D, E, F> sextetFactory() {
+        return sextetFactory(GenericUnions.sextetFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F> SextetFactory<A, B, C, D, E, F> sextetFactory(
+            Union6.Factory<A, B, C, D, E, F> factory) {
+        return new SextetFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#septetFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F, G> SeptetFactory<A, B, C, D, E, F, G> septetFactory() {
+        return septetFactory(GenericUnions.septetFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F, G> SeptetFactory<A, B, C, D, E, F, G> septetFactory(
+            Union7.Factory<A, B, C, D, E, F, G> factory) {
+        return new SeptetFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#octetFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F, G, H> OctetFactory<A, B, C, D, E, F, G, H> octetFactory() {
+        return octetFactory(GenericUnions.octetFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F, G, H> OctetFactory<A, B, C, D, E, F, G, H> octetFactory(
+            Union8.Factory<A, B, C, D, E, F, G, H> factory) {
+        return new OctetFactory<>(factory);
+    }
+
+    /**
+     * Creates an interning factory over {@link GenericUnions#nonetFactory()}
+     *
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F, G, H, I> NonetFactory<A, B, C, D, E, F, G, H, I> nonetFactory(
+            ) {
+        return nonetFactory(GenericUnions.nonetFactory());
+    }
+
+    /**
+     * Creates an interning factory over any other factory
+     *
+     * @param factory the factory creating the unions that aren't interned
+     * @return a new factory with no canonical unions
+     */
+    public static <A, B, C, D, E, F, G, H, I> NonetFactory<A, B, C, D, E, F, G, H, I> nonetFactory(
+            Union9.Factory<A, B, C, D, E, F, G, H, I> factory) {
+        return new NonetFactory<>(factory);
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class NulletFactory<Result> implements Union0.Factory<Result> {
+        private final Interner<Union0<Result>> interner = new Interner<>(1);
+
+        private final Union0.Factory<Result> factory;
+
+        NulletFactory(Union0.Factory<Result> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union0<Result> intern(Union0<Result> union) {
+            final Object value = union.join(first -> first);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union0<Result> first(Result result) {
+            final Union0<Result> union = interner.lookup(0, result);
+            return union == null ? factory.first(result) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class SingletFactory<Result> implements Union1.Factory<Result> {
+        private final Interner<Union1<Result>> interner = new Interner<>(2);
+
+        private final Union1.Factory<Result> factory;
+
+        SingletFactory(Union1.Factory<Result> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union1<Result> intern(Union1<Result> union) {
+            final Object value = union.join(first -> first, () -> null);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union1<Result> first(Result result) {
+            final Union1<Result> union = interner.lookup(0, result);
+            return union == null ? factory.first(result) : union;
+        }
+
+        @Override
+        public Union1<Result> none() {
+            return factory.none();
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class DoubletFactory<T, U> implements Union2.Factory<T, U> {
+        private final Interner<Union2<T, U>> interner = new Interner<>(2);
+
+        private final Union2.Factory<T, U> factory;
+
+        DoubletFactory(Union2.Factory<T, U> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union2<T, U> intern(Union2<T, U> union) {
+            final Object value = union.join(first -> first, second -> second);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union2<T, U> first(T t) {
+            final Union2<T, U> union = interner.lookup(0, t);
+            return union == null ? factory.first(t) : union;
+        }
+
+        @Override
+        public Union2<T, U> second(U u) {
+            final Union2<T, U> union = interner.lookup(1, u);
+            return union == null ? factory.second(u) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class TripletFactory<T, U, V> implements Union3.Factory<T, U, V> {
+        private final Interner<Union3<T, U, V>> interner = new Interner<>(3);
+
+        private final Union3.Factory<T, U, V> factory;
+
+        TripletFactory(Union3.Factory<T, U, V> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union3<T, U, V> intern(Union3<T, U, V> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union3<T, U, V> first(T t) {
+            final Union3<T, U, V> union = interner.lookup(0, t);
+            return union == null ? factory.first(t) : union;
+        }
+
+        @Override
+        public Union3<T, U, V> second(U u) {
+            final Union3<T, U, V> union = interner.lookup(1, u);
+            return union == null ? factory.second(u) : union;
+        }
+
+        @Override
+        public Union3<T, U, V> third(V v) {
+            final Union3<T, U, V> union = interner.lookup(2, v);
+            return union == null ? factory.third(v) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class QuartetFactory<A, B, C, D> implements Union4.Factory<A, B, C, D> {
+        private final Interner<Union4<A, B, C, D>> interner = new Interner<>(4);
+
+        private final Union4.Factory<A, B, C, D> factory;
+
+        QuartetFactory(Union4.Factory<A, B, C, D> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union4<A, B, C, D> intern(Union4<A, B, C, D> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third,
+                    fourth -> fourth);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union4<A, B, C, D> first(A a) {
+            final Union4<A, B, C, D> union = interner.lookup(0, a);
+            return union == null ? factory.first(a) : union;
+        }
+
+        @Override
+        public Union4<A, B, C, D> second(B b) {
+            final Union4<A, B, C, D> union = interner.lookup(1, b);
+            return union == null ? factory.second(b) : union;
+        }
+
+        @Override
+        public Union4<A, B, C, D> third(C c) {
+            final Union4<A, B, C, D> union = interner.lookup(2, c);
+            return union == null ? factory.third(c) : union;
+        }
+
+        @Override
+        public Union4<A, B, C, D> fourth(D d) {
+            final Union4<A, B, C, D> union = interner.lookup(3, d);
+            return union == null ? factory.fourth(d) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class QuintetFactory<A, B, C, D, E>
+            implements Union5.Factory<A, B, C, D, E> {
+        private final Interner<Union5<A, B, C, D, E>> interner = new Interner<>(5);
+
+        private final Union5.Factory<A, B, C, D, E> factory;
+
+        QuintetFactory(Union5.Factory<A, B, C, D, E> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union5<A, B, C, D, E> intern(Union5<A, B, C, D, E> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third,
+                    fourth -> fourth, fifth -> fifth);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> first(A a) {
+            final Union5<A, B, C, D, E> union = interner.lookup(0, a);
+            return union == null ? factory.first(a) : union;
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> second(B b) {
+            final Union5<A, B, C, D, E> union = interner.lookup(1, b);
+            return union == null ? factory.second(b) : union;
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> third(C c) {
+            final Union5<A, B, C, D, E> union = interner.lookup(2, c);
+            return union == null ? factory.third(c) : union;
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> fourth(D d) {
+            final Union5<A, B, C, D, E> union = interner.lookup(3, d);
+            return union == null ? factory.fourth(d) : union;
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> fifth(E e) {
+            final Union5<A, B, C, D, E> union = interner.lookup(4, e);
+            return union == null ? factory.fifth(e) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class SextetFactory<A, B, C, D, E, F>
+            implements Union6.Factory<A, B, C, D, E, F> {
+        private final Interner<Union6<A, B, C, D, E, F>> interner = new Interner<>(6);
+
+        private final Union6.Factory<A, B, C, D, E, F> factory;
+
+        SextetFactory(Union6.Factory<A, B, C, D, E, F> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union6<A, B, C, D, E, F> intern(Union6<A, B, C, D, E, F> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third,
+                    fourth -> fourth, fifth -> fifth, sixth -> sixth);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> first(A a) {
+            final Union6<A, B, C, D, E, F> union = interner.lookup(0, a);
+            return union == null ? factory.first(a) : union;
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> second(B b) {
+            final Union6<A, B, C, D, E, F> union = interner.lookup(1, b);
+            return union == null ? factory.second(b) : union;
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> third(C c) {
+            final Union6<A, B, C, D, E, F> union = interner.lookup(2, c);
+            return union == null ? factory.third(c) : union;
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> fourth(D d) {
+            final Union6<A, B, C, D, E, F> union = interner.lookup(3, d);
+            return union == null ? factory.fourth(d) : union;
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> fifth(E e) {
+            final Union6<A, B, C, D, E, F> union = interner.lookup(4, e);
+            return union == null ? factory.fifth(e) : union;
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> sixth(F f) {
+            final Union6<A, B, C, D, E, F> union = interner.lookup(5, f);
+            return union == null ? factory.sixth(f) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class SeptetFactory<A, B, C, D, E, F, G>
+            implements Union7.Factory<A, B, C, D, E, F, G> {
+        private final Interner<Union7<A, B, C, D, E, F, G>> interner = new Interner<>(7);
+
+        private final Union7.Factory<A, B, C, D, E, F, G> factory;
+
+        SeptetFactory(Union7.Factory<A, B, C, D, E, F, G> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union7<A, B, C, D, E, F, G> intern(Union7<A, B, C, D, E, F, G> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third,
+                    fourth -> fourth, fifth -> fifth, sixth -> sixth, seventh -> seventh);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> first(A a) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(0, a);
+            return union == null ? factory.first(a) : union;
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> second(B b) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(1, b);
+            return union == null ? factory.second(b) : union;
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> third(C c) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(2, c);
+            return union == null ? factory.third(c) : union;
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> fourth(D d) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(3, d);
+            return union == null ? factory.fourth(d) : union;
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> fifth(E e) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(4, e);
+            return union == null ? factory.fifth(e) : union;
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> sixth(F f) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(5, f);
+            return union == null ? factory.sixth(f) : union;
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> seventh(G g) {
+            final Union7<A, B, C, D, E, F, G> union = interner.lookup(6, g);
+            return union == null ? factory.seventh(g) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class OctetFactory<A, B, C, D, E, F, G, H>
+            implements Union8.Factory<A, B, C, D, E, F, G, H> {
+        private final Interner<Union8<A, B, C, D, E, F, G, H>> interner = new Interner<>(8);
+
+        private final Union8.Factory<A, B, C, D, E, F, G, H> factory;
+
+        OctetFactory(Union8.Factory<A, B, C, D, E, F, G, H> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union8<A, B, C, D, E, F, G, H> intern(Union8<A, B, C, D, E, F, G, H> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third,
+                    fourth -> fourth, fifth -> fifth, sixth -> sixth, seventh -> seventh,
+                    eighth -> eighth);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> first(A a) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(0, a);
+            return union == null ? factory.first(a) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> second(B b) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(1, b);
+            return union == null ? factory.second(b) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> third(C c) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(2, c);
+            return union == null ? factory.third(c) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> fourth(D d) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(3, d);
+            return union == null ? factory.fourth(d) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> fifth(E e) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(4, e);
+            return union == null ? factory.fifth(e) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> sixth(F f) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(5, f);
+            return union == null ? factory.sixth(f) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> seventh(G g) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(6, g);
+            return union == null ? factory.seventh(g) : union;
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> eighth(H h) {
+            final Union8<A, B, C, D, E, F, G, H> union = interner.lookup(7, h);
+            return union == null ? factory.eighth(h) : union;
+        }
+    }
+
+    /**
+     * Factory returning the canonical union for every value registered with {@link #intern}, and
+     * a union created by another factory for any other value.
+     */
+    public static final class NonetFactory<A, B, C, D, E, F, G, H, I>
+            implements Union9.Factory<A, B, C, D, E, F, G, H, I> {
+        private final Interner<Union9<A, B, C, D, E, F, G, H, I>> interner = new Interner<>(9);
+
+        private final Union9.Factory<A, B, C, D, E, F, G, H, I> factory;
+
+        NonetFactory(Union9.Factory<A, B, C, D, E, F, G, H, I> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Registers a union as the canonical one for the value it holds. Keep the result in a
+         * static field to get the union without a lookup.
+         *
+         * @param union the union
+         * @return the canonical union for the same value, which is the parameter unless an equal
+         *         value was registered before
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> intern(Union9<A, B, C, D, E, F, G, H, I> union) {
+            final Object value = union.join(first -> first, second -> second, third -> third,
+                    fourth -> fourth, fifth -> fifth, sixth -> sixth, seventh -> seventh,
+                    eighth -> eighth, ninth -> ninth);
+            return interner.register(Tagged.tagOf(union), value, union);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> first(A a) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(0, a);
+            return union == null ? factory.first(a) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> second(B b) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(1, b);
+            return union == null ? factory.second(b) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> third(C c) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(2, c);
+            return union == null ? factory.third(c) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> fourth(D d) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(3, d);
+            return union == null ? factory.fourth(d) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> fifth(E e) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(4, e);
+            return union == null ? factory.fifth(e) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> sixth(F f) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(5, f);
+            return union == null ? factory.sixth(f) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> seventh(G g) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(6, g);
+            return union == null ? factory.seventh(g) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> eighth(H h) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(7, h);
+            return union == null ? factory.eighth(h) : union;
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> ninth(I i) {
+            final Union9<A, B, C, D, E, F, G, H, I> union = interner.lookup(8, i);
+            return union == null ? factory.ninth(i) : union;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union4;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class LazyUnion4<A, B, C, D> implements Union4<A, B, C, D>, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte SECOND = 1;
+
+    static final byte THIRD = 2;
+
+    static final byte FOURTH = 3;
+
+    private final byte tag;
+
+    /* Written before the supplier is cleared, so reading a null supplier makes it visible */
+    private Object value;
+
+    private volatile Supplier<?> supplier;
+
+    LazyUnion4(byte tag, Object value, Supplier<?> supplier) {
+        this.tag = tag;
+        this.value = value;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird, Consumer<D> continuationFourth) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept((A)value());
+                break;
+            case SECOND:
+                continuationSecond.accept((B)value());
+                break;
+            case THIRD:
+                continuationThird.accept((C)value());
+                break;
+            default:
+                continuationFourth.accept((D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> void continued(X context, BiConsumer<X, A> continuationFirst,
+            BiConsumer<X, B> continuationSecond, BiConsumer<X, C> continuationThird,
+            BiConsumer<X, D> continuationFourth) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, (A)value());
+                break;
+            case SECOND:
+                continuationSecond.accept(context, (B)value());
+                break;
+            case THIRD:
+                continuationThird.accept(context, (C)value());
+                break;
+            default:
+                continuationFourth.accept(context, (D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply((A)value());
+            case SECOND:
+                return mapSecond.apply((B)value());
+            case THIRD:
+                return mapThird.apply((C)value());
+            default:
+                return mapFourth.apply((D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Union4.Matcher<A, B, C, D, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first((A)value());
+            case SECOND:
+                return matcher.second((B)value());
+            case THIRD:
+                return matcher.third((C)value());
+            default:
+                return matcher.fourth((D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X, R> R join(X context, BiFunction<X, A, R> mapFirst, BiFunction<X, B, R> mapSecond,
+            BiFunction<X, C, R> mapThird, BiFunction<X, D, R> mapFourth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, (A)value());
+            case SECOND:
+                return mapSecond.apply(context, (B)value());
+            case THIRD:
+                return mapThird.apply(context, (C)value());
+            default:
+                return mapFourth.apply(context, (D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int joinToInt(ToIntFunction<A> mapFirst, ToIntFunction<B> mapSecond,
+            ToIntFunction<C> mapThird, ToIntFunction<D> mapFourth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt((A)value());
+            case SECOND:
+                return mapSecond.applyAsInt((B)value());
+            case THIRD:
+                return mapThird.applyAsInt((C)value());
+            default:
+                return mapFourth.applyAsInt((D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long joinToLong(ToLongFunction<A> mapFirst, ToLongFunction<B> mapSecond,
+            ToLongFunction<C> mapThird, ToLongFunction<D> mapFourth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong((A)value());
+            case SECOND:
+                return mapSecond.applyAsLong((B)value());
+            case THIRD:
+                return mapThird.applyAsLong((C)value());
+            default:
+                return mapFourth.applyAsLong((D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double joinToDouble(ToDoubleFunction<A> mapFirst, ToDoubleFunction<B> mapSecond,
+            ToDoubleFunction<C> mapThird, ToDoubleFunction<D> mapFourth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble((A)value());
+            case SECOND:
+                return mapSecond.applyAsDouble((B)value());
+            case THIRD:
+                return mapThird.applyAsDouble((C)value());
+            default:
+                return mapFourth.applyAsDouble((D)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean joinToBoolean(Predicate<A> mapFirst, Predicate<B> mapSecond,
+            Predicate<C> mapThird, Predicate<D> mapFourth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test((A)value());
+            case SECOND:
+                return mapSecond.test((B)value());
+            case THIRD:
+                return mapThird.test((C)value());
+            default:
+                return mapFourth.test((D)value());
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LazyUnion4))
+            return false;
+        final LazyUnion4 other = (LazyUnion4)o;
+        if (tag != other.tag)
+            return false;
+        final Object this$value = this.value();
+        final Object other$value = other.value();
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        return Hashes.hash(4, tag, value());
+    }
+
+    @Override
+    public String toString() {
+        return value().toString();
+    }
+
+    /* Runs the supplier at most once, then drops it so that what it captured can be collected */
+    private Object value() {
+        if (supplier != null) {
+            synchronized (this) {
+                final Supplier<?> pending = supplier;
+                if (pending != null) {
+                    value = pending.get();
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+}
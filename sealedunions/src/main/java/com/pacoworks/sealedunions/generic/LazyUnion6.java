@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union6;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class LazyUnion6<A, B, C, D, E, F> implements Union6<A, B, C, D, E, F>, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte SECOND = 1;
+
+    static final byte THIRD = 2;
+
+    static final byte FOURTH = 3;
+
+    static final byte FIFTH = 4;
+
+    static final byte SIXTH = 5;
+
+    private final byte tag;
+
+    /* Written before the supplier is cleared, so reading a null supplier makes it visible */
+    private Object value;
+
+    private volatile Supplier<?> supplier;
+
+    LazyUnion6(byte tag, Object value, Supplier<?> supplier) {
+        this.tag = tag;
+        this.value = value;
+        this.supplier = supplier;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<A> continuationFirst, Consumer<B> continuationSecond,
+            Consumer<C> continuationThird, Consumer<D> continuationFourth,
+            Consumer<E> continuationFifth, Consumer<F> continuationSixth) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept((A)value());
+                break;
+            case SECOND:
+                continuationSecond.accept((B)value());
+                break;
+            case THIRD:
+                continuationThird.accept((C)value());
+                break;
+            case FOURTH:
+                continuationFourth.accept((D)value());
+                break;
+            case FIFTH:
+                continuationFifth.accept((E)value());
+                break;
+            default:
+                continuationSixth.accept((F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> void continued(X context, BiConsumer<X, A> continuationFirst,
+            BiConsumer<X, B> continuationSecond, BiConsumer<X, C> continuationThird,
+            BiConsumer<X, D> continuationFourth, BiConsumer<X, E> continuationFifth,
+            BiConsumer<X, F> continuationSixth) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, (A)value());
+                break;
+            case SECOND:
+                continuationSecond.accept(context, (B)value());
+                break;
+            case THIRD:
+                continuationThird.accept(context, (C)value());
+                break;
+            case FOURTH:
+                continuationFourth.accept(context, (D)value());
+                break;
+            case FIFTH:
+                continuationFifth.accept(context, (E)value());
+                break;
+            default:
+                continuationSixth.accept(context, (F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
+            Function<D, R> mapFourth, Function<E, R> mapFifth, Function<F, R> mapSixth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply((A)value());
+            case SECOND:
+                return mapSecond.apply((B)value());
+            case THIRD:
+                return mapThird.apply((C)value());
+            case FOURTH:
+                return mapFourth.apply((D)value());
+            case FIFTH:
+                return mapFifth.apply((E)value());
+            default:
+                return mapSixth.apply((F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Union6.Matcher<A, B, C, D, E, F, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first((A)value());
+            case SECOND:
+                return matcher.second((B)value());
+            case THIRD:
+                return matcher.third((C)value());
+            case FOURTH:
+                return matcher.fourth((D)value());
+            case FIFTH:
+                return matcher.fifth((E)value());
+            default:
+                return matcher.sixth((F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X, R> R join(X context, BiFunction<X, A, R> mapFirst, BiFunction<X, B, R> mapSecond,
+            BiFunction<X, C, R> mapThird, BiFunction<X, D, R> mapFourth,
+            BiFunction<X, E, R> mapFifth, BiFunction<X, F, R> mapSixth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, (A)value());
+            case SECOND:
+                return mapSecond.apply(context, (B)value());
+            case THIRD:
+                return mapThird.apply(context, (C)value());
+            case FOURTH:
+                return mapFourth.apply(context, (D)value());
+            case FIFTH:
+                return mapFifth.apply(context, (E)value());
+            default:
+                return mapSixth.apply(context, (F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int joinToInt(ToIntFunction<A> mapFirst, ToIntFunction<B> mapSecond,
+            ToIntFunction<C> mapThird, ToIntFunction<D> mapFourth, ToIntFunction<E> mapFifth,
+            ToIntFunction<F> mapSixth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt((A)value());
+            case SECOND:
+                return mapSecond.applyAsInt((B)value());
+            case THIRD:
+                return mapThird.applyAsInt((C)value());
+            case FOURTH:
+                return mapFourth.applyAsInt((D)value());
+            case FIFTH:
+                return mapFifth.applyAsInt((E)value());
+            default:
+                return mapSixth.applyAsInt((F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long joinToLong(ToLongFunction<A> mapFirst, ToLongFunction<B> mapSecond,
+            ToLongFunction<C> mapThird, ToLongFunction<D> mapFourth, ToLongFunction<E> mapFifth,
+            ToLongFunction<F> mapSixth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong((A)value());
+            case SECOND:
+                return mapSecond.applyAsLong((B)value());
+            case THIRD:
+                return mapThird.applyAsLong((C)value());
+            case FOURTH:
+                return mapFourth.applyAsLong((D)value());
+            case FIFTH:
+                return mapFifth.applyAsLong((E)value());
+            default:
+                return mapSixth.applyAsLong((F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double joinToDouble(ToDoubleFunction<A> mapFirst, ToDoubleFunction<B> mapSecond,
+            ToDoubleFunction<C> mapThird, ToDoubleFunction<D> mapFourth,
+            ToDoubleFunction<E> mapFifth, ToDoubleFunction<F> mapSixth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble((A)value());
+            case SECOND:
+                return mapSecond.applyAsDouble((B)value());
+            case THIRD:
+                return mapThird.applyAsDouble((C)value());
+            case FOURTH:
+                return mapFourth.applyAsDouble((D)value());
+            case FIFTH:
+                return mapFifth.applyAsDouble((E)value());
+            default:
+                return mapSixth.applyAsDouble((F)value());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean joinToBoolean(Predicate<A> mapFirst, Predicate<B> mapSecond,
+            Predicate<C> mapThird, Predicate<D> mapFourth, Predicate<E> mapFifth,
+            Predicate<F> mapSixth) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test((A)value());
+            case SECOND:
+                return mapSecond.test((B)value());
+            case THIRD:
+                return mapThird.test((C)value());
+            case FOURTH:
+                return mapFourth.test((D)value());
+            case FIFTH:
+                return mapFifth.test((E)value());
+            default:
+                return mapSixth.test((F)value());
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof LazyUnion6))
+            return false;
+        final LazyUnion6 other = (LazyUnion6)o;
+        if (tag != other.tag)
+            return false;
+        final Object this$value = this.value();
+        final Object other$value = other.value();
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        return Hashes.hash(6, tag, value());
+    }
+
+    @Override
+    public String toString() {
+        return value().toString();
+    }
+
+    /* Runs the supplier at most once, then drops it so that what it captured can be collected */
+    private Object value() {
+        if (supplier != null) {
+            synchronized (this) {
+                final Supplier<?> pending = supplier;
+                if (pending != null) {
+                    value = pending.get();
+                    supplier = null;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,922 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.*;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Factories for unions holding a value that is expensive to compute and often not needed, like a
+ * parsed document. The union stores the tag and a {@link Supplier}, which runs the first time the
+ * union is joined or continued, so unions that are only routed by {@link Tagged#tag()}, filtered
+ * out or dropped never compute their value.
+ * <p>
+ * The supplier runs at most once even when several threads use the union at the same time, and is
+ * released after running. If it throws, the exception is propagated and the supplier runs again the
+ * next time the value is needed. {@code equals}, {@code hashCode} and {@code toString} need the
+ * value too, so they run the supplier.
+ * <p>
+ * A lazy union is equal only to lazy unions of the same arity holding an equal value in the same
+ * position, whether they were created lazily or eagerly. It is never equal to a union from
+ * {@link TaggedUnions}, although both hash the same value to the same {@code hashCode}.
+ */
+public final class LazyUnions {
+    private static final DoubletFactory<?, ?> DOUBLET_FACTORY = new DoubletFactory<>();
+
+    private static final TripletFactory<?, ?, ?> TRIPLET_FACTORY = new TripletFactory<>();
+
+    private static final QuartetFactory<?, ?, ?, ?> QUARTET_FACTORY = new QuartetFactory<>();
+
+    private static final QuintetFactory<?, ?, ?, ?, ?> QUINTET_FACTORY = new QuintetFactory<>();
+
+    private static final SextetFactory<?, ?, ?, ?, ?, ?> SEXTET_FACTORY = new SextetFactory<>();
+
+    private static final SeptetFactory<?, ?, ?, ?, ?, ?, ?> SEPTET_FACTORY = new SeptetFactory<>();
+
+    private static final OctetFactory<?, ?, ?, ?, ?, ?, ?, ?> OCTET_FACTORY = new OctetFactory<>();
+
+    private static final NonetFactory<?, ?, ?, ?, ?, ?, ?, ?, ?> NONET_FACTORY =
+            new NonetFactory<>();
+
+    private LazyUnions() {
+        // No instances.
+    }
+
+    /**
+     * Lazy factory for {@link Union2}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> DoubletFactory<T, U> doubletFactory() {
+        return (DoubletFactory<T, U>)DOUBLET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union3}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U, V> TripletFactory<T, U, V> tripletFactory() {
+        return (TripletFactory<T, U, V>)TRIPLET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union4}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D> QuartetFactory<A, B, C, D> quartetFactory() {
+        return (QuartetFactory<A, B, C, D>)QUARTET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union5}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E> QuintetFactory<A, B, C, D, E> quintetFactory() {
+        return (QuintetFactory<A, B, C, D, E>)QUINTET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union6}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F> SextetFactory<A, B, C, D, E, F> sextetFactory() {
+        return (SextetFactory<A, B, C, D, E, F>)SEXTET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union7}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G> SeptetFactory<A, B, C, D, E, F, G> septetFactory() {
+        return (SeptetFactory<A, B, C, D, E, F, G>)SEPTET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union8}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H> OctetFactory<A, B, C, D, E, F, G, H> octetFactory() {
+        return (OctetFactory<A, B, C, D, E, F, G, H>)OCTET_FACTORY;
+    }
+
+    /**
+     * Lazy factory for {@link Union9}
+     *
+     * @return the factory
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, C, D, E, F, G, H, I> NonetFactory<A, B, C, D, E, F, G, H,
+            I> nonetFactory() {
+        return (NonetFactory<A, B, C, D, E, F, G, H, I>)NONET_FACTORY;
+    }
+
+    /**
+     * Factory for {@link Union2} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union2.Factory} is
+     */
+    public static final class DoubletFactory<T, U> implements Union2.Factory<T, U> {
+        DoubletFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param t supplier of the value, run at most once
+         * @return the union
+         */
+        public Union2<T, U> lazyFirst(Supplier<? extends T> t) {
+            return new LazyUnion2<>(LazyUnion2.FIRST, null, Objects.requireNonNull(t));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param u supplier of the value, run at most once
+         * @return the union
+         */
+        public Union2<T, U> lazySecond(Supplier<? extends U> u) {
+            return new LazyUnion2<>(LazyUnion2.SECOND, null, Objects.requireNonNull(u));
+        }
+
+        @Override
+        public Union2<T, U> first(T t) {
+            return new LazyUnion2<>(LazyUnion2.FIRST, t, null);
+        }
+
+        @Override
+        public Union2<T, U> second(U u) {
+            return new LazyUnion2<>(LazyUnion2.SECOND, u, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union3} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union3.Factory} is
+     */
+    public static final class TripletFactory<T, U, V> implements Union3.Factory<T, U, V> {
+        TripletFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param t supplier of the value, run at most once
+         * @return the union
+         */
+        public Union3<T, U, V> lazyFirst(Supplier<? extends T> t) {
+            return new LazyUnion3<>(LazyUnion3.FIRST, null, Objects.requireNonNull(t));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param u supplier of the value, run at most once
+         * @return the union
+         */
+        public Union3<T, U, V> lazySecond(Supplier<? extends U> u) {
+            return new LazyUnion3<>(LazyUnion3.SECOND, null, Objects.requireNonNull(u));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param v supplier of the value, run at most once
+         * @return the union
+         */
+        public Union3<T, U, V> lazyThird(Supplier<? extends V> v) {
+            return new LazyUnion3<>(LazyUnion3.THIRD, null, Objects.requireNonNull(v));
+        }
+
+        @Override
+        public Union3<T, U, V> first(T t) {
+            return new LazyUnion3<>(LazyUnion3.FIRST, t, null);
+        }
+
+        @Override
+        public Union3<T, U, V> second(U u) {
+            return new LazyUnion3<>(LazyUnion3.SECOND, u, null);
+        }
+
+        @Override
+        public Union3<T, U, V> third(V v) {
+            return new LazyUnion3<>(LazyUnion3.THIRD, v, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union4} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union4.Factory} is
+     */
+    public static final class QuartetFactory<A, B, C, D> implements Union4.Factory<A, B, C, D> {
+        QuartetFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param a supplier of the value, run at most once
+         * @return the union
+         */
+        public Union4<A, B, C, D> lazyFirst(Supplier<? extends A> a) {
+            return new LazyUnion4<>(LazyUnion4.FIRST, null, Objects.requireNonNull(a));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param b supplier of the value, run at most once
+         * @return the union
+         */
+        public Union4<A, B, C, D> lazySecond(Supplier<? extends B> b) {
+            return new LazyUnion4<>(LazyUnion4.SECOND, null, Objects.requireNonNull(b));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param c supplier of the value, run at most once
+         * @return the union
+         */
+        public Union4<A, B, C, D> lazyThird(Supplier<? extends C> c) {
+            return new LazyUnion4<>(LazyUnion4.THIRD, null, Objects.requireNonNull(c));
+        }
+
+        /**
+         * Creates a union holding the fourth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param d supplier of the value, run at most once
+         * @return the union
+         */
+        public Union4<A, B, C, D> lazyFourth(Supplier<? extends D> d) {
+            return new LazyUnion4<>(LazyUnion4.FOURTH, null, Objects.requireNonNull(d));
+        }
+
+        @Override
+        public Union4<A, B, C, D> first(A a) {
+            return new LazyUnion4<>(LazyUnion4.FIRST, a, null);
+        }
+
+        @Override
+        public Union4<A, B, C, D> second(B b) {
+            return new LazyUnion4<>(LazyUnion4.SECOND, b, null);
+        }
+
+        @Override
+        public Union4<A, B, C, D> third(C c) {
+            return new LazyUnion4<>(LazyUnion4.THIRD, c, null);
+        }
+
+        @Override
+        public Union4<A, B, C, D> fourth(D d) {
+            return new LazyUnion4<>(LazyUnion4.FOURTH, d, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union5} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union5.Factory} is
+     */
+    public static final class QuintetFactory<A, B, C, D, E>
+            implements Union5.Factory<A, B, C, D, E> {
+        QuintetFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param a supplier of the value, run at most once
+         * @return the union
+         */
+        public Union5<A, B, C, D, E> lazyFirst(Supplier<? extends A> a) {
+            return new LazyUnion5<>(LazyUnion5.FIRST, null, Objects.requireNonNull(a));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param b supplier of the value, run at most once
+         * @return the union
+         */
+        public Union5<A, B, C, D, E> lazySecond(Supplier<? extends B> b) {
+            return new LazyUnion5<>(LazyUnion5.SECOND, null, Objects.requireNonNull(b));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param c supplier of the value, run at most once
+         * @return the union
+         */
+        public Union5<A, B, C, D, E> lazyThird(Supplier<? extends C> c) {
+            return new LazyUnion5<>(LazyUnion5.THIRD, null, Objects.requireNonNull(c));
+        }
+
+        /**
+         * Creates a union holding the fourth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param d supplier of the value, run at most once
+         * @return the union
+         */
+        public Union5<A, B, C, D, E> lazyFourth(Supplier<? extends D> d) {
+            return new LazyUnion5<>(LazyUnion5.FOURTH, null, Objects.requireNonNull(d));
+        }
+
+        /**
+         * Creates a union holding the fifth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param e supplier of the value, run at most once
+         * @return the union
+         */
+        public Union5<A, B, C, D, E> lazyFifth(Supplier<? extends E> e) {
+            return new LazyUnion5<>(LazyUnion5.FIFTH, null, Objects.requireNonNull(e));
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> first(A a) {
+            return new LazyUnion5<>(LazyUnion5.FIRST, a, null);
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> second(B b) {
+            return new LazyUnion5<>(LazyUnion5.SECOND, b, null);
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> third(C c) {
+            return new LazyUnion5<>(LazyUnion5.THIRD, c, null);
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> fourth(D d) {
+            return new LazyUnion5<>(LazyUnion5.FOURTH, d, null);
+        }
+
+        @Override
+        public Union5<A, B, C, D, E> fifth(E e) {
+            return new LazyUnion5<>(LazyUnion5.FIFTH, e, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union6} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union6.Factory} is
+     */
+    public static final class SextetFactory<A, B, C, D, E, F>
+            implements Union6.Factory<A, B, C, D, E, F> {
+        SextetFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param a supplier of the value, run at most once
+         * @return the union
+         */
+        public Union6<A, B, C, D, E, F> lazyFirst(Supplier<? extends A> a) {
+            return new LazyUnion6<>(LazyUnion6.FIRST, null, Objects.requireNonNull(a));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param b supplier of the value, run at most once
+         * @return the union
+         */
+        public Union6<A, B, C, D, E, F> lazySecond(Supplier<? extends B> b) {
+            return new LazyUnion6<>(LazyUnion6.SECOND, null, Objects.requireNonNull(b));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param c supplier of the value, run at most once
+         * @return the union
+         */
+        public Union6<A, B, C, D, E, F> lazyThird(Supplier<? extends C> c) {
+            return new LazyUnion6<>(LazyUnion6.THIRD, null, Objects.requireNonNull(c));
+        }
+
+        /**
+         * Creates a union holding the fourth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param d supplier of the value, run at most once
+         * @return the union
+         */
+        public Union6<A, B, C, D, E, F> lazyFourth(Supplier<? extends D> d) {
+            return new LazyUnion6<>(LazyUnion6.FOURTH, null, Objects.requireNonNull(d));
+        }
+
+        /**
+         * Creates a union holding the fifth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param e supplier of the value, run at most once
+         * @return the union
+         */
+        public Union6<A, B, C, D, E, F> lazyFifth(Supplier<? extends E> e) {
+            return new LazyUnion6<>(LazyUnion6.FIFTH, null, Objects.requireNonNull(e));
+        }
+
+        /**
+         * Creates a union holding the sixth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param f supplier of the value, run at most once
+         * @return the union
+         */
+        public Union6<A, B, C, D, E, F> lazySixth(Supplier<? extends F> f) {
+            return new LazyUnion6<>(LazyUnion6.SIXTH, null, Objects.requireNonNull(f));
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> first(A a) {
+            return new LazyUnion6<>(LazyUnion6.FIRST, a, null);
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> second(B b) {
+            return new LazyUnion6<>(LazyUnion6.SECOND, b, null);
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> third(C c) {
+            return new LazyUnion6<>(LazyUnion6.THIRD, c, null);
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> fourth(D d) {
+            return new LazyUnion6<>(LazyUnion6.FOURTH, d, null);
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> fifth(E e) {
+            return new LazyUnion6<>(LazyUnion6.FIFTH, e, null);
+        }
+
+        @Override
+        public Union6<A, B, C, D, E, F> sixth(F f) {
+            return new LazyUnion6<>(LazyUnion6.SIXTH, f, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union7} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union7.Factory} is
+     */
+    public static final class SeptetFactory<A, B, C, D, E, F, G>
+            implements Union7.Factory<A, B, C, D, E, F, G> {
+        SeptetFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param a supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazyFirst(Supplier<? extends A> a) {
+            return new LazyUnion7<>(LazyUnion7.FIRST, null, Objects.requireNonNull(a));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param b supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazySecond(Supplier<? extends B> b) {
+            return new LazyUnion7<>(LazyUnion7.SECOND, null, Objects.requireNonNull(b));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param c supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazyThird(Supplier<? extends C> c) {
+            return new LazyUnion7<>(LazyUnion7.THIRD, null, Objects.requireNonNull(c));
+        }
+
+        /**
+         * Creates a union holding the fourth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param d supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazyFourth(Supplier<? extends D> d) {
+            return new LazyUnion7<>(LazyUnion7.FOURTH, null, Objects.requireNonNull(d));
+        }
+
+        /**
+         * Creates a union holding the fifth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param e supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazyFifth(Supplier<? extends E> e) {
+            return new LazyUnion7<>(LazyUnion7.FIFTH, null, Objects.requireNonNull(e));
+        }
+
+        /**
+         * Creates a union holding the sixth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param f supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazySixth(Supplier<? extends F> f) {
+            return new LazyUnion7<>(LazyUnion7.SIXTH, null, Objects.requireNonNull(f));
+        }
+
+        /**
+         * Creates a union holding the seventh type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param g supplier of the value, run at most once
+         * @return the union
+         */
+        public Union7<A, B, C, D, E, F, G> lazySeventh(Supplier<? extends G> g) {
+            return new LazyUnion7<>(LazyUnion7.SEVENTH, null, Objects.requireNonNull(g));
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> first(A a) {
+            return new LazyUnion7<>(LazyUnion7.FIRST, a, null);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> second(B b) {
+            return new LazyUnion7<>(LazyUnion7.SECOND, b, null);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> third(C c) {
+            return new LazyUnion7<>(LazyUnion7.THIRD, c, null);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> fourth(D d) {
+            return new LazyUnion7<>(LazyUnion7.FOURTH, d, null);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> fifth(E e) {
+            return new LazyUnion7<>(LazyUnion7.FIFTH, e, null);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> sixth(F f) {
+            return new LazyUnion7<>(LazyUnion7.SIXTH, f, null);
+        }
+
+        @Override
+        public Union7<A, B, C, D, E, F, G> seventh(G g) {
+            return new LazyUnion7<>(LazyUnion7.SEVENTH, g, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union8} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union8.Factory} is
+     */
+    public static final class OctetFactory<A, B, C, D, E, F, G, H>
+            implements Union8.Factory<A, B, C, D, E, F, G, H> {
+        OctetFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param a supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazyFirst(Supplier<? extends A> a) {
+            return new LazyUnion8<>(LazyUnion8.FIRST, null, Objects.requireNonNull(a));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param b supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazySecond(Supplier<? extends B> b) {
+            return new LazyUnion8<>(LazyUnion8.SECOND, null, Objects.requireNonNull(b));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param c supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazyThird(Supplier<? extends C> c) {
+            return new LazyUnion8<>(LazyUnion8.THIRD, null, Objects.requireNonNull(c));
+        }
+
+        /**
+         * Creates a union holding the fourth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param d supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazyFourth(Supplier<? extends D> d) {
+            return new LazyUnion8<>(LazyUnion8.FOURTH, null, Objects.requireNonNull(d));
+        }
+
+        /**
+         * Creates a union holding the fifth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param e supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazyFifth(Supplier<? extends E> e) {
+            return new LazyUnion8<>(LazyUnion8.FIFTH, null, Objects.requireNonNull(e));
+        }
+
+        /**
+         * Creates a union holding the sixth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param f supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazySixth(Supplier<? extends F> f) {
+            return new LazyUnion8<>(LazyUnion8.SIXTH, null, Objects.requireNonNull(f));
+        }
+
+        /**
+         * Creates a union holding the seventh type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param g supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazySeventh(Supplier<? extends G> g) {
+            return new LazyUnion8<>(LazyUnion8.SEVENTH, null, Objects.requireNonNull(g));
+        }
+
+        /**
+         * Creates a union holding the eighth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param h supplier of the value, run at most once
+         * @return the union
+         */
+        public Union8<A, B, C, D, E, F, G, H> lazyEighth(Supplier<? extends H> h) {
+            return new LazyUnion8<>(LazyUnion8.EIGHTH, null, Objects.requireNonNull(h));
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> first(A a) {
+            return new LazyUnion8<>(LazyUnion8.FIRST, a, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> second(B b) {
+            return new LazyUnion8<>(LazyUnion8.SECOND, b, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> third(C c) {
+            return new LazyUnion8<>(LazyUnion8.THIRD, c, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> fourth(D d) {
+            return new LazyUnion8<>(LazyUnion8.FOURTH, d, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> fifth(E e) {
+            return new LazyUnion8<>(LazyUnion8.FIFTH, e, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> sixth(F f) {
+            return new LazyUnion8<>(LazyUnion8.SIXTH, f, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> seventh(G g) {
+            return new LazyUnion8<>(LazyUnion8.SEVENTH, g, null);
+        }
+
+        @Override
+        public Union8<A, B, C, D, E, F, G, H> eighth(H h) {
+            return new LazyUnion8<>(LazyUnion8.EIGHTH, h, null);
+        }
+    }
+
+    /**
+     * Factory for {@link Union9} whose value is computed when first needed, which also creates
+     * unions from values already computed so it can be used anywhere a {@link Union9.Factory} is
+     */
+    public static final class NonetFactory<A, B, C, D, E, F, G, H, I>
+            implements Union9.Factory<A, B, C, D, E, F, G, H, I> {
+        NonetFactory() {
+        }
+
+        /**
+         * Creates a union holding the first type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param a supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazyFirst(Supplier<? extends A> a) {
+            return new LazyUnion9<>(LazyUnion9.FIRST, null, Objects.requireNonNull(a));
+        }
+
+        /**
+         * Creates a union holding the second type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param b supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazySecond(Supplier<? extends B> b) {
+            return new LazyUnion9<>(LazyUnion9.SECOND, null, Objects.requireNonNull(b));
+        }
+
+        /**
+         * Creates a union holding the third type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param c supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazyThird(Supplier<? extends C> c) {
+            return new LazyUnion9<>(LazyUnion9.THIRD, null, Objects.requireNonNull(c));
+        }
+
+        /**
+         * Creates a union holding the fourth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param d supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazyFourth(Supplier<? extends D> d) {
+            return new LazyUnion9<>(LazyUnion9.FOURTH, null, Objects.requireNonNull(d));
+        }
+
+        /**
+         * Creates a union holding the fifth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param e supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazyFifth(Supplier<? extends E> e) {
+            return new LazyUnion9<>(LazyUnion9.FIFTH, null, Objects.requireNonNull(e));
+        }
+
+        /**
+         * Creates a union holding the sixth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param f supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazySixth(Supplier<? extends F> f) {
+            return new LazyUnion9<>(LazyUnion9.SIXTH, null, Objects.requireNonNull(f));
+        }
+
+        /**
+         * Creates a union holding the seventh type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param g supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazySeventh(Supplier<? extends G> g) {
+            return new LazyUnion9<>(LazyUnion9.SEVENTH, null, Objects.requireNonNull(g));
+        }
+
+        /**
+         * Creates a union holding the eighth type, whose value is computed by the supplier the
+         * first time the union is joined, continued, compared or hashed
+         *
+         * @param h supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazyEighth(Supplier<? extends H> h) {
+            return new LazyUnion9<>(LazyUnion9.EIGHTH, null, Objects.requireNonNull(h));
+        }
+
+        /**
+         * Creates a union holding the ninth type, whose value is computed by the supplier the first
+         * time the union is joined, continued, compared or hashed
+         *
+         * @param i supplier of the value, run at most once
+         * @return the union
+         */
+        public Union9<A, B, C, D, E, F, G, H, I> lazyNinth(Supplier<? extends I> i) {
+            return new LazyUnion9<>(LazyUnion9.NINTH, null, Objects.requireNonNull(i));
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> first(A a) {
+            return new LazyUnion9<>(LazyUnion9.FIRST, a, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> second(B b) {
+            return new LazyUnion9<>(LazyUnion9.SECOND, b, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> third(C c) {
+            return new LazyUnion9<>(LazyUnion9.THIRD, c, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> fourth(D d) {
+            return new LazyUnion9<>(LazyUnion9.FOURTH, d, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> fifth(E e) {
+            return new LazyUnion9<>(LazyUnion9.FIFTH, e, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> sixth(F f) {
+            return new LazyUnion9<>(LazyUnion9.SIXTH, f, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> seventh(G g) {
+            return new LazyUnion9<>(LazyUnion9.SEVENTH, g, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> eighth(H h) {
+            return new LazyUnion9<>(LazyUnion9.EIGHTH, h, null);
+        }
+
+        @Override
+        public Union9<A, B, C, D, E, F, G, H, I> ninth(I i) {
+            return new LazyUnion9<>(LazyUnion9.NINTH, i, null);
+        }
+    }
+}
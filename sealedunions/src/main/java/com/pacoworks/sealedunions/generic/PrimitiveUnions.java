@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.*;
+
+/**
+ * Factories for unions specialized for primitive values. Each union is a single class storing a tag
+ * and the unboxed value, so creating and joining them does not box.
+ */
+public final class PrimitiveUnions {
+    /* Factories hold no state, so a single instance of each is shared by every parameterization */
+    private static final IntDoubleUnion2.Factory INT_DOUBLE_UNION2_FACTORY =
+            newIntDoubleUnion2Factory();
+
+    private static final LongDoubleUnion2.Factory LONG_DOUBLE_UNION2_FACTORY =
+            newLongDoubleUnion2Factory();
+
+    private static final LongDoubleUnion3.Factory<?> LONG_DOUBLE_UNION3_FACTORY =
+            newLongDoubleUnion3Factory();
+
+    private static final IntLongDoubleUnion4.Factory<?> INT_LONG_DOUBLE_UNION4_FACTORY =
+            newIntLongDoubleUnion4Factory();
+
+    public static IntDoubleUnion2.Factory intDoubleUnion2Factory() {
+        return INT_DOUBLE_UNION2_FACTORY;
+    }
+
+    private static IntDoubleUnion2.Factory newIntDoubleUnion2Factory() {
+        return new IntDoubleUnion2.Factory() {
+            @Override
+            public IntDoubleUnion2 first(int value) {
+                return new TaggedIntDoubleUnion2(TaggedIntDoubleUnion2.FIRST, value);
+            }
+
+            @Override
+            public IntDoubleUnion2 second(double value) {
+                return new TaggedIntDoubleUnion2(TaggedIntDoubleUnion2.SECOND,
+                        Double.doubleToLongBits(value));
+            }
+        };
+    }
+
+    public static LongDoubleUnion2.Factory longDoubleUnion2Factory() {
+        return LONG_DOUBLE_UNION2_FACTORY;
+    }
+
+    private static LongDoubleUnion2.Factory newLongDoubleUnion2Factory() {
+        return new LongDoubleUnion2.Factory() {
+            @Override
+            public LongDoubleUnion2 first(long value) {
+                return new TaggedLongDoubleUnion2(TaggedLongDoubleUnion2.FIRST, value);
+            }
+
+            @Override
+            public LongDoubleUnion2 second(double value) {
+                return new TaggedLongDoubleUnion2(TaggedLongDoubleUnion2.SECOND,
+                        Double.doubleToLongBits(value));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Third> LongDoubleUnion3.Factory<Third> longDoubleUnion3Factory() {
+        return (LongDoubleUnion3.Factory<Third>)LONG_DOUBLE_UNION3_FACTORY;
+    }
+
+    private static <Third> LongDoubleUnion3.Factory<Third> newLongDoubleUnion3Factory() {
+        return new LongDoubleUnion3.Factory<Third>() {
+            @Override
+            public LongDoubleUnion3<Third> first(long value) {
+                return new TaggedLongDoubleUnion3<>(TaggedLongDoubleUnion3.FIRST, value, null);
+            }
+
+            @Override
+            public LongDoubleUnion3<Third> second(double value) {
+                return new TaggedLongDoubleUnion3<>(TaggedLongDoubleUnion3.SECOND,
+                        Double.doubleToLongBits(value), null);
+            }
+
+            @Override
+            public LongDoubleUnion3<Third> third(Third value) {
+                return new TaggedLongDoubleUnion3<>(TaggedLongDoubleUnion3.THIRD, 0, value);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Fourth> IntLongDoubleUnion4.Factory<Fourth> intLongDoubleUnion4Factory() {
+        return (IntLongDoubleUnion4.Factory<Fourth>)INT_LONG_DOUBLE_UNION4_FACTORY;
+    }
+
+    private static <Fourth> IntLongDoubleUnion4.Factory<Fourth> newIntLongDoubleUnion4Factory() {
+        return new IntLongDoubleUnion4.Factory<Fourth>() {
+            @Override
+            public IntLongDoubleUnion4<Fourth> first(int value) {
+                return new TaggedIntLongDoubleUnion4<>(TaggedIntLongDoubleUnion4.FIRST, value,
+                        null);
+            }
+
+            @Override
+            public IntLongDoubleUnion4<Fourth> second(long value) {
+                return new TaggedIntLongDoubleUnion4<>(TaggedIntLongDoubleUnion4.SECOND, value,
+                        null);
+            }
+
+            @Override
+            public IntLongDoubleUnion4<Fourth> third(double value) {
+                return new TaggedIntLongDoubleUnion4<>(TaggedIntLongDoubleUnion4.THIRD,
+                        Double.doubleToLongBits(value), null);
+            }
+
+            @Override
+            public IntLongDoubleUnion4<Fourth> fourth(Fourth value) {
+                return new TaggedIntLongDoubleUnion4<>(TaggedIntLongDoubleUnion4.FOURTH, 0, value);
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.LongDoubleUnion2;
+import com.pacoworks.sealedunions.Tagged;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+final class TaggedLongDoubleUnion2 implements LongDoubleUnion2, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte SECOND = 1;
+
+    private final byte tag;
+
+    private final long bits;
+
+    TaggedLongDoubleUnion2(byte tag, long bits) {
+        this.tag = tag;
+        this.bits = bits;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    public void continued(LongConsumer continuationFirst, DoubleConsumer continuationSecond) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(bits);
+                break;
+            default:
+                continuationSecond.accept(Double.longBitsToDouble(bits));
+        }
+    }
+
+    @Override
+    public <R> R join(LongFunction<R> mapFirst, DoubleFunction<R> mapSecond) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(bits);
+            default:
+                return mapSecond.apply(Double.longBitsToDouble(bits));
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof TaggedLongDoubleUnion2))
+            return false;
+        final TaggedLongDoubleUnion2 other = (TaggedLongDoubleUnion2)o;
+        if (tag != other.tag || bits != other.bits)
+            return false;
+        return true;
+    }
+
+    public int hashCode() {
+        return Hashes.hash(2, tag, (int)(bits ^ (bits >>> 32)));
+    }
+
+    @Override
+    public String toString() {
+        switch (tag) {
+            case FIRST:
+                return String.valueOf(bits);
+            default:
+                return String.valueOf(Double.longBitsToDouble(bits));
+        }
+    }
+}
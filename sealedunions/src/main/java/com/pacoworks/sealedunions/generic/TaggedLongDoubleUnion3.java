@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.LongDoubleUnion3;
+import com.pacoworks.sealedunions.Tagged;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+final class TaggedLongDoubleUnion3<Third> implements LongDoubleUnion3<Third>, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte SECOND = 1;
+
+    static final byte THIRD = 2;
+
+    private final byte tag;
+
+    private final long bits;
+
+    private final Object value;
+
+    TaggedLongDoubleUnion3(byte tag, long bits, Object value) {
+        this.tag = tag;
+        this.bits = bits;
+        this.value = value;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(LongConsumer continuationFirst, DoubleConsumer continuationSecond,
+            Consumer<Third> continuationThird) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(bits);
+                break;
+            case SECOND:
+                continuationSecond.accept(Double.longBitsToDouble(bits));
+                break;
+            default:
+                continuationThird.accept((Third)value);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(LongFunction<R> mapFirst, DoubleFunction<R> mapSecond,
+            Function<Third, R> mapThird) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(bits);
+            case SECOND:
+                return mapSecond.apply(Double.longBitsToDouble(bits));
+            default:
+                return mapThird.apply((Third)value);
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof TaggedLongDoubleUnion3))
+            return false;
+        final TaggedLongDoubleUnion3 other = (TaggedLongDoubleUnion3)o;
+        if (tag != other.tag || bits != other.bits)
+            return false;
+        final Object this$value = this.value;
+        final Object other$value = other.value;
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        final int bitsHash = (int)(bits ^ (bits >>> 32));
+        return Hashes.hash(3, tag, value == null ? bitsHash : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        switch (tag) {
+            case FIRST:
+                return String.valueOf(bits);
+            case SECOND:
+                return String.valueOf(Double.longBitsToDouble(bits));
+            default:
+                return value.toString();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union1;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class TaggedUnion1<T> implements Union1<T>, Tagged {
+    static final byte FIRST = 0;
+
+    static final byte NONE = 1;
+
+    private static final TaggedUnion1<?> NONE_INSTANCE = new TaggedUnion1<>(NONE, null);
+
+    @SuppressWarnings("unchecked")
+    static <T> TaggedUnion1<T> none() {
+        return (TaggedUnion1<T>)NONE_INSTANCE;
+    }
+
+    private final byte tag;
+
+    private final Object value;
+
+    TaggedUnion1(byte tag, Object value) {
+        this.tag = tag;
+        this.value = value;
+    }
+
+    @Override
+    public int tag() {
+        return tag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void continued(Consumer<T> continuationFirst, Runnable continuationNone) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept((T)value);
+                break;
+            default:
+                continuationNone.run();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            Consumer<X> continuationNone) {
+        switch (tag) {
+            case FIRST:
+                continuationFirst.accept(context, (T)value);
+                break;
+            default:
+                continuationNone.accept(context);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Function<T, R> mapFirst, Supplier<R> mapNone) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply((T)value);
+            default:
+                return mapNone.get();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R join(Union1.Matcher<T, R> matcher) {
+        switch (tag) {
+            case FIRST:
+                return matcher.first((T)value);
+            default:
+                return matcher.none();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, Function<X, R> mapNone) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.apply(context, (T)value);
+            default:
+                return mapNone.apply(context);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int joinToInt(ToIntFunction<T> mapFirst, IntSupplier mapNone) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsInt((T)value);
+            default:
+                return mapNone.getAsInt();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long joinToLong(ToLongFunction<T> mapFirst, LongSupplier mapNone) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsLong((T)value);
+            default:
+                return mapNone.getAsLong();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, DoubleSupplier mapNone) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.applyAsDouble((T)value);
+            default:
+                return mapNone.getAsDouble();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean joinToBoolean(Predicate<T> mapFirst, BooleanSupplier mapNone) {
+        switch (tag) {
+            case FIRST:
+                return mapFirst.test((T)value);
+            default:
+                return mapNone.getAsBoolean();
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (o == this)
+            return true;
+        if (!(o instanceof TaggedUnion1))
+            return false;
+        final TaggedUnion1 other = (TaggedUnion1)o;
+        if (tag != other.tag)
+            return false;
+        final Object this$value = this.value;
+        final Object other$value = other.value;
+        return this$value == null ? other$value == null : this$value.equals(other$value);
+    }
+
+    public int hashCode() {
+        return Hashes.hash(1, tag, value);
+    }
+
+    @Override
+    public String toString() {
+        return tag == NONE ? "None()" : value.toString();
+    }
+}
@@ -16,28 +16,75 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union0;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-final class Union0First<T> implements Union0<T> {
+final class Union0First<T> implements Union0<T>, Tagged {
     private final T value;
 
     public Union0First(T value) {
         this.value = value;
     }
 
+    @Override
+    public int tag() {
+        return 0;
+    }
+
     @Override
     public void continued(Consumer<T> continuationFirst) {
         continuationFirst.accept(value);
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst) {
+        continuationFirst.accept(context, value);
+    }
+
     @Override
     public <R> R join(Function<T, R> mapFirst) {
         return mapFirst.apply(value);
     }
 
+    @Override
+    public <R> R join(Union0.Matcher<T, R> matcher) {
+        return matcher.first(value);
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst) {
+        return mapFirst.apply(context, value);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<T> mapFirst) {
+        return mapFirst.applyAsInt(value);
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<T> mapFirst) {
+        return mapFirst.applyAsLong(value);
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<T> mapFirst) {
+        return mapFirst.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<T> mapFirst) {
+        return mapFirst.test(value);
+    }
+
     public boolean equals(Object o) {
         if (o == this)
             return true;
@@ -50,11 +97,7 @@ final class Union0First<T> implements Union0<T> {
     }
 
     public int hashCode() {
-        final int PRIME = 59;
-        int result = 1;
-        final Object $value = this.value;
-        result = result * PRIME + ($value == null ? 0 : $value.hashCode());
-        return result;
+        return Hashes.hash(0, 0, value);
     }
 
     @Override
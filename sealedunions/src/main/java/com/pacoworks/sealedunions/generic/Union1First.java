@@ -16,29 +16,81 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union1;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-final class Union1First<T> implements Union1<T> {
+final class Union1First<T> implements Union1<T>, Tagged {
     private final T value;
 
     public Union1First(T value) {
         this.value = value;
     }
 
+    @Override
+    public int tag() {
+        return 0;
+    }
+
     @Override
     public void continued(Consumer<T> continuationFirst, Runnable continuationNone) {
         continuationFirst.accept(value);
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            Consumer<X> continuationNone) {
+        continuationFirst.accept(context, value);
+    }
+
     @Override
     public <R> R join(Function<T, R> mapFirst, Supplier<R> mapNone) {
         return mapFirst.apply(value);
     }
 
+    @Override
+    public <R> R join(Union1.Matcher<T, R> matcher) {
+        return matcher.first(value);
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, Function<X, R> mapNone) {
+        return mapFirst.apply(context, value);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<T> mapFirst, IntSupplier mapNone) {
+        return mapFirst.applyAsInt(value);
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<T> mapFirst, LongSupplier mapNone) {
+        return mapFirst.applyAsLong(value);
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, DoubleSupplier mapNone) {
+        return mapFirst.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<T> mapFirst, BooleanSupplier mapNone) {
+        return mapFirst.test(value);
+    }
+
     public boolean equals(Object o) {
         if (o == this)
             return true;
@@ -51,11 +103,7 @@ final class Union1First<T> implements Union1<T> {
     }
 
     public int hashCode() {
-        final int PRIME = 59;
-        int result = 1;
-        final Object $value = this.value;
-        result = result * PRIME + ($value == null ? 0 : $value.hashCode());
-        return result;
+        return Hashes.hash(1, 0, value);
     }
 
     @Override
@@ -16,35 +16,91 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union1;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class Union1None<T> implements Union1<T>, Tagged {
+    private static final Union1None<?> INSTANCE = new Union1None<>();
+
+    @SuppressWarnings("unchecked")
+    static <T> Union1None<T> instance() {
+        return (Union1None<T>)INSTANCE;
+    }
+
+    private Union1None() {
+    }
+
+    @Override
+    public int tag() {
+        return 1;
+    }
 
-final class Union1None<T> implements Union1<T> {
     @Override
     public void continued(Consumer<T> continuationFirst, Runnable continuationNone) {
         continuationNone.run();
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            Consumer<X> continuationNone) {
+        continuationNone.accept(context);
+    }
+
     @Override
     public <R> R join(Function<T, R> mapFirst, Supplier<R> mapNone) {
         return mapNone.get();
     }
 
+    @Override
+    public <R> R join(Union1.Matcher<T, R> matcher) {
+        return matcher.none();
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, Function<X, R> mapNone) {
+        return mapNone.apply(context);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<T> mapFirst, IntSupplier mapNone) {
+        return mapNone.getAsInt();
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<T> mapFirst, LongSupplier mapNone) {
+        return mapNone.getAsLong();
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, DoubleSupplier mapNone) {
+        return mapNone.getAsDouble();
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<T> mapFirst, BooleanSupplier mapNone) {
+        return mapNone.getAsBoolean();
+    }
+
     public boolean equals(Object o) {
-        if (o == this)
-            return true;
-        if (!(o instanceof Union1None))
-            return false;
-        final Union1None other = (Union1None)o;
-        return true;
+        return o == this || o instanceof Union1None;
     }
 
     public int hashCode() {
-        int result = 1;
-        return result;
+        return Hashes.hash(1, 1, null);
     }
 
     @Override
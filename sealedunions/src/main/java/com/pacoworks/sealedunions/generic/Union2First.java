@@ -16,28 +16,76 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union2;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-final class Union2First<T, U> implements Union2<T, U> {
+final class Union2First<T, U> implements Union2<T, U>, Tagged {
     private final T value;
 
     public Union2First(T value) {
         this.value = value;
     }
 
+    @Override
+    public int tag() {
+        return 0;
+    }
+
     @Override
     public void continued(Consumer<T> continuationFirst, Consumer<U> continuationSecond) {
         continuationFirst.accept(value);
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            BiConsumer<X, U> continuationSecond) {
+        continuationFirst.accept(context, value);
+    }
+
     @Override
     public <R> R join(Function<T, R> mapFirst, Function<U, R> mapSecond) {
         return mapFirst.apply(value);
     }
 
+    @Override
+    public <R> R join(Union2.Matcher<T, U, R> matcher) {
+        return matcher.first(value);
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, BiFunction<X, U, R> mapSecond) {
+        return mapFirst.apply(context, value);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<T> mapFirst, ToIntFunction<U> mapSecond) {
+        return mapFirst.applyAsInt(value);
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<T> mapFirst, ToLongFunction<U> mapSecond) {
+        return mapFirst.applyAsLong(value);
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, ToDoubleFunction<U> mapSecond) {
+        return mapFirst.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<T> mapFirst, Predicate<U> mapSecond) {
+        return mapFirst.test(value);
+    }
+
     public boolean equals(Object o) {
         if (o == this)
             return true;
@@ -50,11 +98,7 @@ final class Union2First<T, U> implements Union2<T, U> {
     }
 
     public int hashCode() {
-        final int PRIME = 59;
-        int result = 1;
-        final Object $value = this.value;
-        result = result * PRIME + ($value == null ? 0 : $value.hashCode());
-        return result;
+        return Hashes.hash(2, 0, value);
     }
 
     @Override
@@ -16,29 +16,82 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union3;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-final class Union3Second<T, U, V> implements Union3<T, U, V> {
+final class Union3Second<T, U, V> implements Union3<T, U, V>, Tagged {
     private final U value;
 
     public Union3Second(U value) {
         this.value = value;
     }
 
+    @Override
+    public int tag() {
+        return 1;
+    }
+
     @Override
     public void continued(Consumer<T> continuationFirst, Consumer<U> continuationSecond,
             Consumer<V> continuationThird) {
         continuationSecond.accept(value);
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, T> continuationFirst,
+            BiConsumer<X, U> continuationSecond, BiConsumer<X, V> continuationThird) {
+        continuationSecond.accept(context, value);
+    }
+
     @Override
     public <R> R join(Function<T, R> mapFirst, Function<U, R> mapSecond, Function<V, R> mapThird) {
         return mapSecond.apply(value);
     }
 
+    @Override
+    public <R> R join(Union3.Matcher<T, U, V, R> matcher) {
+        return matcher.second(value);
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, T, R> mapFirst, BiFunction<X, U, R> mapSecond,
+            BiFunction<X, V, R> mapThird) {
+        return mapSecond.apply(context, value);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<T> mapFirst, ToIntFunction<U> mapSecond,
+            ToIntFunction<V> mapThird) {
+        return mapSecond.applyAsInt(value);
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<T> mapFirst, ToLongFunction<U> mapSecond,
+            ToLongFunction<V> mapThird) {
+        return mapSecond.applyAsLong(value);
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<T> mapFirst, ToDoubleFunction<U> mapSecond,
+            ToDoubleFunction<V> mapThird) {
+        return mapSecond.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<T> mapFirst, Predicate<U> mapSecond,
+            Predicate<V> mapThird) {
+        return mapSecond.test(value);
+    }
+
     public boolean equals(Object o) {
         if (o == this)
             return true;
@@ -51,11 +104,7 @@ final class Union3Second<T, U, V> implements Union3<T, U, V> {
     }
 
     public int hashCode() {
-        final int PRIME = 59;
-        int result = 1;
-        final Object $value = this.value;
-        result = result * PRIME + ($value == null ? 0 : $value.hashCode());
-        return result;
+        return Hashes.hash(3, 1, value);
     }
 
     @Override
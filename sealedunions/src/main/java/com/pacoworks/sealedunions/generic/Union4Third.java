@@ -16,30 +16,84 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union4;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-final class Union4Third<A, B, C, D> implements Union4<A, B, C, D> {
+final class Union4Third<A, B, C, D> implements Union4<A, B, C, D>, Tagged {
     private final C value;
 
     public Union4Third(C value) {
         this.value = value;
     }
 
+    @Override
+    public int tag() {
+        return 2;
+    }
+
     @Override
     public void continued(Consumer<A> continuationFirst, Consumer<B> continuationSecond,
             Consumer<C> continuationThird, Consumer<D> continuationFourth) {
         continuationThird.accept(value);
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, A> continuationFirst,
+            BiConsumer<X, B> continuationSecond, BiConsumer<X, C> continuationThird,
+            BiConsumer<X, D> continuationFourth) {
+        continuationThird.accept(context, value);
+    }
+
     @Override
     public <R> R join(Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
             Function<D, R> mapFourth) {
         return mapThird.apply(value);
     }
 
+    @Override
+    public <R> R join(Union4.Matcher<A, B, C, D, R> matcher) {
+        return matcher.third(value);
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, A, R> mapFirst, BiFunction<X, B, R> mapSecond,
+            BiFunction<X, C, R> mapThird, BiFunction<X, D, R> mapFourth) {
+        return mapThird.apply(context, value);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<A> mapFirst, ToIntFunction<B> mapSecond,
+            ToIntFunction<C> mapThird, ToIntFunction<D> mapFourth) {
+        return mapThird.applyAsInt(value);
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<A> mapFirst, ToLongFunction<B> mapSecond,
+            ToLongFunction<C> mapThird, ToLongFunction<D> mapFourth) {
+        return mapThird.applyAsLong(value);
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<A> mapFirst, ToDoubleFunction<B> mapSecond,
+            ToDoubleFunction<C> mapThird, ToDoubleFunction<D> mapFourth) {
+        return mapThird.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<A> mapFirst, Predicate<B> mapSecond,
+            Predicate<C> mapThird, Predicate<D> mapFourth) {
+        return mapThird.test(value);
+    }
+
     public boolean equals(Object o) {
         if (o == this)
             return true;
@@ -52,11 +106,7 @@ final class Union4Third<A, B, C, D> implements Union4<A, B, C, D> {
     }
 
     public int hashCode() {
-        final int PRIME = 59;
-        int result = 1;
-        final Object $value = this.value;
-        result = result * PRIME + ($value == null ? 0 : $value.hashCode());
-        return result;
+        return Hashes.hash(4, 2, value);
     }
 
     @Override
@@ -16,18 +16,30 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union5;
 
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-final class Union5Fifth<A, B, C, D, E> implements Union5<A, B, C, D, E> {
+final class Union5Fifth<A, B, C, D, E> implements Union5<A, B, C, D, E>, Tagged {
     private final E value;
 
     public Union5Fifth(E value) {
         this.value = value;
     }
 
+    @Override
+    public int tag() {
+        return 4;
+    }
+
     @Override
     public void continued(Consumer<A> continuationFirst, Consumer<B> continuationSecond,
             Consumer<C> continuationThird, Consumer<D> continuationFourth,
@@ -35,12 +47,56 @@ final class Union5Fifth<A, B, C, D, E> implements Union5<A, B, C, D, E> {
         continuationFifth.accept(value);
     }
 
+    @Override
+    public <X> void continued(X context, BiConsumer<X, A> continuationFirst,
+            BiConsumer<X, B> continuationSecond, BiConsumer<X, C> continuationThird,
+            BiConsumer<X, D> continuationFourth, BiConsumer<X, E> continuationFifth) {
+        continuationFifth.accept(context, value);
+    }
+
     @Override
     public <R> R join(Function<A, R> mapFirst, Function<B, R> mapSecond, Function<C, R> mapThird,
             Function<D, R> mapFourth, Function<E, R> mapFifth) {
         return mapFifth.apply(value);
     }
 
+    @Override
+    public <R> R join(Union5.Matcher<A, B, C, D, E, R> matcher) {
+        return matcher.fifth(value);
+    }
+
+    @Override
+    public <X, R> R join(X context, BiFunction<X, A, R> mapFirst, BiFunction<X, B, R> mapSecond,
+            BiFunction<X, C, R> mapThird, BiFunction<X, D, R> mapFourth,
+            BiFunction<X, E, R> mapFifth) {
+        return mapFifth.apply(context, value);
+    }
+
+    @Override
+    public int joinToInt(ToIntFunction<A> mapFirst, ToIntFunction<B> mapSecond,
+            ToIntFunction<C> mapThird, ToIntFunction<D> mapFourth, ToIntFunction<E> mapFifth) {
+        return mapFifth.applyAsInt(value);
+    }
+
+    @Override
+    public long joinToLong(ToLongFunction<A> mapFirst, ToLongFunction<B> mapSecond,
+            ToLongFunction<C> mapThird, ToLongFunction<D> mapFourth, ToLongFunction<E> mapFifth) {
+        return mapFifth.applyAsLong(value);
+    }
+
+    @Override
+    public double joinToDouble(ToDoubleFunction<A> mapFirst, ToDoubleFunction<B> mapSecond,
+            ToDoubleFunction<C> mapThird, ToDoubleFunction<D> mapFourth,
+            ToDoubleFunction<E> mapFifth) {
+        return mapFifth.applyAsDouble(value);
+    }
+
+    @Override
+    public boolean joinToBoolean(Predicate<A> mapFirst, Predicate<B> mapSecond,
+            Predicate<C> mapThird, Predicate<D> mapFourth, Predicate<E> mapFifth) {
+        return mapFifth.test(value);
+    }
+
     public boolean equals(Object o) {
         if (o == this)
             return true;
@@ -53,11 +109,7 @@ final class Union5Fifth<A, B, C, D, E> implements Union5<A, B, C, D, E> {
     }
 
     public int hashCode() {
-        final int PRIME = 59;
-        int result = 1;
-        final Object $value = this.value;
-        result = result * PRIME + ($value == null ? 0 : $value.hashCode());
-        return result;
+        return Hashes.hash(5, 4, value);
     }
 
     @Override
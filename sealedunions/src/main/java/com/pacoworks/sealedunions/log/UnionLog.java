@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.log;
+
+import com.pacoworks.sealedunions.codec.Codec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of values, usually unions, stored in a memory-mapped file. Every record is the
+ * length of the value as a 4-byte int, the CRC32 of the value as a 4-byte int and the value written
+ * by a {@link Codec}, so replaying decodes through the codec and the factory it was created with.
+ * <p>
+ * A single thread appends, while any number of threads replay concurrently. The length of a record
+ * is written after its value, and readers only see records up to the last one appended, so a
+ * record is never read half written. Opening an existing file stops at the first record that is
+ * incomplete or doesn't match its checksum, so a record that was being written when the process
+ * died or was damaged on disk is overwritten, together with every record after it.
+ * <p>
+ * Appending doesn't write to disk by itself. The mapped file is forced to disk every
+ * {@code syncInterval} records and on {@link #sync()} and {@link #close()}, and records appended
+ * since the last sync can be lost if the machine stops. The file grows by doubling and can't be
+ * bigger than 2GB.
+ *
+ * @param <T> type of the values
+ */
+public final class UnionLog<T> implements Closeable {
+    private static final int LENGTH_SIZE = 4;
+
+    private static final int HEADER_SIZE = LENGTH_SIZE + 4;
+
+    private static final int DEFAULT_CAPACITY = 1 << 20;
+
+    private final FileChannel channel;
+
+    private final Codec<T> codec;
+
+    private final int syncInterval;
+
+    private final CRC32 crc = new CRC32();
+
+    private volatile MappedByteBuffer mapped;
+
+    private ByteBuffer output;
+
+    private volatile int size;
+
+    private int unsynced;
+
+    private UnionLog(FileChannel channel, Codec<T> codec, int syncInterval, int capacity)
+            throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.syncInterval = syncInterval;
+        map(capacity);
+        size = recover();
+    }
+
+    /**
+     * Opens the log stored in a file, creating it if it doesn't exist, and forces it to disk every
+     * 1000 records
+     *
+     * @param path the file
+     * @param codec codec of the values
+     * @return the log, positioned after its last complete record
+     * @throws IOException if the file can't be opened or mapped
+     */
+    public static <T> UnionLog<T> open(Path path, Codec<T> codec) throws IOException {
+        return open(path, codec, 1000);
+    }
+
+    /**
+     * Opens the log stored in a file, creating it if it doesn't exist
+     *
+     * @param path the file
+     * @param codec codec of the values
+     * @param syncInterval number of records appended between forcing the file to disk, 1 to force
+     *            it on every record
+     * @return the log, positioned after its last complete record
+     * @throws IOException if the file can't be opened or mapped
+     * @throws IllegalArgumentException if the sync interval is not positive
+     */
+    public static <T> UnionLog<T> open(Path path, Codec<T> codec, int syncInterval)
+            throws IOException {
+        if (syncInterval < 1) {
+            throw new IllegalArgumentException("Invalid sync interval: " + syncInterval);
+        }
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Log too big: " + path);
+            }
+            return new UnionLog<>(channel, codec, syncInterval,
+                    Math.max((int)length, DEFAULT_CAPACITY));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a value at the end of the log. Must not be called from more than one thread at a
+     * time.
+     *
+     * @param value the value
+     * @return the position where the record starts
+     * @throws IOException if the file can't be grown or forced to disk
+     * @throws IllegalArgumentException if the codec writes no bytes for the value
+     */
+    public int append(T value) throws IOException {
+        final int start = size;
+        int end;
+        while (true) {
+            try {
+                output.limit(output.capacity());
+                output.position(start + HEADER_SIZE);
+                codec.encode(output, value);
+                end = output.position();
+                if (end + LENGTH_SIZE <= output.capacity()) {
+                    break;
+                }
+            } catch (BufferOverflowException e) {
+                // Grow below
+            }
+            grow();
+        }
+        if (end == start + HEADER_SIZE) {
+            throw new IllegalArgumentException("Empty record for " + value);
+        }
+        final int length = end - start - HEADER_SIZE;
+        output.putInt(start + LENGTH_SIZE, checksum(start + HEADER_SIZE, length));
+        // Clears what a record lost in a crash may have left after this one before publishing it
+        output.putInt(end, 0);
+        output.putInt(start, length);
+        size = end;
+        if (++unsynced >= syncInterval) {
+            sync();
+        }
+        return start;
+    }
+
+    /**
+     * Forces every record appended so far to disk. Must not be called from more than one thread at
+     * a time, nor while appending.
+     */
+    public void sync() {
+        mapped.force();
+        unsynced = 0;
+    }
+
+    /**
+     * Position after the last record appended, where the next one will start
+     *
+     * @return the size of the log in bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Decodes every record in the log in order and passes it to a consumer. Can be called from any
+     * thread while appending, and stops at the last record appended when it started.
+     *
+     * @param consumer consumer of each value, for example calling {@code continued} or {@code join}
+     * @return the position after the last record replayed
+     */
+    public int replay(Consumer<? super T> consumer) {
+        return replay(0, consumer);
+    }
+
+    /**
+     * Decodes the records starting at a position, which must be 0 or a position returned by this
+     * log, so a reader can follow the log by passing the position the last call returned
+     *
+     * @param from position of the first record
+     * @param consumer consumer of each value
+     * @return the position after the last record replayed
+     * @throws IllegalArgumentException if the position is after the end of the log
+     */
+    public int replay(int from, Consumer<? super T> consumer) {
+        // Reads size before the mapping, as the mapping is replaced before size grows past it
+        final int end = size;
+        if (from < 0 || from > end) {
+            throw new IllegalArgumentException("Invalid position " + from + " for size " + end);
+        }
+        final ByteBuffer input = mapped.duplicate();
+        int position = from;
+        while (position < end) {
+            final int length = input.getInt(position);
+            input.limit(position + HEADER_SIZE + length);
+            input.position(position + HEADER_SIZE);
+            consumer.accept(codec.decode(input));
+            position = input.limit();
+            input.limit(input.capacity());
+        }
+        return position;
+    }
+
+    /**
+     * Forces the log to disk and closes the file. The log can't be used afterwards.
+     *
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        sync();
+        channel.close();
+    }
+
+    private void map(int capacity) throws IOException {
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        output = buffer.duplicate();
+        mapped = buffer;
+    }
+
+    private void grow() throws IOException {
+        final int capacity = output.capacity();
+        if (capacity == Integer.MAX_VALUE) {
+            throw new IOException("Log full");
+        }
+        map((int)Math.min(2L * capacity, Integer.MAX_VALUE));
+    }
+
+    private int recover() {
+        int position = 0;
+        while (position + HEADER_SIZE <= output.capacity()) {
+            final int length = output.getInt(position);
+            if (length <= 0 || length > output.capacity() - position - HEADER_SIZE) {
+                break;
+            }
+            if (output.getInt(position + LENGTH_SIZE) != checksum(position + HEADER_SIZE, length)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private int checksum(int position, int length) {
+        final ByteBuffer value = output.duplicate();
+        value.limit(position + length);
+        value.position(position);
+        crc.reset();
+        crc.update(value);
+        return (int)crc.getValue();
+    }
+}
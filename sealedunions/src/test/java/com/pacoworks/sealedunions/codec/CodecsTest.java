@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Union0;
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.Union9;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+import com.pacoworks.sealedunions.generic.TaggedUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class CodecsTest {
+    private static final int[] VARINTS = {
+            0, 1, 127, 128, 16383, 16384, 2097151, 2097152, 268435455, 268435456,
+            Integer.MAX_VALUE
+    };
+
+    private static final String[] STRINGS = {
+            "", "a", "\u00f1", "\u20ac", "\ud83d\ude00", "a\u00f1\u20ac\ud83d\ude00z"
+    };
+
+    private final Union4.Factory<Integer, Long, Double, String> quartetFactory = GenericUnions
+            .quartetFactory();
+
+    private final Union4Codec<Integer, Long, Double, String> quartetCodec = new Union4Codec<>(
+            quartetFactory, Codecs.ints(), Codecs.longs(), Codecs.doubles(), Codecs.strings());
+
+    @Test
+    public void testVarint() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(5);
+        for (int value : VARINTS) {
+            buffer.clear();
+            Codecs.writeVarint(buffer, value);
+            Assert.assertEquals(Codecs.varintSize(value), buffer.position());
+            buffer.flip();
+            Assert.assertEquals(value, Codecs.readVarint(buffer));
+            Assert.assertFalse(buffer.hasRemaining());
+        }
+        Assert.assertEquals(1, Codecs.varintSize(127));
+        Assert.assertEquals(2, Codecs.varintSize(128));
+        Assert.assertEquals(5, Codecs.varintSize(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeVarint() throws Exception {
+        Codecs.writeVarint(ByteBuffer.allocate(5), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testVarintOutOfRange() throws Exception {
+        Codecs.readVarint(ByteBuffer.wrap(new byte[] {
+                (byte)0xFF, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x0F
+        }));
+    }
+
+    @Test
+    public void testValues() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        Codecs.ints().encode(buffer, -1);
+        Codecs.longs().encode(buffer, Long.MIN_VALUE);
+        Codecs.doubles().encode(buffer, Math.PI);
+        Codecs.booleans().encode(buffer, true);
+        Codecs.unit("unit").encode(buffer, "ignored");
+        buffer.flip();
+        Assert.assertEquals(-1, (int)Codecs.ints().decode(buffer));
+        Assert.assertEquals(Long.MIN_VALUE, (long)Codecs.longs().decode(buffer));
+        Assert.assertEquals(Math.PI, Codecs.doubles().decode(buffer), 0);
+        Assert.assertTrue(Codecs.booleans().decode(buffer));
+        Assert.assertEquals("unit", Codecs.unit("unit").decode(buffer));
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testStrings() throws Exception {
+        for (ByteBuffer buffer : new ByteBuffer[] {
+                ByteBuffer.allocate(32), ByteBuffer.allocateDirect(32)
+        }) {
+            for (String value : STRINGS) {
+                buffer.clear();
+                Codecs.strings().encode(buffer, value);
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                Assert.assertEquals(Codecs.varintSize(utf8.length) + utf8.length,
+                        buffer.position());
+                buffer.flip();
+                Assert.assertEquals(value, Codecs.strings().decode(buffer));
+                Assert.assertFalse(buffer.hasRemaining());
+            }
+        }
+    }
+
+    @Test
+    public void testUnion() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        quartetCodec.encode(buffer, quartetFactory.first(1));
+        quartetCodec.encode(buffer, quartetFactory.second(2L));
+        quartetCodec.encode(buffer, quartetFactory.third(3.0));
+        quartetCodec.encode(buffer, quartetFactory.fourth("4"));
+        Assert.assertEquals(1 + 4 + 1 + 8 + 1 + 8 + 1 + 2, buffer.position());
+        buffer.flip();
+        Assert.assertEquals(2, buffer.get(1 + 4 + 1 + 8));
+        Assert.assertEquals(3, buffer.get(1 + 4 + 1 + 8 + 1 + 8));
+        Assert.assertEquals(quartetFactory.first(1), quartetCodec.decode(buffer));
+        Assert.assertEquals(quartetFactory.second(2L), quartetCodec.decode(buffer));
+        Assert.assertEquals(quartetFactory.third(3.0), quartetCodec.decode(buffer));
+        Assert.assertEquals(quartetFactory.fourth("4"), quartetCodec.decode(buffer));
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testSmallUnions() throws Exception {
+        Union0.Factory<String> nulletFactory = GenericUnions.nulletFactory();
+        Union0Codec<String> nulletCodec = new Union0Codec<>(nulletFactory, Codecs.strings());
+        Union1.Factory<String> singletFactory = GenericUnions.singletFactory();
+        Union1Codec<String> singletCodec = new Union1Codec<>(singletFactory, Codecs.strings());
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        nulletCodec.encode(buffer, nulletFactory.first("a"));
+        singletCodec.encode(buffer, singletFactory.first("b"));
+        singletCodec.encode(buffer, singletFactory.none());
+        buffer.flip();
+        Assert.assertEquals(nulletFactory.first("a"), nulletCodec.decode(buffer));
+        Assert.assertEquals(singletFactory.first("b"), singletCodec.decode(buffer));
+        Assert.assertSame(singletFactory.none(), singletCodec.decode(buffer));
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testDecodesWithFactory() throws Exception {
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> factory =
+                TaggedUnions.nonetFactory();
+        Codec<Integer> ints = Codecs.ints();
+        Union9Codec<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> codec =
+                new Union9Codec<>(factory, ints, ints, ints, ints, ints, ints, ints, ints, ints);
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        codec.encode(buffer, GenericUnions.<Integer, Integer, Integer, Integer, Integer, Integer,
+                Integer, Integer, Integer> nonetFactory().ninth(9));
+        buffer.flip();
+        Assert.assertEquals(8, buffer.get(0));
+        Assert.assertEquals(factory.ninth(9), codec.decode(buffer));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownTag() throws Exception {
+        quartetCodec.decode(ByteBuffer.wrap(new byte[] {
+                4, 0, 0, 0, 0
+        }));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.codec;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class UnionViewTest {
+    private final Union3.Factory<Integer, Long, String> factory = GenericUnions.tripletFactory();
+
+    private final Union3Codec<Integer, Long, String> codec = new Union3Codec<>(factory,
+            Codecs.ints(), Codecs.longs(), Codecs.strings());
+
+    private final List<Union3<Integer, Long, String>> unions = Arrays.asList(factory.first(1),
+            factory.second(2L), factory.third("three"), factory.first(-4), factory.third(""));
+
+    @Test
+    public void testScan() throws Exception {
+        for (ByteBuffer buffer : new ByteBuffer[] {
+                ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+        }) {
+            for (Union3<Integer, Long, String> union : unions) {
+                codec.encode(buffer, union);
+            }
+            int end = buffer.position();
+            Union3View<Integer, Long, String> view = new Union3View<>(Codecs.ints(),
+                    Codecs.longs(), Codecs.strings());
+            List<Object> values = new ArrayList<>();
+            int position = 0;
+            while (position < end) {
+                view.wrap(buffer, position);
+                values.add(view.join(first -> first, second -> second, third -> third));
+                ByteBuffer skipped = buffer.duplicate();
+                skipped.position(position);
+                codec.skip(skipped);
+                Assert.assertEquals(skipped.position(), view.next());
+                position = view.next();
+            }
+            Assert.assertEquals(end, position);
+            Assert.assertEquals(end, buffer.position());
+            Assert.assertEquals(Arrays.asList(1, 2L, "three", -4, ""), values);
+        }
+    }
+
+    @Test
+    public void testDispatch() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(buffer, factory.second(2L));
+        Union3View<Integer, Long, String> view = new Union3View<>(Codecs.ints(), Codecs.longs(),
+                Codecs.strings()).wrap(buffer, 0);
+        Assert.assertEquals(1, view.tag());
+        Assert.assertEquals(1, Tagged.tagOf(view));
+        Assert.assertEquals(2L, view.joinToLong(first -> 0, second -> second, third -> 0));
+        Assert.assertEquals(3L, (long)view.join(1L, (context, first) -> 0L,
+                (context, second) -> context + second, (context, third) -> 0L));
+        Assert.assertTrue(view.joinToBoolean(first -> false, second -> true, third -> false));
+        Assert.assertEquals("2", view.toString());
+        Assert.assertEquals(9, view.next());
+    }
+
+    @Test
+    public void testNone() throws Exception {
+        Union1.Factory<String> singletFactory = GenericUnions.singletFactory();
+        Union1Codec<String> singletCodec = new Union1Codec<>(singletFactory, Codecs.strings());
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        singletCodec.encode(buffer, singletFactory.none());
+        singletCodec.encode(buffer, singletFactory.first("a"));
+        Union1View<String> view = new Union1View<>(Codecs.strings());
+        Assert.assertEquals("None()", view.wrap(buffer, 0).toString());
+        Assert.assertEquals(1, view.next());
+        Assert.assertEquals("a", view.wrap(buffer, 1).join(first -> first, () -> null));
+        Assert.assertEquals(buffer.position(), view.next());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownTag() throws Exception {
+        new Union3View<>(Codecs.ints(), Codecs.longs(), Codecs.strings()).wrap(ByteBuffer.wrap(
+                new byte[] {
+                        3
+                }), 0);
+    }
+}
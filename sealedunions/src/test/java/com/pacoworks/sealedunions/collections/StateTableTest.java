@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.generic.TaggedUnions;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StateTableTest {
+    private static final StateTable<Integer, Integer> COUNTER = StateTable.explore(0,
+            Arrays.asList(2, 3), (state, increment) -> (state + increment) % 6);
+
+    private static final Union2.Factory<Integer, String> TURNSTILE = TaggedUnions.doubletFactory();
+
+    @Test
+    public void testExplore() throws Exception {
+        Assert.assertEquals(Arrays.asList(0, 2, 3, 4, 5, 1), COUNTER.states());
+        Assert.assertEquals(Arrays.asList(2, 3), COUNTER.events());
+        for (int state = 0; state < COUNTER.states().size(); state++) {
+            for (int event = 0; event < COUNTER.events().size(); event++) {
+                Assert.assertEquals(
+                        (COUNTER.state(state) + COUNTER.events().get(event)) % 6,
+                        (int)COUNTER.state(COUNTER.next(state, event)));
+            }
+        }
+    }
+
+    @Test
+    public void testRun() throws Exception {
+        int state = COUNTER.run(StateTable.INITIAL, new int[] {
+                0, 1, 1, 0
+        });
+        Assert.assertEquals(4, (int)COUNTER.state(state));
+        Assert.assertEquals(StateTable.INITIAL, COUNTER.run(StateTable.INITIAL, new int[0]));
+    }
+
+    @Test
+    public void testIndexOf() throws Exception {
+        StateTable<Integer, Integer> even = StateTable.explore(0, Arrays.asList(2),
+                (state, increment) -> (state + increment) % 6);
+        Assert.assertEquals(3, even.states().size());
+        Assert.assertEquals(2, even.indexOf(4));
+        Assert.assertEquals(-1, even.indexOf(3));
+        Assert.assertEquals(0, even.eventIndexOf(2));
+        Assert.assertEquals(-1, even.eventIndexOf(3));
+    }
+
+    @Test
+    public void testUnionStates() throws Exception {
+        // Counts coins until the third one opens it, and a push closes it again
+        StateTable<Union2<Integer, String>, String> table = StateTable.explore(TURNSTILE.first(0),
+                Arrays.asList("coin", "push"),
+                (state, event) -> state.join(
+                        coins -> !event.equals("coin") ? state
+                                : coins == 2 ? TURNSTILE.second("open")
+                                        : TURNSTILE.first(coins + 1),
+                        open -> event.equals("push") ? TURNSTILE.first(0) : state));
+        Assert.assertEquals(4, table.states().size());
+        int coin = table.eventIndexOf("coin");
+        int push = table.eventIndexOf("push");
+        int two = table.indexOf(TURNSTILE.first(2));
+        int open = table.indexOf(TURNSTILE.second("open"));
+        Assert.assertEquals(open, table.next(two, coin));
+        Assert.assertEquals(two, table.next(two, push));
+        Assert.assertEquals(open, table.next(open, coin));
+        Assert.assertEquals(StateTable.INITIAL, table.next(open, push));
+        Assert.assertEquals(TURNSTILE.first(0), table.state(StateTable.INITIAL));
+    }
+}
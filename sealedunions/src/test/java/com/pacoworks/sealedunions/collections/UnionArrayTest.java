@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class UnionArrayTest {
+    private static final int ELEMENTS = 1000;
+
+    @Test
+    public void testJoinKeepsInsertionOrder() throws Exception {
+        Union3Array<Integer, String, Boolean> array = new Union3Array<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            switch (i % 3) {
+                case 0:
+                    array.addFirst(i);
+                    expected.add("first" + i);
+                    break;
+                case 1:
+                    array.addSecond(String.valueOf(i));
+                    expected.add("second" + i);
+                    break;
+                default:
+                    array.addThird(i % 2 == 0);
+                    expected.add("third" + (i % 2 == 0));
+            }
+        }
+        Assert.assertEquals(ELEMENTS, array.size());
+        Assert.assertEquals(expected,
+                array.join(first -> "first" + first, second -> "second" + second,
+                        third -> "third" + third));
+    }
+
+    @Test
+    public void testContinuedKeepsInsertionOrder() throws Exception {
+        Union1Array<String> array = new Union1Array<>(2);
+        array.addFirst("a");
+        array.addNone();
+        array.addNone();
+        array.addFirst("b");
+        StringBuilder builder = new StringBuilder();
+        array.continued(builder::append, () -> builder.append('-'));
+        Assert.assertEquals("a--b", builder.toString());
+    }
+
+    @Test
+    public void testAddUnion() throws Exception {
+        Union3.Factory<Integer, String, Boolean> factory = GenericUnions.tripletFactory();
+        Union3Array<Integer, String, Boolean> array = new Union3Array<>();
+        array.add(factory.second("a"));
+        array.add(factory.first(1));
+        array.add(factory.third(true));
+        Assert.assertEquals(Arrays.asList("a", "1", "true"),
+                array.join(String::valueOf, String::valueOf, String::valueOf));
+        Union1.Factory<String> singletFactory = GenericUnions.singletFactory();
+        Union1Array<String> singlets = new Union1Array<>();
+        singlets.add(singletFactory.none());
+        singlets.add(singletFactory.first("a"));
+        Assert.assertEquals(Arrays.asList("none", "a"),
+                singlets.join(first -> first, () -> "none"));
+    }
+
+    @Test
+    public void testCountByVariant() throws Exception {
+        Union9Array<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> array =
+                new Union9Array<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            array.addFirst(i);
+        }
+        array.addNinth(0);
+        array.addFifth(0);
+        array.addNinth(0);
+        Assert.assertArrayEquals(new int[] {
+                ELEMENTS, 0, 0, 0, 1, 0, 0, 0, 2
+        }, array.countByVariant());
+        array.trimToSize();
+        Assert.assertEquals(ELEMENTS + 3, array.size());
+        Assert.assertEquals(ELEMENTS + 3, array.join(a -> a, b -> b, c -> c, d -> d, e -> e, f -> f,
+                g -> g, h -> h, i -> i).size());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        Union0Array<String> array = new Union0Array<>();
+        Assert.assertTrue(array.isEmpty());
+        Assert.assertTrue(array.join(first -> first).isEmpty());
+        array.addFirst("a");
+        Assert.assertFalse(array.isEmpty());
+        Assert.assertEquals(Arrays.asList("a"), array.join(first -> first));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() throws Exception {
+        new Union2Array<String, String>(-1);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.Union9;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class UnionArraysTest {
+    private static final int ELEMENTS = 100000;
+
+    private final Union3.Factory<Integer, String, Boolean> factory = GenericUnions
+            .tripletFactory();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParallelJoin() throws Exception {
+        Union3<Integer, String, Boolean>[] unions = new Union3[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            unions[i] = i % 3 == 0 ? factory.first(i)
+                    : i % 3 == 1 ? factory.second(String.valueOf(i)) : factory.third(i % 2 == 0);
+        }
+        String[] results = new String[ELEMENTS + 1];
+        UnionArrays.parallelJoin(unions, results, first -> "first" + first,
+                second -> "second" + second, third -> "third" + third);
+        for (int i = 0; i < ELEMENTS; i++) {
+            Assert.assertEquals(unions[i].join(first -> "first" + first,
+                    second -> "second" + second, third -> "third" + third), results[i]);
+        }
+        Assert.assertNull(results[ELEMENTS]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParallelJoinNone() throws Exception {
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union1<Integer>[] unions = new Union1[] {
+                singletFactory.first(1), singletFactory.none()
+        };
+        Integer[] results = new Integer[2];
+        UnionArrays.parallelJoin(unions, results, first -> first, () -> -1);
+        Assert.assertArrayEquals(new Integer[] {
+                1, -1
+        }, results);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testParallelContinued() throws Exception {
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory =
+                GenericUnions.nonetFactory();
+        Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>[] unions =
+                new Union9[ELEMENTS];
+        for (int i = 0; i < ELEMENTS; i++) {
+            unions[i] = i % 2 == 0 ? nonetFactory.first(i) : nonetFactory.ninth(i);
+        }
+        AtomicIntegerArray visited = new AtomicIntegerArray(ELEMENTS);
+        LongAdder firsts = new LongAdder();
+        UnionArrays.parallelContinued(unions, first -> {
+            visited.incrementAndGet(first);
+            firsts.increment();
+        }, visited::incrementAndGet, visited::incrementAndGet, visited::incrementAndGet,
+                visited::incrementAndGet, visited::incrementAndGet, visited::incrementAndGet,
+                visited::incrementAndGet, visited::incrementAndGet);
+        for (int i = 0; i < ELEMENTS; i++) {
+            Assert.assertEquals(1, visited.get(i));
+        }
+        Assert.assertEquals(ELEMENTS / 2, firsts.sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @SuppressWarnings("unchecked")
+    public void testShortOutput() throws Exception {
+        Union3<Integer, String, Boolean>[] unions = new Union3[] {
+                factory.first(1), factory.second("a")
+        };
+        UnionArrays.parallelJoin(unions, new String[1], String::valueOf, String::valueOf,
+                String::valueOf);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class UnionCollectorsTest {
+    private static final int ELEMENTS = 10000;
+
+    private final Union3.Factory<Integer, String, Boolean> tripletFactory = GenericUnions
+            .tripletFactory();
+
+    private final Union2.Factory<Integer, Integer> doubletFactory = GenericUnions
+            .doubletFactory();
+
+    @Test
+    public void testPartitioningToLists() throws Exception {
+        Partition3<List<Integer>, List<String>, List<Boolean>> partition = Arrays
+                .asList(tripletFactory.first(1), tripletFactory.second("a"),
+                        tripletFactory.third(true), tripletFactory.first(2))
+                .stream().collect(UnionCollectors.partitioning(Collectors.toList(),
+                        Collectors.toList(), Collectors.toList()));
+        Assert.assertEquals(Arrays.asList(1, 2), partition.first());
+        Assert.assertEquals(Arrays.asList("a"), partition.second());
+        Assert.assertEquals(Arrays.asList(true), partition.third());
+    }
+
+    @Test
+    public void testPartitioningParallel() throws Exception {
+        Partition2<Long, List<Integer>> partition = IntStream.range(0, ELEMENTS).parallel()
+                .mapToObj(i -> i % 4 == 0 ? doubletFactory.first(i) : doubletFactory.second(i))
+                .collect(UnionCollectors.partitioning(Collectors.counting(), Collectors.toList()));
+        Assert.assertEquals(Long.valueOf(ELEMENTS / 4), partition.first());
+        Assert.assertEquals(ELEMENTS - ELEMENTS / 4, partition.second().size());
+        for (int i = 1; i < partition.second().size(); i++) {
+            Assert.assertTrue(partition.second().get(i - 1) < partition.second().get(i));
+        }
+    }
+
+    @Test
+    public void testPartitionEquality() throws Exception {
+        Partition2<Long, Long> partition = Arrays
+                .asList(doubletFactory.first(1), doubletFactory.second(2)).stream()
+                .collect(UnionCollectors.partitioning(Collectors.counting(),
+                        Collectors.counting()));
+        Assert.assertEquals(new Partition2<>(1L, 1L), partition);
+        Assert.assertEquals(new Partition2<>(1L, 1L).hashCode(), partition.hashCode());
+        Assert.assertEquals("Partition2(first=1, second=1)", partition.toString());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+public class UnionSpliteratorTest {
+    private static final int ELEMENTS = 10000;
+
+    private final Union3.Factory<Integer, String, Boolean> factory = GenericUnions
+            .tripletFactory();
+
+    @Test
+    public void testSplitsAtVariantChange() throws Exception {
+        List<Union3<Integer, String, Boolean>> unions = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            unions.add(factory.first(i));
+        }
+        for (int i = 0; i < 40; i++) {
+            unions.add(factory.second(String.valueOf(i)));
+        }
+        UnionSpliterator<Union3<Integer, String, Boolean>> right = UnionSpliterator.of(unions,
+                Tagged::tagOf);
+        Spliterator<Union3<Integer, String, Boolean>> left = right.trySplit();
+        Assert.assertEquals(60, left.estimateSize());
+        Assert.assertEquals(40, right.estimateSize());
+        Spliterator<Union3<Integer, String, Boolean>> quarter = left.trySplit();
+        Assert.assertEquals(30, quarter.estimateSize());
+        Assert.assertEquals(30, left.estimateSize());
+    }
+
+    @Test
+    public void testSplitsInTheMiddleWithoutVariantChange() throws Exception {
+        List<Union3<Integer, String, Boolean>> unions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            unions.add(factory.first(i));
+        }
+        for (int i = 0; i < 80; i++) {
+            unions.add(factory.second(String.valueOf(i)));
+        }
+        for (int i = 0; i < 10; i++) {
+            unions.add(factory.third(true));
+        }
+        UnionSpliterator<Union3<Integer, String, Boolean>> right = UnionSpliterator.of(unions,
+                Tagged::tagOf);
+        Assert.assertEquals(50, right.trySplit().estimateSize());
+        Assert.assertEquals(50, right.estimateSize());
+    }
+
+    @Test
+    public void testSplitsNextToTheMiddleWhenVariantsAlternate() throws Exception {
+        List<Union3<Integer, String, Boolean>> unions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            unions.add(i % 2 == 0 ? factory.first(i) : factory.third(true));
+        }
+        UnionSpliterator<Union3<Integer, String, Boolean>> right = UnionSpliterator.of(unions,
+                Tagged::tagOf);
+        Assert.assertEquals(50, right.trySplit().estimateSize());
+        Assert.assertEquals(50, right.estimateSize());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testArray() throws Exception {
+        Union3<Integer, String, Boolean>[] unions = new Union3[] {
+                factory.first(1), factory.third(true), factory.second("a")
+        };
+        UnionSpliterator<Union3<Integer, String, Boolean>> spliterator = UnionSpliterator
+                .of(unions, Tagged::tagOf);
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        Assert.assertEquals(3, spliterator.getExactSizeIfKnown());
+        List<String> values = new ArrayList<>();
+        Assert.assertTrue(spliterator.tryAdvance(union -> values.add(union.join(String::valueOf,
+                String::valueOf, String::valueOf))));
+        spliterator.forEachRemaining(union -> values.add(union.join(String::valueOf,
+                String::valueOf, String::valueOf)));
+        Assert.assertFalse(spliterator.tryAdvance(union -> values.add("")));
+        Assert.assertNull(spliterator.trySplit());
+        Assert.assertEquals(0, spliterator.estimateSize());
+        Assert.assertEquals("[1, true, a]", values.toString());
+    }
+
+    @Test
+    public void testParallelStream() throws Exception {
+        List<Union3<Integer, String, Boolean>> unions = new ArrayList<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            unions.add(i < ELEMENTS / 3 ? factory.first(i)
+                    : i % 7 == 0 ? factory.second(String.valueOf(i)) : factory.third(i % 2 == 0));
+        }
+        List<String> expected = unions.stream()
+                .map(union -> union.join(String::valueOf, String::valueOf, String::valueOf))
+                .collect(Collectors.toList());
+        List<String> actual = StreamSupport.stream(UnionSpliterator.of(unions, Tagged::tagOf), true)
+                .map(union -> union.join(String::valueOf, String::valueOf, String::valueOf))
+                .collect(Collectors.toList());
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSequentialList() throws Exception {
+        UnionSpliterator.of(new LinkedList<Union3<Integer, String, Boolean>>(), Tagged::tagOf);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.collections;
+
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.Union9;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class UnionStoreTest {
+    private static final int ELEMENTS = 1000;
+
+    private final Union4.Factory<Integer, String, Long, Boolean> factory = GenericUnions
+            .quartetFactory();
+
+    @Test
+    public void testListKeepsInsertionOrder() throws Exception {
+        Union4Store<Integer, String, Long, Boolean> store = new Union4Store<>();
+        List<Union4<Integer, String, Long, Boolean>> expected = new ArrayList<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            Union4<Integer, String, Long, Boolean> union = i % 4 == 0 ? factory.first(i)
+                    : i % 4 == 1 ? factory.second(String.valueOf(i))
+                            : i % 4 == 2 ? factory.third((long)i) : factory.fourth(i % 8 == 3);
+            Assert.assertTrue(store.add(union));
+            expected.add(union);
+        }
+        Assert.assertEquals(ELEMENTS, store.size());
+        Assert.assertEquals(expected, store);
+        Assert.assertSame(expected.get(17), store.get(17));
+    }
+
+    @Test
+    public void testVariantLists() throws Exception {
+        Union4Store<Integer, String, Long, Boolean> store = new Union4Store<>(2);
+        store.addAll(Arrays.asList(factory.second("a"), factory.first(1), factory.second("b"),
+                factory.fourth(true), factory.first(2), factory.second("c")));
+        Assert.assertEquals(Arrays.asList(1, 2), store.firsts());
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), store.seconds());
+        Assert.assertEquals(Collections.emptyList(), store.thirds());
+        Assert.assertEquals(Collections.singletonList(true), store.fourths());
+    }
+
+    @Test
+    public void testVariantListsFollowAdditions() throws Exception {
+        Union4Store<Integer, String, Long, Boolean> store = new Union4Store<>();
+        List<String> seconds = store.seconds();
+        Assert.assertTrue(seconds.isEmpty());
+        for (int i = 0; i < ELEMENTS; i++) {
+            store.add(factory.second(String.valueOf(i)));
+            store.add(factory.third((long)i));
+        }
+        Assert.assertEquals(ELEMENTS, seconds.size());
+        Assert.assertEquals("999", seconds.get(ELEMENTS - 1));
+        store.trimToSize();
+        Assert.assertEquals("0", seconds.get(0));
+        Assert.assertEquals(2 * ELEMENTS, store.size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testVariantListBounds() throws Exception {
+        Union4Store<Integer, String, Long, Boolean> store = new Union4Store<>(16);
+        store.add(factory.first(1));
+        store.seconds().get(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testVariantListIsReadOnly() throws Exception {
+        new Union4Store<Integer, String, Long, Boolean>().firsts().add(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testAppendOnly() throws Exception {
+        Union4Store<Integer, String, Long, Boolean> store = new Union4Store<>();
+        store.add(factory.first(1));
+        store.remove(0);
+    }
+
+    @Test
+    public void testCountByVariant() throws Exception {
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory =
+                GenericUnions.nonetFactory();
+        Union9Store<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> store =
+                new Union9Store<>();
+        store.add(nonetFactory.ninth(9));
+        store.add(nonetFactory.first(1));
+        store.add(nonetFactory.ninth(9));
+        Assert.assertArrayEquals(new int[] {
+                1, 0, 0, 0, 0, 0, 0, 0, 2
+        }, store.countByVariant());
+        Assert.assertEquals(Arrays.asList(9, 9), store.ninths());
+    }
+}
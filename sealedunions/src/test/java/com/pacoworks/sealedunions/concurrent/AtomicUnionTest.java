@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.concurrent;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+public class AtomicUnionTest {
+    private static final Union2.Factory<Integer, Integer> FACTORY = GenericUnions
+            .doubletFactory();
+
+    /* Counts up in the first type and flips to the second type on every even number */
+    private static final Function<Integer, Union2<Integer, Integer>> ODD = value -> FACTORY
+            .second(value + 1);
+
+    private static final Function<Integer, Union2<Integer, Integer>> EVEN = value -> FACTORY
+            .first(value + 1);
+
+    private static final Union2.Matcher<Integer, Integer, Union2<Integer, Integer>> FLIP =
+            Union2.Matcher.of(ODD, EVEN);
+
+    @Test
+    public void testUpdate() throws Exception {
+        AtomicUnion2<Integer, Integer> atomic = new AtomicUnion2<>(FACTORY.first(0));
+        Assert.assertEquals(FACTORY.second(1), atomic.updateAndGet(ODD, EVEN));
+        Assert.assertEquals(FACTORY.second(1), atomic.getAndUpdate(FLIP));
+        Assert.assertEquals(FACTORY.first(2), atomic.get());
+        Assert.assertEquals(FACTORY.second(3), atomic.updateAndGet(FLIP));
+        Assert.assertEquals(FACTORY.second(3), atomic.getAndUpdate(ODD, EVEN));
+        Assert.assertEquals("4", atomic.join(Object::toString, Object::toString));
+    }
+
+    @Test
+    public void testSet() throws Exception {
+        Union2<Integer, Integer> initial = FACTORY.first(0);
+        Union2<Integer, Integer> equal = FACTORY.first(0);
+        AtomicUnion2<Integer, Integer> atomic = new AtomicUnion2<>(initial);
+        Assert.assertFalse(atomic.compareAndSet(equal, FACTORY.second(1)));
+        Assert.assertTrue(atomic.compareAndSet(initial, equal));
+        Assert.assertSame(equal, atomic.getAndSet(initial));
+        atomic.set(FACTORY.second(1));
+        Assert.assertEquals(FACTORY.second(1), atomic.get());
+    }
+
+    @Test
+    public void testRotate() throws Exception {
+        Union3.Factory<Integer, Integer, Integer> factory = GenericUnions.tripletFactory();
+        AtomicUnion3<Integer, Integer, Integer> atomic = new AtomicUnion3<>(factory.first(0));
+        for (int update = 0; update < 5; update++) {
+            atomic.updateAndGet(first -> factory.second(first + 1),
+                    second -> factory.third(second + 1), third -> factory.first(third + 1));
+        }
+        Assert.assertEquals(factory.third(5), atomic.get());
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        int threads = 8;
+        int updates = 10000;
+        AtomicUnion2<Integer, Integer> atomic = new AtomicUnion2<>(FACTORY.first(0));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int update = 0; update < updates; update++) {
+                        atomic.updateAndGet(FLIP);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(FACTORY.first(threads * updates), atomic.get());
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union0;
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.Union5;
+import com.pacoworks.sealedunions.Union6;
+import com.pacoworks.sealedunions.Union7;
+import com.pacoworks.sealedunions.Union8;
+import com.pacoworks.sealedunions.Union9;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class CachedHashUnionsTest {
+    private final Union0.Factory<Integer> nulletFactory = CachedHashUnions.nulletFactory();
+
+    private final Union1.Factory<Integer> singletFactory = CachedHashUnions.singletFactory();
+
+    private final Union2.Factory<Integer, Integer> doubletFactory = CachedHashUnions
+            .doubletFactory();
+
+    private final Union3.Factory<Integer, Integer, Integer> tripletFactory = CachedHashUnions
+            .tripletFactory();
+
+    private final Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = CachedHashUnions
+            .quartetFactory();
+
+    private final Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = CachedHashUnions
+            .quintetFactory();
+
+    private final Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = CachedHashUnions
+            .sextetFactory();
+
+    private final Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = CachedHashUnions
+            .septetFactory();
+
+    private final Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = CachedHashUnions
+            .octetFactory();
+
+    private final Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = CachedHashUnions
+            .nonetFactory();
+
+    private final Union0.Factory<Integer> taggedNulletFactory = TaggedUnions.nulletFactory();
+
+    private final Union1.Factory<Integer> taggedSingletFactory = TaggedUnions.singletFactory();
+
+    private final Union2.Factory<Integer, Integer> taggedDoubletFactory = TaggedUnions
+            .doubletFactory();
+
+    private final Union3.Factory<Integer, Integer, Integer> taggedTripletFactory = TaggedUnions
+            .tripletFactory();
+
+    private final Union4.Factory<Integer, Integer, Integer, Integer> taggedQuartetFactory = TaggedUnions
+            .quartetFactory();
+
+    private final Union5.Factory<Integer, Integer, Integer, Integer, Integer> taggedQuintetFactory = TaggedUnions
+            .quintetFactory();
+
+    private final Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> taggedSextetFactory = TaggedUnions
+            .sextetFactory();
+
+    private final Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> taggedSeptetFactory = TaggedUnions
+            .septetFactory();
+
+    private final Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> taggedOctetFactory = TaggedUnions
+            .octetFactory();
+
+    private final Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> taggedNonetFactory = TaggedUnions
+            .nonetFactory();
+
+    @Test
+    public void testTag() throws Exception {
+        Assert.assertEquals(0, Tagged.tagOf(nulletFactory.first(0)));
+        Assert.assertEquals(0, Tagged.tagOf(singletFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(singletFactory.none()));
+        Assert.assertEquals(0, Tagged.tagOf(doubletFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(doubletFactory.second(0)));
+        Assert.assertEquals(0, Tagged.tagOf(tripletFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(tripletFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(tripletFactory.third(0)));
+        Assert.assertEquals(0, Tagged.tagOf(quartetFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(quartetFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(quartetFactory.third(0)));
+        Assert.assertEquals(3, Tagged.tagOf(quartetFactory.fourth(0)));
+        Assert.assertEquals(0, Tagged.tagOf(quintetFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(quintetFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(quintetFactory.third(0)));
+        Assert.assertEquals(3, Tagged.tagOf(quintetFactory.fourth(0)));
+        Assert.assertEquals(4, Tagged.tagOf(quintetFactory.fifth(0)));
+        Assert.assertEquals(0, Tagged.tagOf(sextetFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(sextetFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(sextetFactory.third(0)));
+        Assert.assertEquals(3, Tagged.tagOf(sextetFactory.fourth(0)));
+        Assert.assertEquals(4, Tagged.tagOf(sextetFactory.fifth(0)));
+        Assert.assertEquals(5, Tagged.tagOf(sextetFactory.sixth(0)));
+        Assert.assertEquals(0, Tagged.tagOf(septetFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(septetFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(septetFactory.third(0)));
+        Assert.assertEquals(3, Tagged.tagOf(septetFactory.fourth(0)));
+        Assert.assertEquals(4, Tagged.tagOf(septetFactory.fifth(0)));
+        Assert.assertEquals(5, Tagged.tagOf(septetFactory.sixth(0)));
+        Assert.assertEquals(6, Tagged.tagOf(septetFactory.seventh(0)));
+        Assert.assertEquals(0, Tagged.tagOf(octetFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(octetFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(octetFactory.third(0)));
+        Assert.assertEquals(3, Tagged.tagOf(octetFactory.fourth(0)));
+        Assert.assertEquals(4, Tagged.tagOf(octetFactory.fifth(0)));
+        Assert.assertEquals(5, Tagged.tagOf(octetFactory.sixth(0)));
+        Assert.assertEquals(6, Tagged.tagOf(octetFactory.seventh(0)));
+        Assert.assertEquals(7, Tagged.tagOf(octetFactory.eighth(0)));
+        Assert.assertEquals(0, Tagged.tagOf(nonetFactory.first(0)));
+        Assert.assertEquals(1, Tagged.tagOf(nonetFactory.second(0)));
+        Assert.assertEquals(2, Tagged.tagOf(nonetFactory.third(0)));
+        Assert.assertEquals(3, Tagged.tagOf(nonetFactory.fourth(0)));
+        Assert.assertEquals(4, Tagged.tagOf(nonetFactory.fifth(0)));
+        Assert.assertEquals(5, Tagged.tagOf(nonetFactory.sixth(0)));
+        Assert.assertEquals(6, Tagged.tagOf(nonetFactory.seventh(0)));
+        Assert.assertEquals(7, Tagged.tagOf(nonetFactory.eighth(0)));
+        Assert.assertEquals(8, Tagged.tagOf(nonetFactory.ninth(0)));
+    }
+
+    @Test
+    public void testHashCodeMatchesTaggedUnions() throws Exception {
+        Assert.assertEquals(taggedNulletFactory.first(0).hashCode(),
+                nulletFactory.first(0).hashCode());
+        Assert.assertEquals(taggedSingletFactory.first(0).hashCode(),
+                singletFactory.first(0).hashCode());
+        Assert.assertEquals(taggedSingletFactory.none().hashCode(),
+                singletFactory.none().hashCode());
+        Assert.assertEquals(taggedDoubletFactory.first(0).hashCode(),
+                doubletFactory.first(0).hashCode());
+        Assert.assertEquals(taggedDoubletFactory.second(0).hashCode(),
+                doubletFactory.second(0).hashCode());
+        Assert.assertEquals(taggedTripletFactory.first(0).hashCode(),
+                tripletFactory.first(0).hashCode());
+        Assert.assertEquals(taggedTripletFactory.second(0).hashCode(),
+                tripletFactory.second(0).hashCode());
+        Assert.assertEquals(taggedTripletFactory.third(0).hashCode(),
+                tripletFactory.third(0).hashCode());
+        Assert.assertEquals(taggedQuartetFactory.first(0).hashCode(),
+                quartetFactory.first(0).hashCode());
+        Assert.assertEquals(taggedQuartetFactory.second(0).hashCode(),
+                quartetFactory.second(0).hashCode());
+        Assert.assertEquals(taggedQuartetFactory.third(0).hashCode(),
+                quartetFactory.third(0).hashCode());
+        Assert.assertEquals(taggedQuartetFactory.fourth(0).hashCode(),
+                quartetFactory.fourth(0).hashCode());
+        Assert.assertEquals(taggedQuintetFactory.first(0).hashCode(),
+                quintetFactory.first(0).hashCode());
+        Assert.assertEquals(taggedQuintetFactory.second(0).hashCode(),
+                quintetFactory.second(0).hashCode());
+        Assert.assertEquals(taggedQuintetFactory.third(0).hashCode(),
+                quintetFactory.third(0).hashCode());
+        Assert.assertEquals(taggedQuintetFactory.fourth(0).hashCode(),
+                quintetFactory.fourth(0).hashCode());
+        Assert.assertEquals(taggedQuintetFactory.fifth(0).hashCode(),
+                quintetFactory.fifth(0).hashCode());
+        Assert.assertEquals(taggedSextetFactory.first(0).hashCode(),
+                sextetFactory.first(0).hashCode());
+        Assert.assertEquals(taggedSextetFactory.second(0).hashCode(),
+                sextetFactory.second(0).hashCode());
+        Assert.assertEquals(taggedSextetFactory.third(0).hashCode(),
+                sextetFactory.third(0).hashCode());
+        Assert.assertEquals(taggedSextetFactory.fourth(0).hashCode(),
+                sextetFactory.fourth(0).hashCode());
+        Assert.assertEquals(taggedSextetFactory.fifth(0).hashCode(),
+                sextetFactory.fifth(0).hashCode());
+        Assert.assertEquals(taggedSextetFactory.sixth(0).hashCode(),
+                sextetFactory.sixth(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.first(0).hashCode(),
+                septetFactory.first(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.second(0).hashCode(),
+                septetFactory.second(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.third(0).hashCode(),
+                septetFactory.third(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.fourth(0).hashCode(),
+                septetFactory.fourth(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.fifth(0).hashCode(),
+                septetFactory.fifth(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.sixth(0).hashCode(),
+                septetFactory.sixth(0).hashCode());
+        Assert.assertEquals(taggedSeptetFactory.seventh(0).hashCode(),
+                septetFactory.seventh(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.first(0).hashCode(),
+                octetFactory.first(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.second(0).hashCode(),
+                octetFactory.second(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.third(0).hashCode(),
+                octetFactory.third(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.fourth(0).hashCode(),
+                octetFactory.fourth(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.fifth(0).hashCode(),
+                octetFactory.fifth(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.sixth(0).hashCode(),
+                octetFactory.sixth(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.seventh(0).hashCode(),
+                octetFactory.seventh(0).hashCode());
+        Assert.assertEquals(taggedOctetFactory.eighth(0).hashCode(),
+                octetFactory.eighth(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.first(0).hashCode(),
+                nonetFactory.first(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.second(0).hashCode(),
+                nonetFactory.second(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.third(0).hashCode(),
+                nonetFactory.third(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.fourth(0).hashCode(),
+                nonetFactory.fourth(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.fifth(0).hashCode(),
+                nonetFactory.fifth(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.sixth(0).hashCode(),
+                nonetFactory.sixth(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.seventh(0).hashCode(),
+                nonetFactory.seventh(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.eighth(0).hashCode(),
+                nonetFactory.eighth(0).hashCode());
+        Assert.assertEquals(taggedNonetFactory.ninth(0).hashCode(),
+                nonetFactory.ninth(0).hashCode());
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        Assert.assertEquals(singletFactory.first(0), singletFactory.first(0));
+        Assert.assertNotEquals(singletFactory.first(0), singletFactory.none());
+        Assert.assertEquals(doubletFactory.first(0), doubletFactory.first(0));
+        Assert.assertNotEquals(doubletFactory.first(0), doubletFactory.second(0));
+        Assert.assertEquals(tripletFactory.first(0), tripletFactory.first(0));
+        Assert.assertNotEquals(tripletFactory.first(0), tripletFactory.third(0));
+        Assert.assertEquals(quartetFactory.first(0), quartetFactory.first(0));
+        Assert.assertNotEquals(quartetFactory.first(0), quartetFactory.fourth(0));
+        Assert.assertEquals(quintetFactory.first(0), quintetFactory.first(0));
+        Assert.assertNotEquals(quintetFactory.first(0), quintetFactory.fifth(0));
+        Assert.assertEquals(sextetFactory.first(0), sextetFactory.first(0));
+        Assert.assertNotEquals(sextetFactory.first(0), sextetFactory.sixth(0));
+        Assert.assertEquals(septetFactory.first(0), septetFactory.first(0));
+        Assert.assertNotEquals(septetFactory.first(0), septetFactory.seventh(0));
+        Assert.assertEquals(octetFactory.first(0), octetFactory.first(0));
+        Assert.assertNotEquals(octetFactory.first(0), octetFactory.eighth(0));
+        Assert.assertEquals(nonetFactory.first(0), nonetFactory.first(0));
+        Assert.assertNotEquals(nonetFactory.first(0), nonetFactory.ninth(0));
+        Assert.assertNotEquals(singletFactory.first(0), singletFactory.first(1));
+    }
+
+    @Test
+    public void testHashCodeIsCached() throws Exception {
+        Union2.Factory<List<Integer>, Integer> factory = CachedHashUnions.doubletFactory();
+        List<Integer> key = new ArrayList<>(Arrays.asList(1, 2, 3));
+        Union2<List<Integer>, Integer> union = factory.first(key);
+        int hash = union.hashCode();
+        key.add(4);
+        Assert.assertEquals(hash, union.hashCode());
+        Assert.assertEquals(factory.first(Arrays.asList(1, 2, 3, 4)), union);
+    }
+
+    @Test
+    public void testEqualsComparesCachedHashCodes() throws Exception {
+        Union1.Factory<Object> factory = CachedHashUnions.singletFactory();
+        Union1<Object> left = factory.first(new Unequal(1));
+        Union1<Object> right = factory.first(new Unequal(2));
+        left.hashCode();
+        right.hashCode();
+        Assert.assertFalse(left.equals(right));
+    }
+
+    private static final class Unequal {
+        private final int hash;
+
+        Unequal(int hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
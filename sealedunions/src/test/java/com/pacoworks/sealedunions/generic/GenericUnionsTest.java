@@ -16,8 +16,11 @@
 
 package com.pacoworks.sealedunions.generic;
 
+import com.pacoworks.sealedunions.Tagged;
 import com.pacoworks.sealedunions.Union0;
 import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union10;
+import com.pacoworks.sealedunions.Union16;
 import com.pacoworks.sealedunions.Union2;
 import com.pacoworks.sealedunions.Union3;
 import com.pacoworks.sealedunions.Union4;
@@ -31,8 +34,13 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 public class GenericUnionsTest {
     public static final String VALID = "a";
@@ -46,6 +54,20 @@ public class GenericUnionsTest {
 
     public static final Function<Integer, String> EMPTY = value -> INVALID;
 
+    private static final Union2.Matcher<Integer, Integer, String> VALID_FIRST = Union2.Matcher
+            .of(VALUE, EMPTY);
+
+    private static final Union2.Matcher<Integer, Integer, String> VALID_SECOND = Union2.Matcher
+            .of(EMPTY, VALUE);
+
+    private static final ToIntFunction<Integer> ONE = value -> 1;
+
+    private static final ToIntFunction<Integer> ZERO = value -> 0;
+
+    private static final Predicate<Integer> TRUE = value -> true;
+
+    private static final Predicate<Integer> FALSE = value -> false;
+
     private static final Consumer<Integer> SUCCESS = any -> {
     };
 
@@ -53,6 +75,17 @@ public class GenericUnionsTest {
         throw new IllegalStateException();
     };
 
+    private static final BiFunction<String, Integer, String> CONTEXT = (context, value) -> context;
+
+    private static final BiFunction<String, Integer, String> IGNORE = (context, value) -> INVALID;
+
+    private static final BiConsumer<StringBuilder, Integer> APPEND = (builder, value) -> builder
+            .append(value);
+
+    private static final BiConsumer<StringBuilder, Integer> FAIL = (builder, value) -> {
+        throw new IllegalStateException();
+    };
+
     @Test
     public void testJoin() throws Exception {
         Union0.Factory<Integer> nulletFactory = GenericUnions.nulletFactory();
@@ -149,6 +182,473 @@ public class GenericUnionsTest {
                 Arrays.asList(join0, join1, join2, join3, join4, join5, join6, join7, join8, join9));
     }
 
+    @Test
+    public void testJoinToPrimitive() throws Exception {
+        Union0.Factory<Integer> nulletFactory = GenericUnions.nulletFactory();
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        Union3.Factory<Integer, Integer, Integer> tripletFactory = GenericUnions.tripletFactory();
+        Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = GenericUnions
+                .quartetFactory();
+        Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = GenericUnions
+                .quintetFactory();
+        Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = GenericUnions
+                .sextetFactory();
+        Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = GenericUnions
+                .septetFactory();
+        Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = GenericUnions
+                .octetFactory();
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = GenericUnions
+                .nonetFactory();
+        Assert.assertEquals(1, nulletFactory.first(0).joinToInt(ONE));
+        Assert.assertEquals(1, singletFactory.first(0).joinToInt(ONE, () -> 0));
+        Assert.assertEquals(1, singletFactory.none().joinToInt(ZERO, () -> 1));
+        Assert.assertEquals(1, doubletFactory.first(0).joinToInt(ONE, ZERO));
+        Assert.assertEquals(1, doubletFactory.second(0).joinToInt(ZERO, ONE));
+        Assert.assertEquals(1, tripletFactory.first(0).joinToInt(ONE, ZERO, ZERO));
+        Assert.assertEquals(1, tripletFactory.second(0).joinToInt(ZERO, ONE, ZERO));
+        Assert.assertEquals(1, tripletFactory.third(0).joinToInt(ZERO, ZERO, ONE));
+        Assert.assertEquals(1, quartetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, quartetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO));
+        Assert.assertEquals(1, quartetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO));
+        Assert.assertEquals(1, quartetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE));
+        Assert.assertEquals(1, quintetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, quintetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, quintetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO));
+        Assert.assertEquals(1, quintetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO));
+        Assert.assertEquals(1, quintetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE));
+        Assert.assertEquals(1, sextetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, sextetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, sextetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, sextetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO));
+        Assert.assertEquals(1, sextetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO));
+        Assert.assertEquals(1, sextetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE));
+        Assert.assertEquals(1, septetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.seventh(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ONE));
+        Assert.assertEquals(1, octetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.seventh(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ONE, ZERO));
+        Assert.assertEquals(1, octetFactory.eighth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ONE));
+        Assert.assertEquals(1, nonetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.seventh(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ONE, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.eighth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ONE, ZERO));
+        Assert.assertEquals(1, nonetFactory.ninth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ONE));
+        Assert.assertEquals(1L, doubletFactory.second(0).joinToLong(value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, doubletFactory.second(0).joinToDouble(value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(doubletFactory.second(0).joinToBoolean(FALSE, TRUE));
+        Assert.assertEquals(1L, tripletFactory.third(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 1L));
+        Assert.assertEquals(1.0, tripletFactory.third(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(tripletFactory.third(0).joinToBoolean(FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, quartetFactory.fourth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, quartetFactory.fourth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(quartetFactory.fourth(0).joinToBoolean(FALSE, FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, quintetFactory.fifth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, quintetFactory.fifth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(quintetFactory.fifth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, sextetFactory.sixth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, sextetFactory.sixth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(sextetFactory.sixth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                TRUE));
+        Assert.assertEquals(1L, septetFactory.seventh(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, septetFactory.seventh(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(septetFactory.seventh(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                FALSE, TRUE));
+        Assert.assertEquals(1L, octetFactory.eighth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, octetFactory.eighth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(octetFactory.eighth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, nonetFactory.ninth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 0L,
+                value -> 1L));
+        Assert.assertEquals(1.0, nonetFactory.ninth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(nonetFactory.ninth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                FALSE, FALSE, FALSE, TRUE));
+    }
+
+    @Test
+    public void testJoinToBooleanAsPredicate() throws Exception {
+        Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = GenericUnions
+                .quartetFactory();
+        // Checks for a variant without boxing the result of the join into a Boolean
+        List<Union4<Integer, Integer, Integer, Integer>> unions = Arrays.asList(
+                quartetFactory.first(0), quartetFactory.third(0), quartetFactory.third(1),
+                quartetFactory.fourth(0));
+        Assert.assertEquals(2, unions.stream()
+                .filter(union -> union.joinToBoolean(FALSE, FALSE, TRUE, FALSE)).count());
+    }
+
+    @Test
+    public void testMatcher() throws Exception {
+        Union0.Factory<Integer> nulletFactory = GenericUnions.nulletFactory();
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        Union3.Factory<Integer, Integer, Integer> tripletFactory = GenericUnions.tripletFactory();
+        Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = GenericUnions
+                .quartetFactory();
+        Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = GenericUnions
+                .quintetFactory();
+        Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = GenericUnions
+                .sextetFactory();
+        Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = GenericUnions
+                .septetFactory();
+        Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = GenericUnions
+                .octetFactory();
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = GenericUnions
+                .nonetFactory();
+        Union0.Matcher<Integer, Integer> nulletMatcher = Union0.Matcher.of(value -> 0);
+        Assert.assertEquals(0, (int)nulletMatcher.apply(nulletFactory.first(0)));
+        Union1.Matcher<Integer, Integer> singletMatcher = Union1.Matcher.of(value -> 0, () -> 1);
+        Assert.assertEquals(0, (int)singletMatcher.apply(singletFactory.first(0)));
+        Assert.assertEquals(1, (int)singletFactory.none().join(singletMatcher));
+        Union2.Matcher<Integer, Integer, Integer> doubletMatcher =
+                Union2.Matcher.of(value -> 0, value -> 1);
+        Assert.assertEquals(0, (int)doubletMatcher.apply(doubletFactory.first(0)));
+        Assert.assertEquals(1, (int)doubletFactory.second(0).join(doubletMatcher));
+        Union3.Matcher<Integer, Integer, Integer, Integer> tripletMatcher =
+                Union3.Matcher.of(value -> 0, value -> 1, value -> 2);
+        Assert.assertEquals(0, (int)tripletMatcher.apply(tripletFactory.first(0)));
+        Assert.assertEquals(1, (int)tripletFactory.second(0).join(tripletMatcher));
+        Assert.assertEquals(2, (int)tripletMatcher.apply(tripletFactory.third(0)));
+        Union4.Matcher<Integer, Integer, Integer, Integer, Integer> quartetMatcher =
+                Union4.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3);
+        Assert.assertEquals(0, (int)quartetMatcher.apply(quartetFactory.first(0)));
+        Assert.assertEquals(1, (int)quartetFactory.second(0).join(quartetMatcher));
+        Assert.assertEquals(2, (int)quartetMatcher.apply(quartetFactory.third(0)));
+        Assert.assertEquals(3, (int)quartetFactory.fourth(0).join(quartetMatcher));
+        Union5.Matcher<Integer, Integer, Integer, Integer, Integer, Integer> quintetMatcher =
+                Union5.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4);
+        Assert.assertEquals(0, (int)quintetMatcher.apply(quintetFactory.first(0)));
+        Assert.assertEquals(1, (int)quintetFactory.second(0).join(quintetMatcher));
+        Assert.assertEquals(2, (int)quintetMatcher.apply(quintetFactory.third(0)));
+        Assert.assertEquals(3, (int)quintetFactory.fourth(0).join(quintetMatcher));
+        Assert.assertEquals(4, (int)quintetMatcher.apply(quintetFactory.fifth(0)));
+        Union6.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer> sextetMatcher =
+                Union6.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5);
+        Assert.assertEquals(0, (int)sextetMatcher.apply(sextetFactory.first(0)));
+        Assert.assertEquals(1, (int)sextetFactory.second(0).join(sextetMatcher));
+        Assert.assertEquals(2, (int)sextetMatcher.apply(sextetFactory.third(0)));
+        Assert.assertEquals(3, (int)sextetFactory.fourth(0).join(sextetMatcher));
+        Assert.assertEquals(4, (int)sextetMatcher.apply(sextetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)sextetFactory.sixth(0).join(sextetMatcher));
+        Union7.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetMatcher =
+                Union7.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5, value -> 6);
+        Assert.assertEquals(0, (int)septetMatcher.apply(septetFactory.first(0)));
+        Assert.assertEquals(1, (int)septetFactory.second(0).join(septetMatcher));
+        Assert.assertEquals(2, (int)septetMatcher.apply(septetFactory.third(0)));
+        Assert.assertEquals(3, (int)septetFactory.fourth(0).join(septetMatcher));
+        Assert.assertEquals(4, (int)septetMatcher.apply(septetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)septetFactory.sixth(0).join(septetMatcher));
+        Assert.assertEquals(6, (int)septetMatcher.apply(septetFactory.seventh(0)));
+        Union8.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetMatcher =
+                Union8.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5, value -> 6, value -> 7);
+        Assert.assertEquals(0, (int)octetMatcher.apply(octetFactory.first(0)));
+        Assert.assertEquals(1, (int)octetFactory.second(0).join(octetMatcher));
+        Assert.assertEquals(2, (int)octetMatcher.apply(octetFactory.third(0)));
+        Assert.assertEquals(3, (int)octetFactory.fourth(0).join(octetMatcher));
+        Assert.assertEquals(4, (int)octetMatcher.apply(octetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)octetFactory.sixth(0).join(octetMatcher));
+        Assert.assertEquals(6, (int)octetMatcher.apply(octetFactory.seventh(0)));
+        Assert.assertEquals(7, (int)octetFactory.eighth(0).join(octetMatcher));
+        Union9.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetMatcher =
+                Union9.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5, value -> 6, value -> 7, value -> 8);
+        Assert.assertEquals(0, (int)nonetMatcher.apply(nonetFactory.first(0)));
+        Assert.assertEquals(1, (int)nonetFactory.second(0).join(nonetMatcher));
+        Assert.assertEquals(2, (int)nonetMatcher.apply(nonetFactory.third(0)));
+        Assert.assertEquals(3, (int)nonetFactory.fourth(0).join(nonetMatcher));
+        Assert.assertEquals(4, (int)nonetMatcher.apply(nonetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)nonetFactory.sixth(0).join(nonetMatcher));
+        Assert.assertEquals(6, (int)nonetMatcher.apply(nonetFactory.seventh(0)));
+        Assert.assertEquals(7, (int)nonetFactory.eighth(0).join(nonetMatcher));
+        Assert.assertEquals(8, (int)nonetMatcher.apply(nonetFactory.ninth(0)));
+    }
+
+    @Test
+    public void testMatcherChosenByUnion() throws Exception {
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        // One union picks which of the matchers built once applies to another, with no lambda
+        // created per call, like an event picking the transitions of a state machine
+        Union2.Matcher<Integer, Integer, String> matcher = doubletFactory.second(0)
+                .join(first -> VALID_FIRST, second -> VALID_SECOND);
+        Assert.assertSame(VALID_SECOND, matcher);
+        Assert.assertEquals(VALID, matcher.apply(doubletFactory.second(1)));
+        Assert.assertEquals(INVALID, doubletFactory.first(1).join(matcher));
+    }
+
+    @Test
+    public void testContext() throws Exception {
+        Union0.Factory<Integer> nulletFactory = GenericUnions.nulletFactory();
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        Union3.Factory<Integer, Integer, Integer> tripletFactory = GenericUnions.tripletFactory();
+        Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = GenericUnions
+                .quartetFactory();
+        Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = GenericUnions
+                .quintetFactory();
+        Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = GenericUnions
+                .sextetFactory();
+        Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = GenericUnions
+                .septetFactory();
+        Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = GenericUnions
+                .octetFactory();
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = GenericUnions
+                .nonetFactory();
+        StringBuilder builder = new StringBuilder();
+        Assert.assertEquals(VALID, nulletFactory.first(0).join(VALID, CONTEXT));
+        nulletFactory.first(0).continued(builder, APPEND);
+        Assert.assertEquals(VALID, singletFactory.first(0).join(VALID, CONTEXT,
+                context -> INVALID));
+        Assert.assertEquals(VALID, singletFactory.none().join(VALID, IGNORE, context -> context));
+        singletFactory.none().continued(builder, FAIL, target -> target.append(1));
+        Assert.assertEquals(VALID, doubletFactory.first(0).join(VALID, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, doubletFactory.second(0).join(VALID, IGNORE, CONTEXT));
+        doubletFactory.second(2).continued(builder, FAIL, APPEND);
+        Assert.assertEquals(VALID, tripletFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, tripletFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, tripletFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT));
+        tripletFactory.third(3).continued(builder, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, quartetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE));
+        Assert.assertEquals(VALID, quartetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE));
+        Assert.assertEquals(VALID, quartetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE));
+        Assert.assertEquals(VALID, quartetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT));
+        quartetFactory.fourth(4).continued(builder, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, quintetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT));
+        quintetFactory.fifth(5).continued(builder, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, sextetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, CONTEXT));
+        sextetFactory.sixth(6).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, septetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.seventh(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, CONTEXT));
+        septetFactory.seventh(7).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, octetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.seventh(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.eighth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, CONTEXT));
+        octetFactory.eighth(8).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, nonetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.seventh(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.eighth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.ninth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, CONTEXT));
+        nonetFactory.ninth(9).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL,
+                APPEND);
+        Assert.assertEquals("0123456789", builder.toString());
+    }
+
+    @Test
+    public void testNestedContext() throws Exception {
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        // Compares two unions without capturing either, the other union and the value are passed
+        // as the context of each join
+        BiFunction<Union2<Integer, Integer>, Integer, Boolean> sameFirst = (other, value) -> other
+                .join(value, Integer::equals, (expected, second) -> false);
+        BiFunction<Union2<Integer, Integer>, Integer, Boolean> sameSecond = (other, value) -> other
+                .join(value, (expected, first) -> false, Integer::equals);
+        Union2<Integer, Integer> union = doubletFactory.first(1);
+        Assert.assertTrue(union.join(doubletFactory.first(1), sameFirst, sameSecond));
+        Assert.assertFalse(union.join(doubletFactory.first(2), sameFirst, sameSecond));
+        Assert.assertFalse(union.join(doubletFactory.second(1), sameFirst, sameSecond));
+    }
+
+    @Test
+    public void testTag() throws Exception {
+        Union0.Factory<Integer> nulletFactory = GenericUnions.nulletFactory();
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        Union3.Factory<Integer, Integer, Integer> tripletFactory = GenericUnions.tripletFactory();
+        Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = GenericUnions
+                .quartetFactory();
+        Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = GenericUnions
+                .quintetFactory();
+        Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = GenericUnions
+                .sextetFactory();
+        Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = GenericUnions
+                .septetFactory();
+        Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = GenericUnions
+                .octetFactory();
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = GenericUnions
+                .nonetFactory();
+        Assert.assertEquals(0, Tagged.tagOf(nulletFactory.first(0)));
+        Assert.assertEquals(0, Tagged.tagOf(singletFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)singletFactory.none()).tag());
+        Assert.assertEquals(0, Tagged.tagOf(doubletFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)doubletFactory.second(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(tripletFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)tripletFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(tripletFactory.third(0)));
+        Assert.assertEquals(0, Tagged.tagOf(quartetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)quartetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(quartetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)quartetFactory.fourth(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(quintetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)quintetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(quintetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)quintetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(quintetFactory.fifth(0)));
+        Assert.assertEquals(0, Tagged.tagOf(sextetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)sextetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(sextetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)sextetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(sextetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)sextetFactory.sixth(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(septetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)septetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(septetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)septetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(septetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)septetFactory.sixth(0)).tag());
+        Assert.assertEquals(6, Tagged.tagOf(septetFactory.seventh(0)));
+        Assert.assertEquals(0, Tagged.tagOf(octetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)octetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(octetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)octetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(octetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)octetFactory.sixth(0)).tag());
+        Assert.assertEquals(6, Tagged.tagOf(octetFactory.seventh(0)));
+        Assert.assertEquals(7, ((Tagged)octetFactory.eighth(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(nonetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)nonetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(nonetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)nonetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(nonetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)nonetFactory.sixth(0)).tag());
+        Assert.assertEquals(6, Tagged.tagOf(nonetFactory.seventh(0)));
+        Assert.assertEquals(7, ((Tagged)nonetFactory.eighth(0)).tag());
+        Assert.assertEquals(8, Tagged.tagOf(nonetFactory.ninth(0)));
+        Union2<Integer, Integer> custom = new Union2<Integer, Integer>() {
+            @Override
+            public void continued(Consumer<Integer> continuationFirst,
+                    Consumer<Integer> continuationSecond) {
+                continuationSecond.accept(0);
+            }
+
+            @Override
+            public <R> R join(Function<Integer, R> mapFirst, Function<Integer, R> mapSecond) {
+                return mapSecond.apply(0);
+            }
+        };
+        Assert.assertEquals(1, Tagged.tagOf(custom));
+    }
+
     @Test
     public void testContinued() throws Exception {
         Union0.Factory<Integer> nulletFactory = GenericUnions.nulletFactory();
@@ -235,4 +735,158 @@ public class GenericUnionsTest {
         nonetFactory.ninth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR,
                 SUCCESS);
     }
+
+    @Test
+    public void testHashCode() throws Exception {
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union2.Factory<Integer, Integer> doubletFactory = GenericUnions.doubletFactory();
+        Union3.Factory<Integer, Integer, Integer> tripletFactory = GenericUnions.tripletFactory();
+        Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = GenericUnions
+                .quartetFactory();
+        Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = GenericUnions
+                .quintetFactory();
+        Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = GenericUnions
+                .sextetFactory();
+        Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = GenericUnions
+                .septetFactory();
+        Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = GenericUnions
+                .octetFactory();
+        Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = GenericUnions
+                .nonetFactory();
+        Assert.assertNotEquals(singletFactory.first(null).hashCode(),
+                singletFactory.none().hashCode());
+        Assert.assertEquals(doubletFactory.first(0).hashCode(), doubletFactory.first(0).hashCode());
+        Assert.assertNotEquals(doubletFactory.first(0).hashCode(),
+                doubletFactory.second(0).hashCode());
+        Assert.assertEquals(tripletFactory.first(0).hashCode(), tripletFactory.first(0).hashCode());
+        Assert.assertNotEquals(tripletFactory.first(0).hashCode(),
+                tripletFactory.second(0).hashCode());
+        Assert.assertNotEquals(tripletFactory.first(0).hashCode(),
+                tripletFactory.third(0).hashCode());
+        Assert.assertEquals(quartetFactory.first(0).hashCode(), quartetFactory.first(0).hashCode());
+        Assert.assertNotEquals(quartetFactory.first(0).hashCode(),
+                quartetFactory.second(0).hashCode());
+        Assert.assertNotEquals(quartetFactory.first(0).hashCode(),
+                quartetFactory.third(0).hashCode());
+        Assert.assertNotEquals(quartetFactory.first(0).hashCode(),
+                quartetFactory.fourth(0).hashCode());
+        Assert.assertEquals(quintetFactory.first(0).hashCode(), quintetFactory.first(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.second(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.third(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.fifth(0).hashCode());
+        Assert.assertEquals(sextetFactory.first(0).hashCode(), sextetFactory.first(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.second(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.third(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.sixth(0).hashCode());
+        Assert.assertEquals(septetFactory.first(0).hashCode(), septetFactory.first(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.second(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.third(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.sixth(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.seventh(0).hashCode());
+        Assert.assertEquals(octetFactory.first(0).hashCode(), octetFactory.first(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.second(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.third(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.sixth(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(),
+                octetFactory.seventh(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.eighth(0).hashCode());
+        Assert.assertEquals(nonetFactory.first(0).hashCode(), nonetFactory.first(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.second(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.third(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.sixth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(),
+                nonetFactory.seventh(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.eighth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.ninth(0).hashCode());
+        Assert.assertNotEquals(doubletFactory.first(0).hashCode(),
+                tripletFactory.first(0).hashCode());
+    }
+
+    @Test
+    public void testFactoriesAreShared() throws Exception {
+        Assert.assertSame(GenericUnions.nulletFactory(), GenericUnions.nulletFactory());
+        Assert.assertSame(GenericUnions.singletFactory(), GenericUnions.singletFactory());
+        Assert.assertSame(GenericUnions.doubletFactory(), GenericUnions.doubletFactory());
+        Assert.assertSame(GenericUnions.tripletFactory(), GenericUnions.tripletFactory());
+        Assert.assertSame(GenericUnions.quartetFactory(), GenericUnions.quartetFactory());
+        Assert.assertSame(GenericUnions.quintetFactory(), GenericUnions.quintetFactory());
+        Assert.assertSame(GenericUnions.sextetFactory(), GenericUnions.sextetFactory());
+        Assert.assertSame(GenericUnions.septetFactory(), GenericUnions.septetFactory());
+        Assert.assertSame(GenericUnions.octetFactory(), GenericUnions.octetFactory());
+        Assert.assertSame(GenericUnions.nonetFactory(), GenericUnions.nonetFactory());
+    }
+
+    @Test
+    public void testNoneIsShared() throws Exception {
+        Union1.Factory<Integer> singletFactory = GenericUnions.singletFactory();
+        Union1.Factory<String> otherSingletFactory = GenericUnions.singletFactory();
+        Assert.assertSame(singletFactory.none(), singletFactory.none());
+        Assert.assertSame(singletFactory.none(), otherSingletFactory.none());
+        Assert.assertEquals(singletFactory.none(), otherSingletFactory.none());
+        Assert.assertNotEquals(singletFactory.none(), singletFactory.first(0));
+    }
+
+    @Test
+    public void testWideUnions() throws Exception {
+        Union16.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> sexdectetFactory =
+                GenericUnions.sexdectetFactory();
+        List<Union16<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>> unions = Arrays.asList(
+                sexdectetFactory.first(0),
+                sexdectetFactory.second(1),
+                sexdectetFactory.third(2),
+                sexdectetFactory.fourth(3),
+                sexdectetFactory.fifth(4),
+                sexdectetFactory.sixth(5),
+                sexdectetFactory.seventh(6),
+                sexdectetFactory.eighth(7),
+                sexdectetFactory.ninth(8),
+                sexdectetFactory.tenth(9),
+                sexdectetFactory.eleventh(10),
+                sexdectetFactory.twelfth(11),
+                sexdectetFactory.thirteenth(12),
+                sexdectetFactory.fourteenth(13),
+                sexdectetFactory.fifteenth(14),
+                sexdectetFactory.sixteenth(15));
+        for (int index = 0; index < unions.size(); index++) {
+            Assert.assertEquals(index, (int)unions.get(index).join(a -> 0, b -> 1, c -> 2, d -> 3,
+                    e -> 4, f -> 5, g -> 6, h -> 7, i -> 8, j -> 9, k -> 10, l -> 11, m -> 12,
+                    n -> 13, o -> 14, p -> 15));
+            Assert.assertEquals(index, unions.get(index).joinToInt(a -> 0, b -> 1, c -> 2, d -> 3,
+                    e -> 4, f -> 5, g -> 6, h -> 7, i -> 8, j -> 9, k -> 10, l -> 11, m -> 12,
+                    n -> 13, o -> 14, p -> 15));
+            Assert.assertEquals(index, ((Tagged)unions.get(index)).tag());
+        }
+        Union10.Factory<String, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, String> dectetFactory =
+                GenericUnions.dectetFactory();
+        Assert.assertEquals(VALID, dectetFactory.tenth(VALID).join(a -> INVALID, b -> INVALID,
+                c -> INVALID, d -> INVALID, e -> INVALID, f -> INVALID, g -> INVALID, h -> INVALID,
+                i -> INVALID, j -> j));
+        Assert.assertEquals(dectetFactory.first(VALID), dectetFactory.first(VALID));
+        Assert.assertNotEquals(dectetFactory.first(VALID), dectetFactory.tenth(VALID));
+        Assert.assertSame(GenericUnions.sexdectetFactory(), GenericUnions.sexdectetFactory());
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union3;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InterningUnionsTest {
+    public static final String VALID = "a";
+
+    public static final String INVALID = "";
+
+    @Test
+    public void testIntern() throws Exception {
+        InterningUnions.DoubletFactory<String, Integer> factory = InterningUnions.doubletFactory();
+        Union2<String, Integer> canonical = factory.intern(factory.first(VALID));
+        Assert.assertSame(canonical, factory.first(VALID));
+        Assert.assertSame(canonical, factory.first(new String(VALID)));
+        Assert.assertSame(canonical, factory.intern(factory.first(VALID)));
+        Assert.assertNotSame(factory.first(INVALID), factory.first(INVALID));
+        Assert.assertNotSame(canonical, GenericUnions.<String, Integer> doubletFactory()
+                .first(VALID));
+    }
+
+    @Test
+    public void testInternIsPerVariant() throws Exception {
+        InterningUnions.TripletFactory<Integer, Integer, Integer> factory = InterningUnions
+                .tripletFactory();
+        Union3<Integer, Integer, Integer> canonical = factory.intern(factory.third(0));
+        Assert.assertSame(canonical, factory.third(0));
+        Assert.assertNotSame(factory.first(0), factory.first(0));
+        Assert.assertEquals(2, ((Tagged)factory.third(0)).tag());
+        Assert.assertNotEquals(canonical, factory.second(0));
+    }
+
+    @Test
+    public void testInternNull() throws Exception {
+        InterningUnions.SingletFactory<String> factory = InterningUnions.singletFactory();
+        Union1<String> canonical = factory.intern(factory.first(null));
+        Assert.assertSame(canonical, factory.first(null));
+        Assert.assertNotSame(canonical, factory.first(VALID));
+        Assert.assertSame(factory.none(), factory.none());
+    }
+
+    @Test
+    public void testInternPayloadlessVariants() throws Exception {
+        InterningUnions.DoubletFactory<PlayerOne, PlayerTwo> factory = InterningUnions
+                .doubletFactory();
+        Union2<PlayerOne, PlayerTwo> one = factory.intern(factory.first(new PlayerOne()));
+        Union2<PlayerOne, PlayerTwo> two = factory.intern(factory.second(new PlayerTwo()));
+        Assert.assertSame(one, factory.first(new PlayerOne()));
+        Assert.assertSame(two, factory.second(new PlayerTwo()));
+        Assert.assertNotEquals(one, two);
+    }
+
+    @Test
+    public void testWrappedFactory() throws Exception {
+        InterningUnions.DoubletFactory<String, Integer> factory = InterningUnions
+                .doubletFactory(TaggedUnions.doubletFactory());
+        Union2<String, Integer> canonical = factory.intern(factory.second(1));
+        Assert.assertSame(canonical, factory.second(1));
+        Assert.assertTrue(factory.first(VALID) instanceof TaggedUnion2);
+        Assert.assertTrue(canonical instanceof TaggedUnion2);
+    }
+
+    private static final class PlayerOne {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PlayerOne;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
+    private static final class PlayerTwo {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PlayerTwo;
+        }
+
+        @Override
+        public int hashCode() {
+            return 2;
+        }
+    }
+}
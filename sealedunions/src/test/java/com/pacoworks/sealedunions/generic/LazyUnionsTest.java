@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union9;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class LazyUnionsTest {
+    private static final int THREADS = 8;
+
+    private final LazyUnions.DoubletFactory<String, Integer> factory = LazyUnions
+            .doubletFactory();
+
+    @Test
+    public void testSupplierRunsOnlyForItsBranch() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Union2<String, Integer> union = factory.lazyFirst(() -> {
+            calls.incrementAndGet();
+            return "document";
+        });
+        Assert.assertEquals(0, Tagged.tagOf(union));
+        Assert.assertEquals(0, calls.get());
+        Assert.assertEquals("document", union.join(first -> first, second -> ""));
+        Assert.assertEquals(8, union.joinToInt(String::length, second -> second));
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testTagDoesNotRunSupplier() throws Exception {
+        Union2<String, Integer> union = factory.lazySecond(() -> {
+            throw new IllegalStateException();
+        });
+        Assert.assertEquals(1, Tagged.tagOf(union));
+        Assert.assertSame(union, union);
+    }
+
+    @Test
+    public void testEqualsEagerUnion() throws Exception {
+        Union2<String, Integer> lazy = factory.lazySecond(() -> 2);
+        Union2<String, Integer> eager = factory.second(2);
+        Assert.assertEquals(eager, lazy);
+        Assert.assertEquals(eager.hashCode(), lazy.hashCode());
+        Union2<String, Integer> tagged = TaggedUnions.<String, Integer> doubletFactory().second(2);
+        Assert.assertEquals(tagged.hashCode(), lazy.hashCode());
+        Assert.assertNotEquals(tagged, lazy);
+        Assert.assertNotEquals(lazy, tagged);
+        Assert.assertNotEquals(factory.first("2"), lazy);
+        Assert.assertEquals("2", lazy.toString());
+    }
+
+    @Test
+    public void testNullValue() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Union2<String, Integer> union = factory.lazyFirst(() -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        Assert.assertTrue(union.joinToBoolean(first -> first == null, second -> false));
+        Assert.assertTrue(union.joinToBoolean(first -> first == null, second -> false));
+        Assert.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testFailedSupplierRunsAgain() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Union2<String, Integer> union = factory.lazyFirst(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return "retried";
+        });
+        try {
+            union.continued(first -> {
+            }, second -> {
+            });
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+        Assert.assertEquals("retried", union.join(first -> first, String::valueOf));
+        Assert.assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testSupplierRunsOnceAcrossThreads() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        LazyUnions.NonetFactory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory =
+                LazyUnions.nonetFactory();
+        Supplier<Integer> supplier = () -> {
+            calls.incrementAndGet();
+            return 42;
+        };
+        Union9<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> union =
+                nonetFactory.lazyNinth(supplier);
+        AtomicInteger sum = new AtomicInteger();
+        Thread[] threads = new Thread[THREADS];
+        for (int index = 0; index < THREADS; index++) {
+            threads[index] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                sum.addAndGet(union.joinToInt(a -> 0, b -> 0, c -> 0, d -> 0, e -> 0, f -> 0,
+                        g -> 0, h -> 0, i -> i));
+            });
+            threads[index].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(1, calls.get());
+        Assert.assertEquals(42 * THREADS, sum.get());
+        Assert.assertEquals(nonetFactory.ninth(42), union);
+    }
+}
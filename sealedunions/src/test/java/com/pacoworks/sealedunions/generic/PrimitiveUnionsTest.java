@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.IntDoubleUnion2;
+import com.pacoworks.sealedunions.IntLongDoubleUnion4;
+import com.pacoworks.sealedunions.LongDoubleUnion2;
+import com.pacoworks.sealedunions.LongDoubleUnion3;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimitiveUnionsTest {
+    public static final String VALID = "a";
+
+    public static final String INVALID = "";
+
+    @Test
+    public void testJoin() throws Exception {
+        IntDoubleUnion2.Factory intDouble = PrimitiveUnions.intDoubleUnion2Factory();
+        LongDoubleUnion2.Factory longDouble = PrimitiveUnions.longDoubleUnion2Factory();
+        LongDoubleUnion3.Factory<String> longDoubleObject = PrimitiveUnions
+                .longDoubleUnion3Factory();
+        IntLongDoubleUnion4.Factory<String> intLongDoubleObject = PrimitiveUnions
+                .intLongDoubleUnion4Factory();
+        Assert.assertEquals(VALID, intDouble.first(1).join(i -> i == 1 ? VALID : INVALID,
+                d -> INVALID));
+        Assert.assertEquals(VALID, intDouble.second(1.5).join(i -> INVALID,
+                d -> d == 1.5 ? VALID : INVALID));
+        Assert.assertEquals(VALID, longDouble.first(Long.MAX_VALUE).join(
+                l -> l == Long.MAX_VALUE ? VALID : INVALID, d -> INVALID));
+        Assert.assertEquals(VALID, longDouble.second(-0.5).join(l -> INVALID,
+                d -> d == -0.5 ? VALID : INVALID));
+        Assert.assertEquals(VALID, longDoubleObject.first(Long.MIN_VALUE).join(
+                l -> l == Long.MIN_VALUE ? VALID : INVALID, d -> INVALID, s -> INVALID));
+        Assert.assertEquals(VALID, longDoubleObject.second(Double.MAX_VALUE).join(l -> INVALID,
+                d -> d == Double.MAX_VALUE ? VALID : INVALID, s -> INVALID));
+        Assert.assertEquals(VALID, longDoubleObject.third(VALID).join(l -> INVALID, d -> INVALID,
+                s -> s));
+        Assert.assertEquals(VALID, intLongDoubleObject.first(Integer.MIN_VALUE).join(
+                i -> i == Integer.MIN_VALUE ? VALID : INVALID, l -> INVALID, d -> INVALID,
+                s -> INVALID));
+        Assert.assertEquals(VALID, intLongDoubleObject.second(-1L).join(i -> INVALID,
+                l -> l == -1L ? VALID : INVALID, d -> INVALID, s -> INVALID));
+        Assert.assertEquals(VALID, intLongDoubleObject.third(Double.MIN_VALUE).join(i -> INVALID,
+                l -> INVALID, d -> d == Double.MIN_VALUE ? VALID : INVALID, s -> INVALID));
+        Assert.assertEquals(VALID, intLongDoubleObject.fourth(VALID).join(i -> INVALID,
+                l -> INVALID, d -> INVALID, s -> s));
+    }
+
+    @Test
+    public void testContinued() throws Exception {
+        IntDoubleUnion2.Factory intDouble = PrimitiveUnions.intDoubleUnion2Factory();
+        LongDoubleUnion3.Factory<String> longDoubleObject = PrimitiveUnions
+                .longDoubleUnion3Factory();
+        final double[] result = new double[1];
+        intDouble.first(3).continued(i -> result[0] = i, d -> {
+            throw new IllegalStateException();
+        });
+        Assert.assertEquals(3, result[0], 0);
+        intDouble.second(0.25).continued(i -> {
+            throw new IllegalStateException();
+        }, d -> result[0] = d);
+        Assert.assertEquals(0.25, result[0], 0);
+        longDoubleObject.first(7L).continued(l -> result[0] = l, d -> {
+            throw new IllegalStateException();
+        }, s -> {
+            throw new IllegalStateException();
+        });
+        Assert.assertEquals(7, result[0], 0);
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        IntDoubleUnion2.Factory intDouble = PrimitiveUnions.intDoubleUnion2Factory();
+        LongDoubleUnion3.Factory<String> longDoubleObject = PrimitiveUnions
+                .longDoubleUnion3Factory();
+        Assert.assertEquals(intDouble.first(1), intDouble.first(1));
+        Assert.assertEquals(intDouble.first(1).hashCode(), intDouble.first(1).hashCode());
+        Assert.assertEquals(intDouble.second(Double.NaN), intDouble.second(Double.NaN));
+        Assert.assertNotEquals(intDouble.first(1), intDouble.second(1));
+        Assert.assertNotEquals(intDouble.second(0.0), intDouble.second(-0.0));
+        Assert.assertEquals(longDoubleObject.third(VALID), longDoubleObject.third(VALID));
+        Assert.assertNotEquals(longDoubleObject.third(VALID), longDoubleObject.third(INVALID));
+        Assert.assertEquals("1", intDouble.first(1).toString());
+        Assert.assertEquals("1.5", intDouble.second(1.5).toString());
+    }
+}
@@ -0,0 +1,696 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.generic;
+
+import com.pacoworks.sealedunions.Tagged;
+import com.pacoworks.sealedunions.Union0;
+import com.pacoworks.sealedunions.Union1;
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.Union3;
+import com.pacoworks.sealedunions.Union4;
+import com.pacoworks.sealedunions.Union5;
+import com.pacoworks.sealedunions.Union6;
+import com.pacoworks.sealedunions.Union7;
+import com.pacoworks.sealedunions.Union8;
+import com.pacoworks.sealedunions.Union9;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+public class TaggedUnionsTest {
+    public static final String VALID = "a";
+
+    public static final String INVALID = "";
+
+    public static final Function<Integer, String> VALUE = value -> VALID;
+
+    public static final Function<Integer, String> EMPTY = value -> INVALID;
+
+    private static final ToIntFunction<Integer> ONE = value -> 1;
+
+    private static final ToIntFunction<Integer> ZERO = value -> 0;
+
+    private static final Predicate<Integer> TRUE = value -> true;
+
+    private static final Predicate<Integer> FALSE = value -> false;
+
+    private static final Consumer<Integer> SUCCESS = any -> {
+    };
+
+    private static final Consumer<Integer> ERROR = any -> {
+        throw new IllegalStateException();
+    };
+
+    private static final BiFunction<String, Integer, String> CONTEXT = (context, value) -> context;
+
+    private static final BiFunction<String, Integer, String> IGNORE = (context, value) -> INVALID;
+
+    private static final BiConsumer<StringBuilder, Integer> APPEND = (builder, value) -> builder
+            .append(value);
+
+    private static final BiConsumer<StringBuilder, Integer> FAIL = (builder, value) -> {
+        throw new IllegalStateException();
+    };
+
+    private final Union0.Factory<Integer> nulletFactory = TaggedUnions.nulletFactory();
+
+    private final Union1.Factory<Integer> singletFactory = TaggedUnions.singletFactory();
+
+    private final Union2.Factory<Integer, Integer> doubletFactory = TaggedUnions.doubletFactory();
+
+    private final Union3.Factory<Integer, Integer, Integer> tripletFactory = TaggedUnions
+            .tripletFactory();
+
+    private final Union4.Factory<Integer, Integer, Integer, Integer> quartetFactory = TaggedUnions
+            .quartetFactory();
+
+    private final Union5.Factory<Integer, Integer, Integer, Integer, Integer> quintetFactory = TaggedUnions
+            .quintetFactory();
+
+    private final Union6.Factory<Integer, Integer, Integer, Integer, Integer, Integer> sextetFactory = TaggedUnions
+            .sextetFactory();
+
+    private final Union7.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetFactory = TaggedUnions
+            .septetFactory();
+
+    private final Union8.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetFactory = TaggedUnions
+            .octetFactory();
+
+    private final Union9.Factory<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetFactory = TaggedUnions
+            .nonetFactory();
+
+    @Test
+    public void testJoin() throws Exception {
+        Assert.assertEquals(VALID, nulletFactory.first(0).join(VALUE));
+        Assert.assertEquals(VALID, singletFactory.first(0).join(VALUE, () -> INVALID));
+        Assert.assertEquals(VALID, singletFactory.none().join(EMPTY, () -> VALID));
+        Assert.assertEquals(VALID, doubletFactory.first(0).join(VALUE, EMPTY));
+        Assert.assertEquals(VALID, doubletFactory.second(0).join(EMPTY, VALUE));
+        Assert.assertEquals(VALID, tripletFactory.first(0).join(VALUE, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, tripletFactory.second(0).join(EMPTY, VALUE, EMPTY));
+        Assert.assertEquals(VALID, tripletFactory.third(0).join(EMPTY, EMPTY, VALUE));
+        Assert.assertEquals(VALID, quartetFactory.first(0).join(VALUE, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, quartetFactory.second(0).join(EMPTY, VALUE, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, quartetFactory.third(0).join(EMPTY, EMPTY, VALUE, EMPTY));
+        Assert.assertEquals(VALID, quartetFactory.fourth(0).join(EMPTY, EMPTY, EMPTY, VALUE));
+        Assert.assertEquals(VALID, quintetFactory.first(0).join(VALUE, EMPTY, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, quintetFactory.second(0).join(EMPTY, VALUE, EMPTY, EMPTY,
+                EMPTY));
+        Assert.assertEquals(VALID, quintetFactory.third(0).join(EMPTY, EMPTY, VALUE, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, quintetFactory.fourth(0).join(EMPTY, EMPTY, EMPTY, VALUE,
+                EMPTY));
+        Assert.assertEquals(VALID, quintetFactory.fifth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, VALUE));
+        Assert.assertEquals(VALID, sextetFactory.first(0).join(VALUE, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY));
+        Assert.assertEquals(VALID, sextetFactory.second(0).join(EMPTY, VALUE, EMPTY, EMPTY, EMPTY,
+                EMPTY));
+        Assert.assertEquals(VALID, sextetFactory.third(0).join(EMPTY, EMPTY, VALUE, EMPTY, EMPTY,
+                EMPTY));
+        Assert.assertEquals(VALID, sextetFactory.fourth(0).join(EMPTY, EMPTY, EMPTY, VALUE, EMPTY,
+                EMPTY));
+        Assert.assertEquals(VALID, sextetFactory.fifth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, VALUE,
+                EMPTY));
+        Assert.assertEquals(VALID, sextetFactory.sixth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                VALUE));
+        Assert.assertEquals(VALID, septetFactory.first(0).join(VALUE, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY));
+        Assert.assertEquals(VALID, septetFactory.second(0).join(EMPTY, VALUE, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY));
+        Assert.assertEquals(VALID, septetFactory.third(0).join(EMPTY, EMPTY, VALUE, EMPTY, EMPTY,
+                EMPTY, EMPTY));
+        Assert.assertEquals(VALID, septetFactory.fourth(0).join(EMPTY, EMPTY, EMPTY, VALUE, EMPTY,
+                EMPTY, EMPTY));
+        Assert.assertEquals(VALID, septetFactory.fifth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, VALUE,
+                EMPTY, EMPTY));
+        Assert.assertEquals(VALID, septetFactory.sixth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                VALUE, EMPTY));
+        Assert.assertEquals(VALID, septetFactory.seventh(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, VALUE));
+        Assert.assertEquals(VALID, octetFactory.first(0).join(VALUE, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.second(0).join(EMPTY, VALUE, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.third(0).join(EMPTY, EMPTY, VALUE, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.fourth(0).join(EMPTY, EMPTY, EMPTY, VALUE, EMPTY,
+                EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.fifth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, VALUE,
+                EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.sixth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                VALUE, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.seventh(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, VALUE, EMPTY));
+        Assert.assertEquals(VALID, octetFactory.eighth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, VALUE));
+        Assert.assertEquals(VALID, nonetFactory.first(0).join(VALUE, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.second(0).join(EMPTY, VALUE, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.third(0).join(EMPTY, EMPTY, VALUE, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.fourth(0).join(EMPTY, EMPTY, EMPTY, VALUE, EMPTY,
+                EMPTY, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.fifth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, VALUE,
+                EMPTY, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.sixth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                VALUE, EMPTY, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.seventh(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, VALUE, EMPTY, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.eighth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, VALUE, EMPTY));
+        Assert.assertEquals(VALID, nonetFactory.ninth(0).join(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
+                EMPTY, EMPTY, EMPTY, VALUE));
+    }
+
+    @Test
+    public void testJoinToPrimitive() throws Exception {
+        Assert.assertEquals(1, nulletFactory.first(0).joinToInt(ONE));
+        Assert.assertEquals(1, singletFactory.first(0).joinToInt(ONE, () -> 0));
+        Assert.assertEquals(1, singletFactory.none().joinToInt(ZERO, () -> 1));
+        Assert.assertEquals(1, doubletFactory.first(0).joinToInt(ONE, ZERO));
+        Assert.assertEquals(1, doubletFactory.second(0).joinToInt(ZERO, ONE));
+        Assert.assertEquals(1, tripletFactory.first(0).joinToInt(ONE, ZERO, ZERO));
+        Assert.assertEquals(1, tripletFactory.second(0).joinToInt(ZERO, ONE, ZERO));
+        Assert.assertEquals(1, tripletFactory.third(0).joinToInt(ZERO, ZERO, ONE));
+        Assert.assertEquals(1, quartetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, quartetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO));
+        Assert.assertEquals(1, quartetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO));
+        Assert.assertEquals(1, quartetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE));
+        Assert.assertEquals(1, quintetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, quintetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, quintetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO));
+        Assert.assertEquals(1, quintetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO));
+        Assert.assertEquals(1, quintetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE));
+        Assert.assertEquals(1, sextetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, sextetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, sextetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, sextetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO));
+        Assert.assertEquals(1, sextetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO));
+        Assert.assertEquals(1, sextetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE));
+        Assert.assertEquals(1, septetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE,
+                ZERO));
+        Assert.assertEquals(1, septetFactory.seventh(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ONE));
+        Assert.assertEquals(1, octetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE,
+                ZERO, ZERO));
+        Assert.assertEquals(1, octetFactory.seventh(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ONE, ZERO));
+        Assert.assertEquals(1, octetFactory.eighth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ONE));
+        Assert.assertEquals(1, nonetFactory.first(0).joinToInt(ONE, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.second(0).joinToInt(ZERO, ONE, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.third(0).joinToInt(ZERO, ZERO, ONE, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.fourth(0).joinToInt(ZERO, ZERO, ZERO, ONE, ZERO, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.fifth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ONE, ZERO,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.sixth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ONE,
+                ZERO, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.seventh(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ONE, ZERO, ZERO));
+        Assert.assertEquals(1, nonetFactory.eighth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ONE, ZERO));
+        Assert.assertEquals(1, nonetFactory.ninth(0).joinToInt(ZERO, ZERO, ZERO, ZERO, ZERO, ZERO,
+                ZERO, ZERO, ONE));
+        Assert.assertEquals(1L, doubletFactory.second(0).joinToLong(value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, doubletFactory.second(0).joinToDouble(value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(doubletFactory.second(0).joinToBoolean(FALSE, TRUE));
+        Assert.assertEquals(1L, tripletFactory.third(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 1L));
+        Assert.assertEquals(1.0, tripletFactory.third(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(tripletFactory.third(0).joinToBoolean(FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, quartetFactory.fourth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, quartetFactory.fourth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(quartetFactory.fourth(0).joinToBoolean(FALSE, FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, quintetFactory.fifth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, quintetFactory.fifth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(quintetFactory.fifth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, sextetFactory.sixth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, sextetFactory.sixth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(sextetFactory.sixth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                TRUE));
+        Assert.assertEquals(1L, septetFactory.seventh(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, septetFactory.seventh(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 1.0), 0);
+        Assert.assertTrue(septetFactory.seventh(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                FALSE, TRUE));
+        Assert.assertEquals(1L, octetFactory.eighth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 1L));
+        Assert.assertEquals(1.0, octetFactory.eighth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(octetFactory.eighth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                FALSE, FALSE, TRUE));
+        Assert.assertEquals(1L, nonetFactory.ninth(0).joinToLong(value -> 0L, value -> 0L,
+                value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 0L, value -> 0L,
+                value -> 1L));
+        Assert.assertEquals(1.0, nonetFactory.ninth(0).joinToDouble(value -> 0.0, value -> 0.0,
+                value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0, value -> 0.0,
+                value -> 1.0), 0);
+        Assert.assertTrue(nonetFactory.ninth(0).joinToBoolean(FALSE, FALSE, FALSE, FALSE, FALSE,
+                FALSE, FALSE, FALSE, TRUE));
+    }
+
+    @Test
+    public void testMatcher() throws Exception {
+        Union0.Matcher<Integer, Integer> nulletMatcher = Union0.Matcher.of(value -> 0);
+        Assert.assertEquals(0, (int)nulletMatcher.apply(nulletFactory.first(0)));
+        Union1.Matcher<Integer, Integer> singletMatcher = Union1.Matcher.of(value -> 0, () -> 1);
+        Assert.assertEquals(0, (int)singletMatcher.apply(singletFactory.first(0)));
+        Assert.assertEquals(1, (int)singletFactory.none().join(singletMatcher));
+        Union2.Matcher<Integer, Integer, Integer> doubletMatcher =
+                Union2.Matcher.of(value -> 0, value -> 1);
+        Assert.assertEquals(0, (int)doubletMatcher.apply(doubletFactory.first(0)));
+        Assert.assertEquals(1, (int)doubletFactory.second(0).join(doubletMatcher));
+        Union3.Matcher<Integer, Integer, Integer, Integer> tripletMatcher =
+                Union3.Matcher.of(value -> 0, value -> 1, value -> 2);
+        Assert.assertEquals(0, (int)tripletMatcher.apply(tripletFactory.first(0)));
+        Assert.assertEquals(1, (int)tripletFactory.second(0).join(tripletMatcher));
+        Assert.assertEquals(2, (int)tripletMatcher.apply(tripletFactory.third(0)));
+        Union4.Matcher<Integer, Integer, Integer, Integer, Integer> quartetMatcher =
+                Union4.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3);
+        Assert.assertEquals(0, (int)quartetMatcher.apply(quartetFactory.first(0)));
+        Assert.assertEquals(1, (int)quartetFactory.second(0).join(quartetMatcher));
+        Assert.assertEquals(2, (int)quartetMatcher.apply(quartetFactory.third(0)));
+        Assert.assertEquals(3, (int)quartetFactory.fourth(0).join(quartetMatcher));
+        Union5.Matcher<Integer, Integer, Integer, Integer, Integer, Integer> quintetMatcher =
+                Union5.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4);
+        Assert.assertEquals(0, (int)quintetMatcher.apply(quintetFactory.first(0)));
+        Assert.assertEquals(1, (int)quintetFactory.second(0).join(quintetMatcher));
+        Assert.assertEquals(2, (int)quintetMatcher.apply(quintetFactory.third(0)));
+        Assert.assertEquals(3, (int)quintetFactory.fourth(0).join(quintetMatcher));
+        Assert.assertEquals(4, (int)quintetMatcher.apply(quintetFactory.fifth(0)));
+        Union6.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer> sextetMatcher =
+                Union6.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5);
+        Assert.assertEquals(0, (int)sextetMatcher.apply(sextetFactory.first(0)));
+        Assert.assertEquals(1, (int)sextetFactory.second(0).join(sextetMatcher));
+        Assert.assertEquals(2, (int)sextetMatcher.apply(sextetFactory.third(0)));
+        Assert.assertEquals(3, (int)sextetFactory.fourth(0).join(sextetMatcher));
+        Assert.assertEquals(4, (int)sextetMatcher.apply(sextetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)sextetFactory.sixth(0).join(sextetMatcher));
+        Union7.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> septetMatcher =
+                Union7.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5, value -> 6);
+        Assert.assertEquals(0, (int)septetMatcher.apply(septetFactory.first(0)));
+        Assert.assertEquals(1, (int)septetFactory.second(0).join(septetMatcher));
+        Assert.assertEquals(2, (int)septetMatcher.apply(septetFactory.third(0)));
+        Assert.assertEquals(3, (int)septetFactory.fourth(0).join(septetMatcher));
+        Assert.assertEquals(4, (int)septetMatcher.apply(septetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)septetFactory.sixth(0).join(septetMatcher));
+        Assert.assertEquals(6, (int)septetMatcher.apply(septetFactory.seventh(0)));
+        Union8.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> octetMatcher =
+                Union8.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5, value -> 6, value -> 7);
+        Assert.assertEquals(0, (int)octetMatcher.apply(octetFactory.first(0)));
+        Assert.assertEquals(1, (int)octetFactory.second(0).join(octetMatcher));
+        Assert.assertEquals(2, (int)octetMatcher.apply(octetFactory.third(0)));
+        Assert.assertEquals(3, (int)octetFactory.fourth(0).join(octetMatcher));
+        Assert.assertEquals(4, (int)octetMatcher.apply(octetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)octetFactory.sixth(0).join(octetMatcher));
+        Assert.assertEquals(6, (int)octetMatcher.apply(octetFactory.seventh(0)));
+        Assert.assertEquals(7, (int)octetFactory.eighth(0).join(octetMatcher));
+        Union9.Matcher<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> nonetMatcher =
+                Union9.Matcher.of(value -> 0, value -> 1, value -> 2, value -> 3, value -> 4,
+                        value -> 5, value -> 6, value -> 7, value -> 8);
+        Assert.assertEquals(0, (int)nonetMatcher.apply(nonetFactory.first(0)));
+        Assert.assertEquals(1, (int)nonetFactory.second(0).join(nonetMatcher));
+        Assert.assertEquals(2, (int)nonetMatcher.apply(nonetFactory.third(0)));
+        Assert.assertEquals(3, (int)nonetFactory.fourth(0).join(nonetMatcher));
+        Assert.assertEquals(4, (int)nonetMatcher.apply(nonetFactory.fifth(0)));
+        Assert.assertEquals(5, (int)nonetFactory.sixth(0).join(nonetMatcher));
+        Assert.assertEquals(6, (int)nonetMatcher.apply(nonetFactory.seventh(0)));
+        Assert.assertEquals(7, (int)nonetFactory.eighth(0).join(nonetMatcher));
+        Assert.assertEquals(8, (int)nonetMatcher.apply(nonetFactory.ninth(0)));
+    }
+
+    @Test
+    public void testContext() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        Assert.assertEquals(VALID, nulletFactory.first(0).join(VALID, CONTEXT));
+        nulletFactory.first(0).continued(builder, APPEND);
+        Assert.assertEquals(VALID, singletFactory.first(0).join(VALID, CONTEXT,
+                context -> INVALID));
+        Assert.assertEquals(VALID, singletFactory.none().join(VALID, IGNORE, context -> context));
+        singletFactory.none().continued(builder, FAIL, target -> target.append(1));
+        Assert.assertEquals(VALID, doubletFactory.first(0).join(VALID, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, doubletFactory.second(0).join(VALID, IGNORE, CONTEXT));
+        doubletFactory.second(2).continued(builder, FAIL, APPEND);
+        Assert.assertEquals(VALID, tripletFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, tripletFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, tripletFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT));
+        tripletFactory.third(3).continued(builder, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, quartetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE));
+        Assert.assertEquals(VALID, quartetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE));
+        Assert.assertEquals(VALID, quartetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE));
+        Assert.assertEquals(VALID, quartetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT));
+        quartetFactory.fourth(4).continued(builder, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, quintetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, quintetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT));
+        quintetFactory.fifth(5).continued(builder, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, sextetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, sextetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, CONTEXT));
+        sextetFactory.sixth(6).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, septetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, septetFactory.seventh(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, CONTEXT));
+        septetFactory.seventh(7).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, octetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.seventh(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, octetFactory.eighth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, CONTEXT));
+        octetFactory.eighth(8).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, APPEND);
+        Assert.assertEquals(VALID, nonetFactory.first(0).join(VALID, CONTEXT, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.second(0).join(VALID, IGNORE, CONTEXT, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.third(0).join(VALID, IGNORE, IGNORE, CONTEXT,
+                IGNORE, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.fourth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.fifth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                CONTEXT, IGNORE, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.sixth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                IGNORE, CONTEXT, IGNORE, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.seventh(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, CONTEXT, IGNORE, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.eighth(0).join(VALID, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, CONTEXT, IGNORE));
+        Assert.assertEquals(VALID, nonetFactory.ninth(0).join(VALID, IGNORE, IGNORE, IGNORE, IGNORE,
+                IGNORE, IGNORE, IGNORE, IGNORE, CONTEXT));
+        nonetFactory.ninth(9).continued(builder, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL, FAIL,
+                APPEND);
+        Assert.assertEquals("0123456789", builder.toString());
+    }
+
+    @Test
+    public void testTag() throws Exception {
+        Assert.assertEquals(0, Tagged.tagOf(nulletFactory.first(0)));
+        Assert.assertEquals(0, Tagged.tagOf(singletFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)singletFactory.none()).tag());
+        Assert.assertEquals(0, Tagged.tagOf(doubletFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)doubletFactory.second(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(tripletFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)tripletFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(tripletFactory.third(0)));
+        Assert.assertEquals(0, Tagged.tagOf(quartetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)quartetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(quartetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)quartetFactory.fourth(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(quintetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)quintetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(quintetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)quintetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(quintetFactory.fifth(0)));
+        Assert.assertEquals(0, Tagged.tagOf(sextetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)sextetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(sextetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)sextetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(sextetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)sextetFactory.sixth(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(septetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)septetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(septetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)septetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(septetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)septetFactory.sixth(0)).tag());
+        Assert.assertEquals(6, Tagged.tagOf(septetFactory.seventh(0)));
+        Assert.assertEquals(0, Tagged.tagOf(octetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)octetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(octetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)octetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(octetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)octetFactory.sixth(0)).tag());
+        Assert.assertEquals(6, Tagged.tagOf(octetFactory.seventh(0)));
+        Assert.assertEquals(7, ((Tagged)octetFactory.eighth(0)).tag());
+        Assert.assertEquals(0, Tagged.tagOf(nonetFactory.first(0)));
+        Assert.assertEquals(1, ((Tagged)nonetFactory.second(0)).tag());
+        Assert.assertEquals(2, Tagged.tagOf(nonetFactory.third(0)));
+        Assert.assertEquals(3, ((Tagged)nonetFactory.fourth(0)).tag());
+        Assert.assertEquals(4, Tagged.tagOf(nonetFactory.fifth(0)));
+        Assert.assertEquals(5, ((Tagged)nonetFactory.sixth(0)).tag());
+        Assert.assertEquals(6, Tagged.tagOf(nonetFactory.seventh(0)));
+        Assert.assertEquals(7, ((Tagged)nonetFactory.eighth(0)).tag());
+        Assert.assertEquals(8, Tagged.tagOf(nonetFactory.ninth(0)));
+    }
+
+    @Test
+    public void testContinued() throws Exception {
+        nulletFactory.first(0).continued(SUCCESS);
+        singletFactory.first(0).continued(SUCCESS, () -> {
+            throw new IllegalStateException();
+        });
+        singletFactory.none().continued(ERROR, () -> {
+        });
+        doubletFactory.first(0).continued(SUCCESS, ERROR);
+        doubletFactory.second(0).continued(ERROR, SUCCESS);
+        tripletFactory.first(0).continued(SUCCESS, ERROR, ERROR);
+        tripletFactory.second(0).continued(ERROR, SUCCESS, ERROR);
+        tripletFactory.third(0).continued(ERROR, ERROR, SUCCESS);
+        quartetFactory.first(0).continued(SUCCESS, ERROR, ERROR, ERROR);
+        quartetFactory.second(0).continued(ERROR, SUCCESS, ERROR, ERROR);
+        quartetFactory.third(0).continued(ERROR, ERROR, SUCCESS, ERROR);
+        quartetFactory.fourth(0).continued(ERROR, ERROR, ERROR, SUCCESS);
+        quintetFactory.first(0).continued(SUCCESS, ERROR, ERROR, ERROR, ERROR);
+        quintetFactory.second(0).continued(ERROR, SUCCESS, ERROR, ERROR, ERROR);
+        quintetFactory.third(0).continued(ERROR, ERROR, SUCCESS, ERROR, ERROR);
+        quintetFactory.fourth(0).continued(ERROR, ERROR, ERROR, SUCCESS, ERROR);
+        quintetFactory.fifth(0).continued(ERROR, ERROR, ERROR, ERROR, SUCCESS);
+        sextetFactory.first(0).continued(SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR);
+        sextetFactory.second(0).continued(ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR);
+        sextetFactory.third(0).continued(ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR);
+        sextetFactory.fourth(0).continued(ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR);
+        sextetFactory.fifth(0).continued(ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR);
+        sextetFactory.sixth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS);
+        septetFactory.first(0).continued(SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR);
+        septetFactory.second(0).continued(ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR);
+        septetFactory.third(0).continued(ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR);
+        septetFactory.fourth(0).continued(ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR);
+        septetFactory.fifth(0).continued(ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR);
+        septetFactory.sixth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR);
+        septetFactory.seventh(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS);
+        octetFactory.first(0).continued(SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR);
+        octetFactory.second(0).continued(ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR);
+        octetFactory.third(0).continued(ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR);
+        octetFactory.fourth(0).continued(ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR);
+        octetFactory.fifth(0).continued(ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR);
+        octetFactory.sixth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR);
+        octetFactory.seventh(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR);
+        octetFactory.eighth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS);
+        nonetFactory.first(0).continued(SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR,
+                ERROR);
+        nonetFactory.second(0).continued(ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR,
+                ERROR);
+        nonetFactory.third(0).continued(ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR, ERROR,
+                ERROR);
+        nonetFactory.fourth(0).continued(ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR, ERROR,
+                ERROR);
+        nonetFactory.fifth(0).continued(ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR, ERROR,
+                ERROR);
+        nonetFactory.sixth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR, ERROR,
+                ERROR);
+        nonetFactory.seventh(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS, ERROR,
+                ERROR);
+        nonetFactory.eighth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, SUCCESS,
+                ERROR);
+        nonetFactory.ninth(0).continued(ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR, ERROR,
+                SUCCESS);
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        Assert.assertEquals(doubletFactory.first(0), doubletFactory.first(0));
+        Assert.assertNotEquals(doubletFactory.first(0), doubletFactory.second(0));
+        Assert.assertEquals(tripletFactory.first(0), tripletFactory.first(0));
+        Assert.assertNotEquals(tripletFactory.first(0), tripletFactory.second(0));
+        Assert.assertEquals(quartetFactory.first(0), quartetFactory.first(0));
+        Assert.assertNotEquals(quartetFactory.first(0), quartetFactory.second(0));
+        Assert.assertEquals(quintetFactory.first(0), quintetFactory.first(0));
+        Assert.assertNotEquals(quintetFactory.first(0), quintetFactory.second(0));
+        Assert.assertEquals(sextetFactory.first(0), sextetFactory.first(0));
+        Assert.assertNotEquals(sextetFactory.first(0), sextetFactory.second(0));
+        Assert.assertEquals(septetFactory.first(0), septetFactory.first(0));
+        Assert.assertNotEquals(septetFactory.first(0), septetFactory.second(0));
+        Assert.assertEquals(octetFactory.first(0), octetFactory.first(0));
+        Assert.assertNotEquals(octetFactory.first(0), octetFactory.second(0));
+        Assert.assertEquals(nonetFactory.first(0), nonetFactory.first(0));
+        Assert.assertNotEquals(nonetFactory.first(0), nonetFactory.second(0));
+        Assert.assertSame(singletFactory.none(), singletFactory.none());
+        Assert.assertNotEquals(singletFactory.first(0), singletFactory.none());
+    }
+
+    @Test
+    public void testHashCode() throws Exception {
+        Assert.assertNotEquals(singletFactory.first(null).hashCode(),
+                singletFactory.none().hashCode());
+        Assert.assertEquals(doubletFactory.first(0).hashCode(), doubletFactory.first(0).hashCode());
+        Assert.assertNotEquals(doubletFactory.first(0).hashCode(),
+                doubletFactory.second(0).hashCode());
+        Assert.assertEquals(tripletFactory.first(0).hashCode(), tripletFactory.first(0).hashCode());
+        Assert.assertNotEquals(tripletFactory.first(0).hashCode(),
+                tripletFactory.second(0).hashCode());
+        Assert.assertNotEquals(tripletFactory.first(0).hashCode(),
+                tripletFactory.third(0).hashCode());
+        Assert.assertEquals(quartetFactory.first(0).hashCode(), quartetFactory.first(0).hashCode());
+        Assert.assertNotEquals(quartetFactory.first(0).hashCode(),
+                quartetFactory.second(0).hashCode());
+        Assert.assertNotEquals(quartetFactory.first(0).hashCode(),
+                quartetFactory.third(0).hashCode());
+        Assert.assertNotEquals(quartetFactory.first(0).hashCode(),
+                quartetFactory.fourth(0).hashCode());
+        Assert.assertEquals(quintetFactory.first(0).hashCode(), quintetFactory.first(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.second(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.third(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(quintetFactory.first(0).hashCode(),
+                quintetFactory.fifth(0).hashCode());
+        Assert.assertEquals(sextetFactory.first(0).hashCode(), sextetFactory.first(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.second(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.third(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(sextetFactory.first(0).hashCode(),
+                sextetFactory.sixth(0).hashCode());
+        Assert.assertEquals(septetFactory.first(0).hashCode(), septetFactory.first(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.second(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.third(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.sixth(0).hashCode());
+        Assert.assertNotEquals(septetFactory.first(0).hashCode(),
+                septetFactory.seventh(0).hashCode());
+        Assert.assertEquals(octetFactory.first(0).hashCode(), octetFactory.first(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.second(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.third(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.sixth(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(),
+                octetFactory.seventh(0).hashCode());
+        Assert.assertNotEquals(octetFactory.first(0).hashCode(), octetFactory.eighth(0).hashCode());
+        Assert.assertEquals(nonetFactory.first(0).hashCode(), nonetFactory.first(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.second(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.third(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.fourth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.fifth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.sixth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(),
+                nonetFactory.seventh(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.eighth(0).hashCode());
+        Assert.assertNotEquals(nonetFactory.first(0).hashCode(), nonetFactory.ninth(0).hashCode());
+        Assert.assertNotEquals(doubletFactory.first(0).hashCode(),
+                tripletFactory.first(0).hashCode());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) pakoito 2016
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.pacoworks.sealedunions.log;
+
+import com.pacoworks.sealedunions.Union2;
+import com.pacoworks.sealedunions.codec.Codecs;
+import com.pacoworks.sealedunions.codec.Union2Codec;
+import com.pacoworks.sealedunions.generic.GenericUnions;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class UnionLogTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Union2.Factory<Integer, String> factory = GenericUnions.doubletFactory();
+
+    private final Union2Codec<Integer, String> codec = new Union2Codec<>(factory, Codecs.ints(),
+            Codecs.strings());
+
+    @Test
+    public void testReplay() throws Exception {
+        final Path path = folder.newFile().toPath();
+        final List<Union2<Integer, String>> replayed = new ArrayList<>();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            Assert.assertEquals(0, log.append(factory.first(1)));
+            Assert.assertEquals(13, log.append(factory.second("two")));
+            Assert.assertEquals(26, log.size());
+            Assert.assertEquals(26, log.replay(replayed::add));
+        }
+        Assert.assertEquals(2, replayed.size());
+        Assert.assertEquals(factory.first(1), replayed.get(0));
+        Assert.assertEquals(factory.second("two"), replayed.get(1));
+    }
+
+    @Test
+    public void testReplayFrom() throws Exception {
+        final List<String> replayed = new ArrayList<>();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(folder.newFile().toPath(),
+                codec)) {
+            log.append(factory.first(1));
+            final int position = log.replay(union -> union.continued(
+                    value -> replayed.add("int " + value), value -> replayed.add(value)));
+            log.append(factory.second("a"));
+            log.append(factory.first(2));
+            Assert.assertEquals(log.size(), log.replay(position, union -> union.continued(
+                    value -> replayed.add("int " + value), value -> replayed.add(value))));
+        }
+        Assert.assertEquals(3, replayed.size());
+        Assert.assertEquals("int 1", replayed.get(0));
+        Assert.assertEquals("a", replayed.get(1));
+        Assert.assertEquals("int 2", replayed.get(2));
+    }
+
+    @Test
+    public void testReopen() throws Exception {
+        final Path path = folder.newFile().toPath();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec, 1)) {
+            for (int index = 0; index < 100; index++) {
+                log.append(factory.first(index));
+            }
+        }
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            Assert.assertEquals(1300, log.size());
+            log.append(factory.second("last"));
+            final List<Union2<Integer, String>> replayed = new ArrayList<>();
+            log.replay(replayed::add);
+            Assert.assertEquals(101, replayed.size());
+            Assert.assertEquals(factory.first(99), replayed.get(99));
+            Assert.assertEquals(factory.second("last"), replayed.get(100));
+        }
+    }
+
+    @Test
+    public void testRecoverPartialRecord() throws Exception {
+        final Path path = folder.newFile().toPath();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            log.append(factory.first(1));
+            log.append(factory.second("a long value that will be cut short"));
+        }
+        // Clears the length of the second record, as if the process died while writing it
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(13);
+            file.writeInt(0);
+        }
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            Assert.assertEquals(13, log.size());
+            log.append(factory.second("b"));
+        }
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            final List<Union2<Integer, String>> replayed = new ArrayList<>();
+            log.replay(replayed::add);
+            Assert.assertEquals(2, replayed.size());
+            Assert.assertEquals(factory.second("b"), replayed.get(1));
+        }
+    }
+
+    @Test
+    public void testRecoverCorruptRecord() throws Exception {
+        final Path path = folder.newFile().toPath();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            log.append(factory.first(1));
+            log.append(factory.second("abc"));
+            log.append(factory.first(3));
+        }
+        // Changes a byte of the value in the second record, leaving its length intact
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(24);
+            file.write('x');
+        }
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            Assert.assertEquals(13, log.size());
+            final List<Union2<Integer, String>> replayed = new ArrayList<>();
+            log.replay(replayed::add);
+            Assert.assertEquals(1, replayed.size());
+            Assert.assertEquals(factory.first(1), replayed.get(0));
+        }
+    }
+
+    @Test
+    public void testGrow() throws Exception {
+        final Path path = folder.newFile().toPath();
+        final StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < 1000; index++) {
+            builder.append("0123456789");
+        }
+        final String value = builder.toString();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(path, codec)) {
+            for (int index = 0; index < 300; index++) {
+                log.append(factory.second(value));
+            }
+            final int[] count = new int[1];
+            log.replay(union -> {
+                Assert.assertEquals(factory.second(value), union);
+                count[0]++;
+            });
+            Assert.assertEquals(300, count[0]);
+        }
+        Assert.assertEquals(4 << 20, path.toFile().length());
+    }
+
+    @Test
+    public void testConcurrentReplay() throws Exception {
+        final int records = 100000;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(folder.newFile().toPath(),
+                codec)) {
+            final Thread reader = new Thread(() -> {
+                try {
+                    final int[] next = new int[1];
+                    int position = 0;
+                    while (next[0] < records) {
+                        position = log.replay(position, union -> {
+                            Assert.assertEquals(factory.first(next[0]), union);
+                            next[0]++;
+                        });
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            reader.start();
+            for (int index = 0; index < records; index++) {
+                log.append(factory.first(index));
+            }
+            reader.join(10000);
+            Assert.assertFalse(reader.isAlive());
+        }
+        Assert.assertNull(failure.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPosition() throws Exception {
+        try (UnionLog<Union2<Integer, String>> log = UnionLog.open(folder.newFile().toPath(),
+                codec)) {
+            log.replay(1, union -> {
+            });
+        }
+    }
+}